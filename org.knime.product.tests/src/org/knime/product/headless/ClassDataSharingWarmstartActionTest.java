@@ -0,0 +1,126 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.product.headless;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests the launcher ini handling of {@link ClassDataSharingWarmstartAction}.
+ */
+class ClassDataSharingWarmstartActionTest {
+
+    private static final Path ARCHIVE = Paths.get("/opt/knime/knime-dynamic.jsa");
+
+    @TempDir
+    Path m_tempDir;
+
+    @Test
+    void testArchiveIsAppendedToVmArgs() {
+        final var updated = ClassDataSharingWarmstartAction
+            .updateLauncherIni(List.of("-startup", "plugins/launcher.jar", "-vmargs", "-Xmx2048m"), ARCHIVE);
+        assertEquals(List.of("-startup", "plugins/launcher.jar", "-vmargs", "-Xmx2048m",
+            ClassDataSharingWarmstartAction.SHARED_ARCHIVE_VM_ARG + ARCHIVE), updated);
+    }
+
+    @Test
+    void testPreviousArchiveIsReplaced() {
+        final var updated = ClassDataSharingWarmstartAction.updateLauncherIni(
+            List.of("-vmargs", "-XX:SharedArchiveFile=/old/archive.jsa", "-Xmx2048m"), ARCHIVE);
+        assertEquals(
+            List.of("-vmargs", "-Xmx2048m", ClassDataSharingWarmstartAction.SHARED_ARCHIVE_VM_ARG + ARCHIVE),
+            updated);
+    }
+
+    @Test
+    void testVmArgsSectionIsCreated() {
+        final var updated = ClassDataSharingWarmstartAction.updateLauncherIni(List.of("-nosplash"), ARCHIVE);
+        assertEquals(
+            List.of("-nosplash", "-vmargs", ClassDataSharingWarmstartAction.SHARED_ARCHIVE_VM_ARG + ARCHIVE),
+            updated);
+    }
+
+    @Test
+    void testLauncherIniIsFoundOnMacOS() throws IOException {
+        final Path contents = Files.createDirectories(m_tempDir.resolve("KNIME.app/Contents"));
+        final Path eclipse = Files.createDirectories(contents.resolve("Eclipse"));
+        final Path ini = Files.createFile(eclipse.resolve("knime.ini"));
+        Files.createDirectories(contents.resolve("MacOS"));
+        assertEquals(Optional.of(ini), ClassDataSharingWarmstartAction.getLauncherIni(eclipse,
+            contents.resolve("MacOS/knime").toString()));
+        assertEquals(Optional.empty(), ClassDataSharingWarmstartAction.getLauncherIni(m_tempDir, null),
+            "Missing ini must not be guessed");
+    }
+
+    @Test
+    void testLauncherIniIsReplacedWithBackup() throws IOException {
+        final Path ini = m_tempDir.resolve("knime.ini");
+        Files.write(ini, List.of("-vmargs", "-Xmx2048m"), StandardCharsets.UTF_8);
+        ClassDataSharingWarmstartAction.writeLauncherIni(ini, ARCHIVE);
+
+        assertEquals(List.of("-vmargs", "-Xmx2048m", ClassDataSharingWarmstartAction.SHARED_ARCHIVE_VM_ARG + ARCHIVE),
+            Files.readAllLines(ini, StandardCharsets.UTF_8));
+        assertEquals(List.of("-vmargs", "-Xmx2048m"),
+            Files.readAllLines(m_tempDir.resolve("knime.ini.bak"), StandardCharsets.UTF_8));
+        try (var files = Files.list(m_tempDir)) {
+            assertTrue(files.noneMatch(f -> f.toString().endsWith(".tmp")), "Temporary file must be removed");
+        }
+    }
+}
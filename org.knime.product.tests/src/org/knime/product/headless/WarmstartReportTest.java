@@ -0,0 +1,124 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.product.headless;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.knime.product.headless.WarmstartActionRegistry.WarmstartActionOutcome;
+import org.knime.product.headless.WarmstartActionRegistry.WarmstartActionResult;
+import org.knime.product.headless.WarmstartActionRegistry.WarmstartExecutionSummary;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Tests the JSON serialization of warmstart results in {@link WarmstartReport}.
+ */
+class WarmstartReportTest {
+
+    private static final Instant START = Instant.parse("2026-01-01T10:00:00Z");
+
+    private static WarmstartActionResult result(final String id, final long millis,
+        final WarmstartActionOutcome outcome, final String exceptionClass) {
+        return new WarmstartActionResult(id, id + " name", 100, START, START.plusMillis(millis), outcome,
+            "msg " + id, exceptionClass);
+    }
+
+    @Test
+    void testJsonLineContainsAllFields() throws IOException {
+        final var line = WarmstartReport.toJsonLine(
+            result("a", 1234, WarmstartActionOutcome.EXCEPTION, IllegalStateException.class.getName()));
+        assertFalse(line.contains("\n"), "JSON line must not contain line breaks");
+
+        final JsonNode node = new ObjectMapper().readTree(line);
+        assertEquals("a", node.get("id").asText());
+        assertEquals("a name", node.get("name").asText());
+        assertEquals(100, node.get("priority").asInt());
+        assertEquals(START.toString(), node.get("start").asText());
+        assertEquals(START.plusMillis(1234).toString(), node.get("end").asText());
+        assertEquals(1234, node.get("durationMillis").asLong());
+        assertEquals("EXCEPTION", node.get("outcome").asText());
+        assertEquals("msg a", node.get("message").asText());
+        assertEquals(IllegalStateException.class.getName(), node.get("exceptionClass").asText());
+    }
+
+    @Test
+    void testWriteReport(@TempDir final Path tempDir) throws IOException {
+        final var summary = new WarmstartExecutionSummary(3, 2, 1, 1,
+            List.of(result("a", 10, WarmstartActionOutcome.SUCCESS, null),
+                result("b", 20, WarmstartActionOutcome.FAILURE, null),
+                result("c", 0, WarmstartActionOutcome.SKIPPED, null)));
+        final Path reportFile = tempDir.resolve("sub").resolve("report.json");
+
+        WarmstartReport.write(summary, reportFile);
+
+        assertTrue(Files.isRegularFile(reportFile), "Report file should have been created");
+        try (var files = Files.list(reportFile.getParent())) {
+            assertEquals(1, files.count(), "No temporary files should be left behind");
+        }
+        final JsonNode root = new ObjectMapper().readTree(reportFile.toFile());
+        assertEquals(WarmstartReport.FORMAT_VERSION, root.get("formatVersion").asInt());
+        assertEquals(3, root.get("totalActions").asInt());
+        assertEquals(1, root.get("skippedActions").asInt());
+        assertEquals(30, root.get("totalDurationMillis").asLong());
+        assertEquals(3, root.get("actions").size());
+        assertEquals("FAILURE", root.get("actions").get(1).get("outcome").asText());
+        assertTrue(root.get("actions").get(0).get("exceptionClass").isNull());
+    }
+}
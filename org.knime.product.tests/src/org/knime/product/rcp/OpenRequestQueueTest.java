@@ -0,0 +1,109 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.product.rcp;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.knime.product.rcp.OpenRequestQueue.Batch;
+
+/**
+ * Tests for {@link OpenRequestQueue}.
+ */
+class OpenRequestQueueTest {
+
+    @TempDir
+    Path m_tempDir;
+
+    @Test
+    void testBurstIsOpenedAsOneBatch() throws Exception {
+        final BlockingQueue<Batch> opened = new LinkedBlockingQueue<>();
+        final var queue = new OpenRequestQueue(opened::add, Duration.ofMillis(50));
+
+        final List<File> workflows = new ArrayList<>();
+        for (var i = 0; i < 50; i++) {
+            workflows.add(Files.createFile(m_tempDir.resolve("flow" + i + ".knwf")).toFile());
+        }
+        final Path urlFile = m_tempDir.resolve("link.knimeURL");
+        Files.writeString(urlFile, "knime://LOCAL/linked");
+
+        // events received during startup are held back until the queue is started
+        workflows.forEach(f -> queue.addFile(f.getPath()));
+        queue.addFile(workflows.get(0).getPath());
+        queue.addFile(urlFile.toString());
+        queue.addFile(m_tempDir.resolve("missing.knwf").toString());
+        queue.addUrl("knime://LOCAL/direct");
+        queue.addUrl("https://www.knime.com");
+        assertNull(opened.poll(200, TimeUnit.MILLISECONDS), "Nothing must be opened before the queue is started");
+
+        queue.start(Runnable::run);
+        final Batch batch = opened.poll(5, TimeUnit.SECONDS);
+        assertEquals(List.of("knime://LOCAL/linked", "knime://LOCAL/direct"), batch.urls());
+        assertEquals(workflows, batch.archives(), "Duplicates must be dropped and the order kept");
+        assertFalse(Files.exists(urlFile), "URL file must be deleted after reading");
+        assertNull(opened.poll(200, TimeUnit.MILLISECONDS), "Burst must be opened as a single batch");
+
+        // once opened, the same file can be requested again
+        queue.addFile(workflows.get(0).getPath());
+        assertEquals(List.of(workflows.get(0)), opened.poll(5, TimeUnit.SECONDS).archives());
+    }
+}
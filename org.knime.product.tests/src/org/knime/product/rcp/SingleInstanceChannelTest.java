@@ -0,0 +1,162 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.product.rcp;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.knime.product.rcp.SingleInstanceChannel.Request;
+
+/**
+ * Tests for {@link SingleInstanceChannel}.
+ */
+class SingleInstanceChannelTest {
+
+    @TempDir
+    Path m_tempDir;
+
+    @Test
+    void testForwardToRunningInstance() throws Exception {
+        final Path directory = m_tempDir.resolve("ipc");
+        final Path workspace = Files.createDirectory(m_tempDir.resolve("workspace"));
+        final BlockingQueue<Request> received = new LinkedBlockingQueue<>();
+        final var request = new Request(List.of("/tmp/a b.knwf"), List.of("knime://LOCAL/flow"));
+
+        assertFalse(SingleInstanceChannel.forward(directory, workspace, request), "No instance is running yet");
+        try (var channel = SingleInstanceChannel.listen(directory, workspace, received::add)) {
+            assertTrue(SingleInstanceChannel.forward(directory, workspace, request));
+            assertEquals(request, received.poll(5, TimeUnit.SECONDS));
+
+            // the protocol handler does not know the workspace and picks the most recent instance
+            assertTrue(SingleInstanceChannel.forward(directory, null, request));
+            assertEquals(request, received.poll(5, TimeUnit.SECONDS));
+
+            assertFalse(SingleInstanceChannel.forward(directory, m_tempDir.resolve("other"), request),
+                "Instance on another workspace must not be used");
+        }
+        assertFalse(SingleInstanceChannel.forward(directory, null, request), "Closed channel must not be found");
+    }
+
+    @Test
+    void testDirectoryAccessibleByOthersIsNotUsed() throws Exception {
+        final Path directory = m_tempDir.resolve("ipc");
+        final Path workspace = Files.createDirectory(m_tempDir.resolve("workspace"));
+        final var request = new Request(List.of(), List.of("knime://LOCAL/flow"));
+        try (var channel = SingleInstanceChannel.listen(directory, workspace, r -> {
+        })) {
+            assertTrue(SingleInstanceChannel.isPrivateDirectory(directory));
+            assumeTrue(directory.getFileSystem().supportedFileAttributeViews().contains("posix"));
+
+            Files.setPosixFilePermissions(directory, PosixFilePermissions.fromString("rwxrwxrwx"));
+            assertFalse(SingleInstanceChannel.forward(directory, workspace, request),
+                "Directory writable by others must not be trusted");
+
+            final Path link = Files.createSymbolicLink(m_tempDir.resolve("link"), directory);
+            Files.setPosixFilePermissions(directory, PosixFilePermissions.fromString("rwx------"));
+            assertFalse(SingleInstanceChannel.isPrivateDirectory(link), "Links must not be followed");
+            assertTrue(SingleInstanceChannel.forward(directory, workspace, request));
+        }
+    }
+
+    @Test
+    void testUnresponsiveInstanceTimesOut() throws Exception {
+        final Path directory = m_tempDir.resolve("ipc");
+        final Path workspace = Files.createDirectory(m_tempDir.resolve("workspace"));
+        // an endpoint that accepts connections but never answers
+        try (var channel = SingleInstanceChannel.listen(directory, m_tempDir.resolve("other"), r -> {
+        }); var server = ServerSocketChannel.open()) {
+            server.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+            Files.writeString(directory.resolve(SingleInstanceChannel.endpointName(workspace) + ".port"),
+                ((InetSocketAddress)server.getLocalAddress()).getPort() + " token");
+
+            final long start = System.nanoTime();
+            assertFalse(SingleInstanceChannel.forward(directory, workspace,
+                new Request(List.of(), List.of("knime://LOCAL/flow"))));
+            final var elapsed = Duration.ofNanos(System.nanoTime() - start);
+            assertTrue(elapsed.compareTo(SingleInstanceChannel.TIMEOUT.plusSeconds(5)) < 0,
+                "Forwarding must give up after the timeout, took " + elapsed);
+        }
+    }
+
+    @Test
+    void testRuntimeDirectoryIsPreferred() {
+        assertEquals(m_tempDir.resolve("knime-ipc"), SingleInstanceChannel.getDefaultDirectory(m_tempDir.toString()));
+        assertEquals(SingleInstanceChannel.getDefaultDirectory(null),
+            SingleInstanceChannel.getDefaultDirectory(m_tempDir.resolve("missing").toString()));
+        assertEquals(SingleInstanceChannel.getDefaultDirectory(null), SingleInstanceChannel.getDefaultDirectory(""));
+    }
+
+    @Test
+    void testRequestFromArguments() throws IOException {
+        final Path workflow = Files.createFile(m_tempDir.resolve("flow.KNWF"));
+        final Path other = Files.createFile(m_tempDir.resolve("notes.txt"));
+        final var request = SingleInstanceChannel.Request.fromArguments(new String[]{"-consoleLog", "knime://LOCAL/x",
+            workflow.toString(), other.toString(), m_tempDir.resolve("missing.knar").toString()});
+        assertEquals(List.of(workflow.toString()), request.files());
+        assertEquals(List.of("knime://LOCAL/x"), request.urls());
+        assertTrue(SingleInstanceChannel.Request.fromArguments(new String[]{"-consoleLog"}).isEmpty());
+    }
+}
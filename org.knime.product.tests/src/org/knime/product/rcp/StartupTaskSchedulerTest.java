@@ -0,0 +1,143 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.product.rcp;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.knime.product.rcp.StartupTaskScheduler.Stage;
+
+/**
+ * Tests for {@link StartupTaskScheduler}.
+ */
+class StartupTaskSchedulerTest {
+
+    @Test
+    void testDependenciesAndDeferral() {
+        final List<String> order = new CopyOnWriteArrayList<>();
+        final var scheduler = new StartupTaskScheduler() //
+            .add("a", Stage.BEFORE_WORKBENCH, () -> order.add("a")) //
+            .add("b", Stage.BEFORE_WORKBENCH, () -> order.add("b"), "a") //
+            .add("c", Stage.DEFERRED, () -> order.add("c"), "b");
+
+        scheduler.runBeforeWorkbench();
+        assertEquals(List.of("a", "b"), order, "Deferred task must not run before the workbench");
+
+        scheduler.awaitDeferred();
+        assertEquals(List.of("a", "b", "c"), order);
+        assertEquals(List.of("a", "b", "c"), List.copyOf(scheduler.getTimings().keySet()));
+    }
+
+    @Test
+    void testIndependentTasksRunConcurrently() throws InterruptedException {
+        final var bothRunning = new CountDownLatch(2);
+        final Runnable task = () -> {
+            bothRunning.countDown();
+            try {
+                bothRunning.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        };
+        new StartupTaskScheduler() //
+            .add("x", Stage.BEFORE_WORKBENCH, task) //
+            .add("y", Stage.BEFORE_WORKBENCH, task) //
+            .runBeforeWorkbench();
+        assertTrue(bothRunning.await(0, TimeUnit.SECONDS), "Independent tasks were not executed concurrently");
+    }
+
+    @Test
+    void testFailingDependencyDoesNotBlockDependents() {
+        final List<String> order = new CopyOnWriteArrayList<>();
+        final var scheduler = new StartupTaskScheduler() //
+            .add("fail", Stage.BEFORE_WORKBENCH, () -> {
+                throw new IllegalStateException("expected");
+            }) //
+            .add("after", Stage.BEFORE_WORKBENCH, () -> order.add("after"), "fail");
+        scheduler.runBeforeWorkbench();
+        assertEquals(List.of("after"), order);
+        assertTrue(scheduler.getTimings().containsKey("fail"), "Failed task must be reported");
+    }
+
+    @Test
+    void testWhenDone() {
+        final var scheduler = new StartupTaskScheduler() //
+            .add("fail", Stage.DEFERRED, () -> {
+                throw new IllegalStateException("expected");
+            });
+        final var done = scheduler.whenDone("fail");
+        assertFalse(done.isDone(), "Deferred task must not be done before the deferred stage is started");
+        scheduler.awaitDeferred();
+        assertTrue(done.isDone() && !done.isCompletedExceptionally(), "Failed task must still be reported as done");
+        assertThrows(IllegalArgumentException.class, () -> scheduler.whenDone("doesNotExist"));
+    }
+
+    @Test
+    void testInvalidDependencies() {
+        final var scheduler = new StartupTaskScheduler().add("deferred", Stage.DEFERRED, () -> {
+        });
+        assertThrows(IllegalArgumentException.class,
+            () -> scheduler.add("unknown", Stage.DEFERRED, () -> {
+            }, "doesNotExist"));
+        assertThrows(IllegalArgumentException.class,
+            () -> scheduler.add("early", Stage.BEFORE_WORKBENCH, () -> {
+            }, "deferred"));
+        assertThrows(IllegalArgumentException.class,
+            () -> scheduler.add("deferred", Stage.DEFERRED, () -> {
+            }));
+    }
+}
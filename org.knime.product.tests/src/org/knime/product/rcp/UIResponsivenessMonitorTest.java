@@ -0,0 +1,119 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.product.rcp;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests for {@link UIResponsivenessMonitor}.
+ */
+class UIResponsivenessMonitorTest {
+
+    @Test
+    void testStallIsSampled(@TempDir final Path dir) throws Exception {
+        final var fakeUiThread = Executors.newSingleThreadExecutor();
+        try {
+            final var monitor = new UIResponsivenessMonitor("Test thread", null, fakeUiThread::execute, 50, 5);
+            monitor.start();
+            // let the first ping arrive so that the monitor knows the thread
+            Thread.sleep(100);
+            fakeUiThread.execute(() -> {
+                try {
+                    Thread.sleep(500);
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+
+            final long deadline = System.currentTimeMillis() + 10_000;
+            while (monitor.getStallCount() == 0 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(50);
+            }
+            assertTrue(monitor.getStallCount() > 0, "Stall was not detected");
+            assertTrue(monitor.getCollapsedStacks().contains("java.lang.Thread.sleep"),
+                "Stalled stack was not sampled: " + monitor.getCollapsedStacks());
+
+            final Path file = dir.resolve("stalls.collapsed");
+            monitor.stop(file);
+            assertEquals(monitor.getCollapsedStacks(), Files.readString(file));
+        } finally {
+            fakeUiThread.shutdownNow();
+            fakeUiThread.awaitTermination(5, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    void testHistogramAndCollapsedStacks() throws IOException {
+        final var monitor = new UIResponsivenessMonitor("Test thread", null, Runnable::run, 500, 10);
+        monitor.recordStall(600);
+        monitor.recordStall(1000);
+        monitor.recordStall(1500);
+        monitor.recordStall(60_000);
+        assertArrayEquals(new long[]{2, 1, 0, 0, 0, 1}, monitor.getHistogram());
+        assertEquals(4, monitor.getStallCount());
+
+        final var leaf = new StackTraceElement("a.Leaf", "work", "Leaf.java", 1);
+        final var root = new StackTraceElement("a.Root", "main", "Root.java", 1);
+        monitor.addSample(new StackTraceElement[]{leaf, root});
+        monitor.addSample(new StackTraceElement[]{leaf, root});
+        monitor.addSample(new StackTraceElement[]{root});
+        assertEquals("a.Root.main 1\na.Root.main;a.Leaf.work 2\n", monitor.getCollapsedStacks());
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.product.rcp.intro;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link PingSpool}.
+ */
+class PingSpoolTest {
+
+    @Test
+    void testFailedPingIsRetriedWithLatestParameters() throws Exception {
+        final List<String> sent = new CopyOnWriteArrayList<>();
+        final var firstSent = new CountDownLatch(1);
+        final var delivered = new CountDownLatch(1);
+        final var spool = new PingSpool<String, String>((ping, attempt) -> {
+            sent.add(ping + "#" + attempt);
+            firstSent.countDown();
+            if (attempt < 2 && !"c".equals(ping)) {
+                return Optional.empty();
+            }
+            delivered.countDown();
+            return Optional.of("ok");
+        }, PingSpool.newExecutor("Test-Ping"), 50, 100, 5);
+
+        final var firstAttempt = spool.record("a");
+        assertTrue(firstSent.await(5, TimeUnit.SECONDS));
+        assertEquals(Optional.empty(), firstAttempt.get(5, TimeUnit.SECONDS), "The first attempt has failed");
+        // recorded while waiting for the retry, replaces the pending ping
+        assertEquals(Optional.empty(), spool.record("b").get(5, TimeUnit.SECONDS));
+
+        assertTrue(delivered.await(5, TimeUnit.SECONDS));
+        Thread.sleep(100);
+        assertEquals(List.of("a#0", "b#1", "b#2"), sent);
+
+        assertEquals(Optional.of("ok"), spool.record("c").get(5, TimeUnit.SECONDS),
+            "A ping recorded after the delivery must be sent again");
+    }
+
+    @Test
+    void testPingIsDroppedAfterMaxAttempts() throws Exception {
+        final List<String> sent = new CopyOnWriteArrayList<>();
+        final var spool = new PingSpool<String, String>((ping, attempt) -> {
+            sent.add(ping);
+            if (attempt == 1) {
+                throw new IllegalStateException("unexpected");
+            }
+            return Optional.empty();
+        }, PingSpool.newExecutor("Test-Ping"), 1, 1, 3);
+
+        spool.record("a").get(5, TimeUnit.SECONDS);
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (sent.size() < 3 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        Thread.sleep(100);
+        assertEquals(3, sent.size(), "The ping must be sent exactly the maximum number of times");
+
+        final var next = spool.record("b");
+        assertFalse(next.get(5, TimeUnit.SECONDS).isPresent());
+        assertEquals("b", sent.get(3), "A new ping must be sent after the previous one has been dropped");
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.product.rcp.intro;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+import org.knime.product.rcp.intro.UpdateAvailability.Updates;
+
+/**
+ * Tests for {@link UpdateAvailability}.
+ */
+class UpdateAvailabilityTest {
+
+    @Test
+    void testConcurrentRequestsShareOneCheck() throws Exception {
+        final var checks = new AtomicInteger();
+        final List<Runnable> pending = new ArrayList<>();
+        final var clock = new AtomicLong();
+        final var availability = new UpdateAvailability(() -> {
+            checks.incrementAndGet();
+            return new Updates(List.of(), List.of("Bugfix " + checks.get()));
+        }, pending::add, Duration.ofMinutes(10), clock::get);
+
+        final var first = availability.getUpdates();
+        final var second = availability.getUpdates();
+        assertSame(first, second, "A running check must be shared");
+        assertEquals(1, pending.size());
+        pending.remove(0).run();
+        assertEquals(List.of("Bugfix 1"), first.get().bugfixes());
+
+        clock.addAndGet(Duration.ofMinutes(9).toNanos());
+        assertTrue(availability.getUpdates().isDone(), "A recent result must be reused");
+        assertTrue(pending.isEmpty());
+
+        clock.addAndGet(Duration.ofMinutes(2).toNanos());
+        final var expired = availability.getUpdates();
+        assertFalse(expired.isDone(), "An expired result must be checked again");
+        pending.remove(0).run();
+        assertEquals(List.of("Bugfix 2"), expired.get().bugfixes());
+        assertEquals(2, checks.get());
+    }
+
+    @Test
+    void testFailuresAreNotCached() throws Exception {
+        final var checks = new AtomicInteger();
+        final List<Runnable> pending = new ArrayList<>();
+        final var availability = new UpdateAvailability(() -> {
+            if (checks.incrementAndGet() == 1) {
+                throw new IOException("offline");
+            }
+            return new Updates(List.of(), List.of());
+        }, pending::add, Duration.ofMinutes(10), System::nanoTime);
+
+        final var failed = availability.getUpdates();
+        pending.remove(0).run();
+        final var ex = assertThrows(ExecutionException.class, failed::get);
+        assertTrue(ex.getCause() instanceof IOException, "The cause must be passed on: " + ex.getCause());
+
+        final var retried = availability.getUpdates();
+        pending.remove(0).run();
+        assertTrue(retried.get().bugfixes().isEmpty());
+
+        availability.invalidate();
+        assertFalse(availability.getUpdates().isDone(), "An invalidated result must be checked again");
+        assertEquals(1, pending.size());
+    }
+}
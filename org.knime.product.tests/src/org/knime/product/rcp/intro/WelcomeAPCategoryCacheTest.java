@@ -0,0 +1,141 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.product.rcp.intro;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.knime.product.rcp.intro.WelcomeAPCategoryCache.Entry;
+import org.knime.product.rcp.intro.json.JSONCategory;
+import org.knime.product.rcp.intro.json.JSONTile;
+
+/**
+ * Tests for {@link WelcomeAPCategoryCache}.
+ */
+class WelcomeAPCategoryCacheTest {
+
+    @Test
+    void testEntryIsPersisted(@TempDir final Path dir) {
+        final var file = dir.resolve("sub").resolve("categories.json");
+        final var variant = WelcomeAPCategoryCache.variant(false, "acme");
+        new WelcomeAPCategoryCache(file, Duration.ofHours(1))
+            .write(new Entry(variant, Instant.now(), "https://example.com", "\"v1\"", null, categories()));
+
+        final var cache = new WelcomeAPCategoryCache(file, Duration.ofHours(1));
+        final var entry = cache.read(variant).orElseThrow();
+        assertTrue(cache.isFresh(entry));
+        assertEquals("https://example.com", entry.endpoint());
+        assertEquals("\"v1\"", entry.etag());
+        assertNull(entry.lastModified());
+        assertEquals(1, entry.categories().length);
+        assertEquals("Learn", entry.categories()[0].getTitle());
+        assertEquals("tile-1", entry.categories()[0].getTiles().get(0).getId());
+
+        assertFalse(cache.read(WelcomeAPCategoryCache.variant(true, "acme")).isPresent(),
+            "Categories of another variant must not be used");
+        cache.clear();
+        assertFalse(cache.read(variant).isPresent());
+    }
+
+    @Test
+    void testExpiredEntryIsOnlyUsedForRevalidation(@TempDir final Path dir) throws IOException {
+        final var file = dir.resolve("categories.json");
+        final var variant = WelcomeAPCategoryCache.variant(true, null);
+        final var cache = new WelcomeAPCategoryCache(file, Duration.ofHours(1));
+        cache.write(new Entry(variant, Instant.now().minus(Duration.ofHours(2)), "https://example.com", null,
+            "Wed, 21 Oct 2026 07:28:00 GMT", categories()));
+
+        final var expired = cache.read(variant).orElseThrow();
+        assertFalse(cache.isFresh(expired), "Expired categories must not be shown");
+        assertEquals("Wed, 21 Oct 2026 07:28:00 GMT", expired.lastModified());
+
+        Files.writeString(file, "{ \"formatVersion\": 1, \"categories\": [ ");
+        assertFalse(cache.read(variant).isPresent(), "A broken cache must be ignored");
+    }
+
+    @Test
+    void testVariantsDoNotEvictEachOther(@TempDir final Path dir) {
+        final var cache = new WelcomeAPCategoryCache(dir.resolve("categories.json"), Duration.ofHours(1));
+        final var classic = WelcomeAPCategoryCache.variant(false, null);
+        final var modern = WelcomeAPCategoryCache.variant(true, null);
+        cache.write(new Entry(classic, Instant.now(), "https://example.com/classic", "\"c\"", null, categories()));
+        cache.write(new Entry(modern, Instant.now(), "https://example.com/modern", "\"m\"", null, categories()));
+
+        assertEquals("https://example.com/classic", cache.read(classic).orElseThrow().endpoint());
+        assertEquals("https://example.com/modern", cache.read(modern).orElseThrow().endpoint());
+
+        cache.write(new Entry(classic, Instant.now(), "https://example.com/classic", "\"c2\"", null, categories()));
+        assertEquals("\"c2\"", cache.read(classic).orElseThrow().etag());
+        assertEquals("\"m\"", cache.read(modern).orElseThrow().etag(), "Other variants must be kept");
+
+        cache.clear();
+        assertFalse(cache.read(modern).isPresent());
+    }
+
+    private static JSONCategory[] categories() {
+        final var tile = new JSONTile();
+        tile.setId("tile-1");
+        final var category = new JSONCategory();
+        category.setId("category-1");
+        category.setTitle("Learn");
+        category.setTiles(List.of(tile));
+        return new JSONCategory[]{category};
+    }
+}
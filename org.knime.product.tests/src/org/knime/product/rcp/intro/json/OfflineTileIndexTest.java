@@ -0,0 +1,127 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.product.rcp.intro.json;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.osgi.framework.FrameworkUtil;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Tests for {@link OfflineTileIndex}.
+ */
+class OfflineTileIndexTest {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private static final Map<String, Map<String, String>> SOURCES = Map.of( //
+        OfflineTileIndex.FIRST, Map.of( //
+            "C2-hub.json", "{ \"tile-title\": \"Hub\" }", //
+            "C1-example.json", "{ \"tile-title\": \"Example\", \"tile-tag\": \"first\" }", //
+            "C10-other.json", "{ \"tile-title\": \"Other\" }"), //
+        OfflineTileIndex.OFFLINE, Map.of("C1-forum.json", "{ \"tile-title\": \"Forum\" }"));
+
+    /**
+     * All tiles shipped with the product must be readable and parseable, bad tiles would silently be left out.
+     */
+    @Test
+    void testBundledTilesAreValid() {
+        final var sources = OfflineTileIndex.collectSources(FrameworkUtil.getBundle(OfflineTileIndex.class));
+        for (var dir : sources.entrySet()) {
+            assertFalse(dir.getValue().isEmpty(), "No tiles found in " + dir.getKey());
+            for (var file : dir.getValue().entrySet()) {
+                assertDoesNotThrow(() -> MAPPER.readValue(file.getValue(), JSONTile.class),
+                    "Tile " + dir.getKey() + "/" + file.getKey() + " cannot be parsed");
+            }
+        }
+    }
+
+    @Test
+    void testPrefixLookup() throws IOException {
+        final var index = OfflineTileIndex.build(MAPPER, SOURCES);
+
+        assertEquals("Example", index.find(OfflineTileIndex.FIRST, "C1").orElseThrow().getTitle());
+        assertEquals("Example", index.find(OfflineTileIndex.FIRST, "C").orElseThrow().getTitle(),
+            "First file by name must win");
+        assertEquals("Other", index.find(OfflineTileIndex.FIRST, "C10").orElseThrow().getTitle());
+        assertEquals("Forum", index.find(OfflineTileIndex.OFFLINE, "C1").orElseThrow().getTitle());
+        assertFalse(index.find(OfflineTileIndex.OFFLINE, "C2").isPresent());
+
+        // callers get copies
+        index.find(OfflineTileIndex.FIRST, "C1").orElseThrow().setTitle("Changed");
+        assertEquals("Example", index.find(OfflineTileIndex.FIRST, "C1").orElseThrow().getTitle());
+    }
+
+    @Test
+    void testTilesAreOrderedByFileName() throws IOException {
+        final var allTiles = OfflineTileIndex.build(MAPPER, SOURCES).getAllTiles(OfflineTileIndex.FIRST);
+        assertTrue(allTiles.indexOf("Example") < allTiles.indexOf("Other") && allTiles.indexOf("Other") < allTiles
+            .indexOf("Hub"), "Tiles must be ordered by file name: " + allTiles);
+        assertEquals("[]", OfflineTileIndex.build(MAPPER, SOURCES).getAllTiles("unknown"));
+    }
+
+    @Test
+    void testBadTilesAreSkipped() throws IOException {
+        final var index = OfflineTileIndex.build(MAPPER, Map.of(OfflineTileIndex.OFFLINE, Map.of( //
+            "C1-broken.json", "{ \"tile-title\": ", //
+            "C2-forum.json", "{ \"tile-title\": \"Forum\" }")));
+
+        assertFalse(index.find(OfflineTileIndex.OFFLINE, "C1").isPresent());
+        assertEquals("Forum", index.find(OfflineTileIndex.OFFLINE, "C").orElseThrow().getTitle());
+        assertFalse(index.getAllTiles(OfflineTileIndex.OFFLINE).contains("broken"));
+    }
+}
@@ -49,8 +49,15 @@
 package org.knime.product.rcp.shutdown;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.eclipse.core.runtime.CoreException;
@@ -131,6 +138,108 @@ public Object createExecutableExtension(final String propertyName) throws CoreEx
         assertThat("Hook should have been executed by PreShutdown API", !shutdown && run.get());
     }
 
+    @Test
+    void testHooksRunInDeclaredOrder() {
+        final List<String> calls = new CopyOnWriteArrayList<>();
+        final var hooks = new LinkedHashMap<IConfigurationElement, PreShutdown>();
+        hooks.put(element("second", "5", null, null), recordingHook("second", calls, true));
+        hooks.put(element("first", "-1", null, null), recordingHook("first", calls, true));
+        hooks.put(element("third", null, null, null), recordingHook("third", calls, true));
+
+        assertTrue(PreShutdown.preShutdown(hooks), "Shutdown should not have been vetoed");
+        assertEquals(List.of("first", "third", "second", "continued:first", "continued:third", "continued:second"),
+            calls, "Hooks should be checked and continued in declared order");
+    }
+
+    @Test
+    void testParallelHookTimeout() {
+        final List<String> calls = new CopyOnWriteArrayList<>();
+        final var slowHook = new PreShutdown() {
+
+            @Override
+            public boolean onPreShutdown() {
+                try {
+                    Thread.sleep(60_000);
+                } catch (InterruptedException e) { // NOSONAR expected, the runner gives up on this hook
+                    calls.add("interrupted");
+                }
+                return false;
+            }
+
+            @Override
+            public void onShutdownContinued() {
+                calls.add("continued:slow");
+            }
+        };
+        final var hooks = new LinkedHashMap<IConfigurationElement, PreShutdown>();
+        hooks.put(element("slow", null, "true", "100"), slowHook);
+        hooks.put(element("fast", null, null, null), recordingHook("fast", calls, true));
+
+        final var start = System.nanoTime();
+        final var shutdown = PreShutdown.preShutdown(hooks);
+        final var millis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        assertTrue(shutdown, "A timed-out parallel hook must not veto the shutdown");
+        assertTrue(millis < 10_000, "Timed-out hook should not delay shutdown, took " + millis + " ms");
+        assertTrue(calls.containsAll(List.of("fast", "continued:fast", "continued:slow")),
+            "Started hooks should receive the continue signal: " + calls);
+    }
+
+    @Test
+    void testParallelHookVeto() {
+        final List<String> calls = new CopyOnWriteArrayList<>();
+        final var hooks = new LinkedHashMap<IConfigurationElement, PreShutdown>();
+        hooks.put(element("parallelA", null, "true", null), recordingHook("parallelA", calls, true));
+        hooks.put(element("parallelB", null, "true", null), recordingHook("parallelB", calls, false));
+
+        assertTrue(!PreShutdown.preShutdown(hooks), "Parallel hook should have vetoed the shutdown");
+        assertTrue(calls.containsAll(List.of("aborted:parallelA", "aborted:parallelB")),
+            "Checked hooks should receive the abort signal: " + calls);
+        assertTrue(calls.stream().noneMatch(c -> c.startsWith("continued:")),
+            "No hook should receive the continue signal: " + calls);
+    }
+
+    private static PreShutdown recordingHook(final String name, final List<String> calls, final boolean result) {
+        return new PreShutdown() {
+
+            @Override
+            public boolean onPreShutdown() {
+                calls.add(name);
+                return result;
+            }
+
+            @Override
+            public void onShutdownAborted() {
+                calls.add("aborted:" + name);
+            }
+
+            @Override
+            public void onShutdownContinued() {
+                calls.add("continued:" + name);
+            }
+        };
+    }
+
+    private static IConfigurationElement element(final String name, final String order, final String parallel,
+        final String timeout) {
+        final var attributes = new HashMap<String, String>();
+        attributes.put("class", name);
+        attributes.put(PreShutdownRunner.ORDER_ATTRIBUTE, order);
+        attributes.put(PreShutdownRunner.PARALLEL_ATTRIBUTE, parallel);
+        attributes.put(PreShutdownRunner.TIMEOUT_ATTRIBUTE, timeout);
+        return new TestingConfigurationElement() {
+
+            @Override
+            public String getAttribute(final String attrName) {
+                return attributes.get(attrName);
+            }
+
+            @Override
+            public Object createExecutableExtension(final String propertyName) throws CoreException {
+                throw new UnsupportedOperationException();
+            }
+        };
+    }
+
     /**
      * Dummy class for an essentially empty {@link IConfigurationElement} except for the possibility to
      * implement {@link #createExecutableExtension(String)} to create arbitrary extensions.
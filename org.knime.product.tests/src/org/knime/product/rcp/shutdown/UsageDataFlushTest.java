@@ -0,0 +1,113 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.product.rcp.shutdown;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link UsageDataFlush}.
+ */
+class UsageDataFlushTest {
+
+    @Test
+    void testFlushRunsOnceAndCompletes() {
+        final var runs = new AtomicInteger();
+        final var flush = new UsageDataFlush(runs::incrementAndGet);
+        flush.begin();
+        flush.begin();
+        assertTrue(flush.join(Duration.ofSeconds(10)), "Flush should have completed");
+        assertEquals(1, runs.get(), "Flush should only run once");
+    }
+
+    @Test
+    void testFlushDoesNotKeepJvmAlive() {
+        final var daemon = new AtomicBoolean();
+        final var flush = new UsageDataFlush(() -> daemon.set(Thread.currentThread().isDaemon()));
+        assertTrue(flush.join(Duration.ofSeconds(10)), "Flush should have completed");
+        assertTrue(daemon.get(), "Flush must run on a daemon thread, otherwise the exit waits for the network");
+    }
+
+    @Test
+    void testFailedFlushIsReported() {
+        final var flush = new UsageDataFlush(() -> {
+            throw new IllegalStateException("no network");
+        });
+        assertFalse(flush.join(Duration.ofSeconds(10)), "Failed flush must not be reported as successful");
+    }
+
+    @Test
+    void testSlowFlushIsNotAwaitedAndKeepsRunning() throws InterruptedException {
+        final var release = new CountDownLatch(1);
+        final var finished = new CountDownLatch(1);
+        final var flush = new UsageDataFlush(() -> {
+            try {
+                release.await();
+                finished.countDown();
+            } catch (InterruptedException e) { // NOSONAR test
+                Thread.currentThread().interrupt();
+            }
+        });
+        final var started = System.nanoTime();
+        assertFalse(flush.join(Duration.ofMillis(100)), "Slow flush should have missed the deadline");
+        assertTrue(System.nanoTime() - started < TimeUnit.SECONDS.toNanos(5), "Wait should be bounded");
+
+        release.countDown();
+        assertTrue(finished.await(10, TimeUnit.SECONDS), "Flush should continue after the deadline");
+    }
+}
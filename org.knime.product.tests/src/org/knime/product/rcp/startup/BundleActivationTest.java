@@ -0,0 +1,145 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.product.rcp.startup;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.Proxy;
+import java.util.Arrays;
+import java.util.Hashtable;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Test;
+import org.osgi.framework.Bundle;
+import org.osgi.framework.Constants;
+import org.osgi.framework.wiring.BundleRevision;
+import org.osgi.framework.wiring.BundleWire;
+import org.osgi.framework.wiring.BundleWiring;
+
+/**
+ * Tests for {@link BundleActivation}.
+ */
+class BundleActivationTest {
+
+    private static final AtomicLong BUNDLE_IDS = new AtomicLong(1);
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(final Class<T> type, final Function<String, Object> methods) {
+        return (T)Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type},
+            (p, method, args) -> methods.apply(method.getName()));
+    }
+
+    private static Bundle bundle(final int state, final boolean lazy, final Bundle... dependencies) {
+        return bundle(new AtomicInteger(), state, lazy, dependencies);
+    }
+
+    private static Bundle bundle(final AtomicInteger wiringRequests, final int state, final boolean lazy,
+        final Bundle... dependencies) {
+        final long id = BUNDLE_IDS.incrementAndGet();
+        final var headers = new Hashtable<String, String>();
+        if (lazy) {
+            headers.put(Constants.BUNDLE_ACTIVATIONPOLICY, Constants.ACTIVATION_LAZY);
+        }
+        final List<BundleWire> wires = Arrays.stream(dependencies) //
+            .map(d -> proxy(BundleWire.class, m -> proxy(BundleRevision.class, n -> d))) //
+            .toList();
+        final BundleWiring wiring = proxy(BundleWiring.class, m -> wires);
+        return proxy(Bundle.class, m -> switch (m) {
+            case "getBundleId" -> id;
+            case "getState" -> state;
+            case "getHeaders" -> headers;
+            case "adapt" -> {
+                wiringRequests.incrementAndGet();
+                yield wiring;
+            }
+            default -> throw new UnsupportedOperationException(m);
+        });
+    }
+
+    @Test
+    void testLazyBundlesAreOnlySafeOnceActive() {
+        assertTrue(BundleActivation.isSafeToLoadFrom(bundle(Bundle.ACTIVE, true)));
+        assertTrue(BundleActivation.isSafeToLoadFrom(bundle(Bundle.RESOLVED, false)));
+        assertFalse(BundleActivation.isSafeToLoadFrom(bundle(Bundle.RESOLVED, true)));
+        assertFalse(BundleActivation.isSafeToLoadFrom(bundle(Bundle.STARTING, true)));
+    }
+
+    @Test
+    void testTransitiveDependenciesAreChecked() {
+        final Bundle lazyDependency = bundle(Bundle.RESOLVED, true);
+        final Bundle plainDependency = bundle(Bundle.RESOLVED, false, bundle(Bundle.ACTIVE, true));
+
+        assertTrue(new BundleActivation().canLoadWithoutActivation(bundle(Bundle.RESOLVED, false, plainDependency)));
+        assertFalse(new BundleActivation().canLoadWithoutActivation(
+            bundle(Bundle.ACTIVE, true, bundle(Bundle.RESOLVED, false, lazyDependency))),
+            "Lazy dependency of a dependency would be activated");
+    }
+
+    @Test
+    void testResultsAreRememberedWithinOnePass() {
+        final var wiringRequests = new AtomicInteger();
+        final Bundle shared = bundle(wiringRequests, Bundle.RESOLVED, false, bundle(Bundle.ACTIVE, true));
+        final Bundle lazy = bundle(wiringRequests, Bundle.RESOLVED, true);
+        final var activation = new BundleActivation();
+
+        assertTrue(activation.canLoadWithoutActivation(bundle(Bundle.RESOLVED, false, shared)));
+        assertTrue(activation.canLoadWithoutActivation(bundle(Bundle.ACTIVE, false, shared)));
+        assertTrue(activation.canLoadWithoutActivation(shared));
+        assertEquals(1, wiringRequests.get(), "Shared dependency should only be checked once");
+
+        assertFalse(activation.canLoadWithoutActivation(bundle(Bundle.RESOLVED, false, lazy)));
+        assertFalse(activation.canLoadWithoutActivation(bundle(Bundle.RESOLVED, false, shared, lazy)));
+        assertFalse(activation.canLoadWithoutActivation(lazy));
+    }
+}
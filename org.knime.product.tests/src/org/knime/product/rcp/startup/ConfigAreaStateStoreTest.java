@@ -0,0 +1,130 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.product.rcp.startup;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.knime.product.rcp.startup.ConfigAreaStateStore.Key;
+
+/**
+ * Tests for {@link ConfigAreaStateStore}.
+ */
+class ConfigAreaStateStoreTest {
+
+    private static final Key<Boolean> FLAG = Key.ofBoolean("flag.test", false);
+
+    @Test
+    void testValuesArePersisted(@TempDir final Path dir) throws IOException {
+        final Path file = dir.resolve("sub").resolve(ConfigAreaStateStore.STORE_FILE);
+        final var store = new ConfigAreaStateStore(file);
+        assertFalse(store.contains(FLAG));
+        assertFalse(store.get(FLAG), "Default value expected");
+
+        assertTrue(store.set(FLAG, true));
+        assertTrue(store.set(StartupTimeline.HISTORY_KEY, List.of()));
+        assertTrue(Files.isRegularFile(file));
+        try (var files = Files.list(file.getParent())) {
+            assertTrue(files.noneMatch(f -> f.toString().endsWith(".tmp")), "Temporary file must be moved");
+        }
+
+        final var reloaded = new ConfigAreaStateStore(file);
+        assertTrue(reloaded.contains(FLAG));
+        assertTrue(reloaded.get(FLAG));
+        assertEquals(List.of(), reloaded.get(StartupTimeline.HISTORY_KEY));
+
+        reloaded.set(FLAG, null);
+        assertFalse(new ConfigAreaStateStore(file).contains(FLAG));
+    }
+
+    @Test
+    void testChangesOfOtherInstancesAreKept(@TempDir final Path dir) {
+        final Path file = dir.resolve(ConfigAreaStateStore.STORE_FILE);
+        final var first = new ConfigAreaStateStore(file);
+        final var second = new ConfigAreaStateStore(file);
+        // both instances have read the (empty) store before either of them writes
+        assertFalse(first.contains(FLAG));
+        assertFalse(second.contains(StartupTimeline.HISTORY_KEY));
+
+        assertTrue(first.set(FLAG, true));
+        assertTrue(second.set(StartupTimeline.HISTORY_KEY, List.of()));
+        assertTrue(second.get(FLAG), "Value written by the other instance must be visible after writing");
+
+        final var reloaded = new ConfigAreaStateStore(file);
+        assertTrue(reloaded.get(FLAG), "Value of the first instance must not be overwritten");
+        assertTrue(reloaded.contains(StartupTimeline.HISTORY_KEY));
+
+        assertTrue(first.update(FLAG, current -> !current));
+        assertFalse(new ConfigAreaStateStore(file).get(FLAG));
+    }
+
+    @Test
+    void testBrokenStoreIsIgnored(@TempDir final Path dir) throws IOException {
+        final Path file = dir.resolve(ConfigAreaStateStore.STORE_FILE);
+        Files.writeString(file, "{ \"flag.test\": tr");
+        final var store = new ConfigAreaStateStore(file);
+        assertFalse(store.get(FLAG));
+
+        // an invalid value falls back to the default and the store can still be written
+        Files.writeString(file, "{ \"startupHistory\": { \"formatVersion\": 1, \"launches\": [ { } ] } }");
+        final var invalid = new ConfigAreaStateStore(file);
+        assertEquals(List.of(), invalid.get(StartupTimeline.HISTORY_KEY));
+        assertTrue(invalid.set(FLAG, true));
+        store.replayLog();
+        invalid.replayLog();
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.product.rcp.startup;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link EarlyStartupLogBuffer}.
+ */
+class EarlyStartupLogBufferTest {
+
+    private static final int PRODUCERS = 4;
+
+    private static void produce(final EarlyStartupLogBuffer buffer, final Supplier<String> message,
+        final int perProducer) {
+        CompletableFuture.allOf(IntStream.range(0, PRODUCERS).mapToObj(p -> CompletableFuture.runAsync(() -> {
+            for (var i = 0; i < perProducer; i++) {
+                buffer.queueError(message, null);
+            }
+        })).toArray(CompletableFuture[]::new)).join();
+    }
+
+    @Test
+    void testConcurrentProducers() {
+        final var formatted = new AtomicInteger();
+        final Supplier<String> message = () -> "Test message " + formatted.incrementAndGet();
+        final var buffer = new EarlyStartupLogBuffer(EarlyStartupLogBufferTest.class, 1000);
+
+        produce(buffer, message, 250);
+        assertEquals(0, formatted.get(), "Messages must not be formatted before replay");
+        buffer.replay();
+        assertEquals(1000, formatted.get());
+    }
+
+    @Test
+    void testBoundedAndReusable() {
+        final var formatted = new AtomicInteger();
+        final Supplier<String> message = () -> "Test message " + formatted.incrementAndGet();
+        final var buffer = new EarlyStartupLogBuffer(EarlyStartupLogBufferTest.class, 10);
+
+        produce(buffer, message, 100);
+        buffer.replay();
+        assertEquals(10, formatted.get(), "Messages exceeding the capacity must be dropped");
+
+        buffer.replay();
+        assertEquals(10, formatted.get(), "Replayed messages must not be logged again");
+
+        buffer.queueError(message, null);
+        buffer.queueError(message, new IllegalStateException("Test exception"));
+        buffer.replay();
+        assertEquals(12, formatted.get());
+    }
+}
@@ -44,86 +44,52 @@
  * ---------------------------------------------------------------------
  *
  * History
- *   19 Jun 2020 (Marc Bux, KNIME GmbH, Berlin, Germany): created
+ *   Oct 18, 2026 (KNIME AG, Zurich, Switzerland): created
  */
 package org.knime.product.rcp.startup;
 
-import java.util.ArrayList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.Instant;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.LongStream;
 
-import org.knime.core.node.NodeLogger;
+import org.junit.jupiter.api.Test;
+import org.knime.product.rcp.startup.StartupTimeline.Launch;
 
 /**
- * A class that can queue log messages and log them at a later point in time. Its purpose here is that we want to delay
- * the loading of classes required for logging.
- *
- * @author Marc Bux, KNIME GmbH, Berlin, Germany
+ * Tests the adaptive threshold of {@link LongStartupHandler}.
  */
-final class DelayedMessageLogger {
-
-    private enum LogMessageLevel {
-            DEBUG, ERROR;
-    }
-
-    /**
-     * Class that structures to-be-logged error messages together with their exceptions (for deferred logging).
-     */
-    private static final class LogMessage {
-
-        private final LogMessageLevel m_level;
-
-        private final String m_message;
-
-        private final Exception m_exception;
-
-        LogMessage(final LogMessageLevel level, final String message, final Exception exception) {
-            m_level = level;
-            m_message = message;
-            m_exception = exception;
-        }
-
-        LogMessageLevel getLevel() {
-            return m_level;
-        }
-
-        String getMessage() {
-            return m_message;
-        }
-
-        Optional<Exception> getException() {
-            return m_exception == null ? Optional.empty() : Optional.of(m_exception);
-        }
-    }
-
-    private final List<LogMessage> m_log = new ArrayList<>();
+class LongStartupHandlerTest {
 
-    synchronized void queueDebug(final String message) {
-        m_log.add(new LogMessage(LogMessageLevel.DEBUG, message, null));
+    private static List<Launch> launches(final long... totals) {
+        return LongStream.of(totals)
+            .mapToObj(t -> new Launch(Instant.now(), Map.of(StartupTimeline.WORKBENCH_STARTED, t), Map.of(), Set.of()))
+            .toList();
     }
 
-    synchronized void queueError(final String message) {
-        m_log.add(new LogMessage(LogMessageLevel.ERROR, message, null));
+    @Test
+    void testDefaultWithoutEnoughHistory() {
+        assertEquals(LongStartupHandler.DEFAULT_STARTUP_TIME_THRESHOLD_MILLIS,
+            LongStartupHandler.computeThresholdMillis(List.of()));
+        assertEquals(LongStartupHandler.DEFAULT_STARTUP_TIME_THRESHOLD_MILLIS,
+            LongStartupHandler.computeThresholdMillis(launches(10_000, 10_000, 10_000, 10_000)));
     }
 
-    synchronized void queueError(final String message, final Exception e) {
-        m_log.add(new LogMessage(LogMessageLevel.ERROR, message, e));
+    @Test
+    void testThresholdFollowsBaseline() {
+        // 90th percentile of ten startups is the 9th smallest one, i.e. 40s -> 60s threshold
+        assertEquals(60_000, LongStartupHandler.computeThresholdMillis(
+            launches(10_000, 15_000, 20_000, 25_000, 30_000, 30_000, 35_000, 35_000, 40_000, 200_000)));
     }
 
-    synchronized void logQueuedMessaged(final NodeLogger logger) {
-        for (final LogMessage logMessage : m_log) {
-            final LogMessageLevel level = logMessage.getLevel();
-            final String message = logMessage.getMessage();
-            final Optional<Exception> exception = logMessage.getException();
-            if (level == LogMessageLevel.DEBUG) {
-                logger.debug(message);
-            } else if (level == LogMessageLevel.ERROR) {
-                if (exception.isPresent()) {
-                    logger.error(message, exception.get());
-                } else {
-                    logger.error(message);
-                }
-            }
-        }
+    @Test
+    void testThresholdIsBounded() {
+        assertEquals(LongStartupHandler.MIN_STARTUP_TIME_THRESHOLD_MILLIS,
+            LongStartupHandler.computeThresholdMillis(launches(3_000, 3_000, 3_000, 3_000, 3_000)));
+        assertEquals(LongStartupHandler.MAX_STARTUP_TIME_THRESHOLD_MILLIS,
+            LongStartupHandler.computeThresholdMillis(launches(600_000, 600_000, 600_000, 600_000, 600_000)));
     }
 }
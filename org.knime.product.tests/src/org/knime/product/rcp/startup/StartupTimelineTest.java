@@ -0,0 +1,121 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.product.rcp.startup;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.knime.product.rcp.startup.StartupTimeline.Launch;
+import org.knime.product.rcp.startup.StartupTimeline.Regression;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Tests for the history handling and regression detection in {@link StartupTimeline}.
+ */
+class StartupTimelineTest {
+
+    private static Launch launch(final long profiles, final long workbench, final String... interactive) {
+        final Map<String, Long> phases = new LinkedHashMap<>();
+        phases.put(StartupTimeline.PROFILES_APPLIED, profiles);
+        phases.put(StartupTimeline.WORKBENCH_STARTED, workbench);
+        return new Launch(Instant.parse("2026-01-01T10:00:00Z"), phases, Map.of("addDefaultRepositories", 300L),
+            Set.of(interactive));
+    }
+
+    private static List<Launch> history(final int count) {
+        final List<Launch> history = new ArrayList<>();
+        for (var i = 0; i < count; i++) {
+            history.add(launch(1000 + (i % 3) * 50, 8000 + (i % 2) * 200));
+        }
+        return history;
+    }
+
+    @Test
+    void testRegressionDetected() {
+        final List<Regression> regressions = StartupTimeline.detectRegressions(launch(1050, 20_000),
+            history(StartupTimeline.MIN_HISTORY_FOR_COMPARISON));
+        assertEquals(1, regressions.size());
+        assertEquals(StartupTimeline.WORKBENCH_STARTED, regressions.get(0).phase());
+        assertEquals(20_000, regressions.get(0).millis());
+    }
+
+    @Test
+    void testNoRegressionForNoiseOrShortHistory() {
+        // within the usual spread
+        assertTrue(StartupTimeline.detectRegressions(launch(1100, 8500), history(10)).isEmpty());
+        // relative increase is large but below the absolute minimum
+        assertTrue(StartupTimeline.detectRegressions(launch(1900, 8000), history(10)).isEmpty());
+        // not enough history
+        assertTrue(StartupTimeline
+            .detectRegressions(launch(1000, 20_000), history(StartupTimeline.MIN_HISTORY_FOR_COMPARISON - 1))
+            .isEmpty());
+        // waiting for the user is not a regression
+        assertTrue(StartupTimeline
+            .detectRegressions(launch(1000, 20_000, StartupTimeline.WORKBENCH_STARTED), history(10)).isEmpty());
+    }
+
+    @Test
+    void testHistoryRoundTrip() {
+        final List<Launch> launches = List.of(launch(1, 2), launch(3, 4, StartupTimeline.PROFILES_APPLIED));
+        assertEquals(launches, StartupTimeline.historyFromJson(StartupTimeline.historyToJson(launches)));
+
+        final var otherVersion = (ObjectNode)StartupTimeline.historyToJson(launches);
+        otherVersion.put("formatVersion", 0);
+        assertTrue(StartupTimeline.historyFromJson(otherVersion).isEmpty(), "Unknown format must be ignored");
+    }
+}
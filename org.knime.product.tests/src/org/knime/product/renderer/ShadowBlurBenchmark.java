@@ -0,0 +1,199 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.product.renderer;
+
+import java.util.Locale;
+
+import org.eclipse.swt.graphics.ImageData;
+import org.eclipse.swt.graphics.PaletteData;
+import org.eclipse.swt.graphics.RGB;
+
+/**
+ * Compares the speed of {@link ShadowBlur} with the previous per-pixel floating point blur of the tab folder renderer.
+ * Runs directly on {@link ImageData}, no display is needed. Start with {@link #main(String[])}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public final class ShadowBlurBenchmark {
+
+    private static final int WARMUP_ROUNDS = 200;
+
+    private static final int ROUNDS = 1000;
+
+    private ShadowBlurBenchmark() {
+    }
+
+    /**
+     * @param args ignored
+     */
+    public static void main(final String[] args) {
+        for (int size : new int[]{60, 256}) {
+            final ImageData data = createShadowTemplate(size);
+            final double reference = measure(() -> referenceBlur(data, 5, 25));
+            final double fast = measure(() -> ShadowBlur.blur(data, 5, 25));
+            System.out.println(String.format(Locale.ROOT, "%dx%d: per-pixel %.3f ms, scanline %.3f ms, speedup %.1fx",
+                size, size, reference, fast, reference / fast));
+        }
+    }
+
+    private static double measure(final Runnable blur) {
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            blur.run();
+        }
+        final long start = System.nanoTime();
+        for (int i = 0; i < ROUNDS; i++) {
+            blur.run();
+        }
+        return (System.nanoTime() - start) / 1e6 / ROUNDS;
+    }
+
+    /**
+     * Creates an image like the one the renderer blurs: a gray rounded body on a white background.
+     *
+     * @param size the width and height
+     * @return the image data
+     */
+    static ImageData createShadowTemplate(final int size) {
+        final ImageData data = new ImageData(size, size, 32, new PaletteData(0xFF0000, 0xFF00, 0xFF));
+        final int gray = data.palette.getPixel(new RGB(128, 128, 128));
+        final int white = data.palette.getPixel(new RGB(255, 255, 255));
+        final int inset = size / 10;
+        final int corner = size / 8;
+        for (int y = 0; y < size; y++) {
+            for (int x = 0; x < size; x++) {
+                final int dx = Math.max(0, Math.max(inset + corner - x, x - (size - inset - corner - 1)));
+                final int dy = Math.max(0, Math.max(inset + corner - y, y - (size - inset - corner - 1)));
+                data.setPixel(x, y, dx * dx + dy * dy <= corner * corner ? gray : white);
+            }
+        }
+        return data;
+    }
+
+    /**
+     * The blur the renderer used before, reading and writing every pixel separately.
+     */
+    static ImageData referenceBlur(final ImageData imgPixels, final int radius, final int sigma) {
+        float[] kernel = create1DKernel(radius, sigma);
+        int width = imgPixels.width;
+        int height = imgPixels.height;
+
+        int[] inPixels = new int[width * height];
+        int[] outPixels = new int[width * height];
+        int offset = 0;
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                RGB rgb = imgPixels.palette.getRGB(imgPixels.getPixel(x, y));
+                if (rgb.red == 255 && rgb.green == 255 && rgb.blue == 255) {
+                    inPixels[offset] = (rgb.red << 16) | (rgb.green << 8) | rgb.blue;
+                } else {
+                    inPixels[offset] =
+                        (imgPixels.getAlpha(x, y) << 24) | (rgb.red << 16) | (rgb.green << 8) | rgb.blue;
+                }
+                offset++;
+            }
+        }
+
+        convolve(kernel, inPixels, outPixels, width, height);
+        convolve(kernel, outPixels, inPixels, height, width);
+
+        ImageData dst = new ImageData(imgPixels.width, imgPixels.height, 24, new PaletteData(0xff0000, 0xff00, 0xff));
+        dst.setPixels(0, 0, inPixels.length, inPixels, 0);
+        offset = 0;
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                dst.setAlpha(x, y, inPixels[offset] == -1 ? 0 : (inPixels[offset] >> 24) & 0xff);
+                offset++;
+            }
+        }
+        return dst;
+    }
+
+    private static void convolve(final float[] kernel, final int[] inPixels, final int[] outPixels, final int width,
+        final int height) {
+        int kernelMid = kernel.length / 2;
+        for (int y = 0; y < height; y++) {
+            int index = y;
+            int currentLine = y * width;
+            for (int x = 0; x < width; x++) {
+                float a = 0, r = 0, g = 0, b = 0;
+                for (int k = -kernelMid; k <= kernelMid; k++) {
+                    float val = kernel[k + kernelMid];
+                    int xcoord = Math.min(width - 1, Math.max(0, x + k));
+                    int pixel = inPixels[currentLine + xcoord];
+                    a += val * ((pixel >> 24) & 0xff);
+                    r += val * ((pixel >> 16) & 0xff);
+                    g += val * ((pixel >> 8) & 0xff);
+                    b += val * (pixel & 0xff);
+                }
+                outPixels[index] = (clamp((int)(a + 0.5)) << 24) | (clamp((int)(r + 0.5)) << 16)
+                    | (clamp((int)(g + 0.5)) << 8) | clamp((int)(b + 0.5));
+                index += height;
+            }
+        }
+    }
+
+    private static int clamp(final int value) {
+        return Math.min(255, Math.max(0, value));
+    }
+
+    private static float[] create1DKernel(final int radius, final int sigma) {
+        int size = radius * 2 + 1;
+        float[] kernel = new float[size];
+        float sigmaSquare = 2 * sigma * sigma;
+        float total = 0;
+        for (int i = -radius; i <= radius; i++) {
+            kernel[i + radius] = (float)Math.exp(-(i * i) / sigmaSquare);
+            total += kernel[i + radius];
+        }
+        for (int i = 0; i < size; i++) {
+            kernel[i] /= total;
+        }
+        return kernel;
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.product.renderer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.eclipse.swt.graphics.ImageData;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link ShadowBlur}.
+ */
+class ShadowBlurTest {
+
+    @Test
+    void testKernelIsNormalized() {
+        int sum = 0;
+        for (int weight : ShadowBlur.createKernel(5, 25)) {
+            sum += weight;
+        }
+        assertEquals(1 << 16, sum);
+    }
+
+    @Test
+    void testMatchesPerPixelBlur() {
+        final ImageData template = ShadowBlurBenchmark.createShadowTemplate(60);
+        final ImageData expected = ShadowBlurBenchmark.referenceBlur(template, 5, 25);
+        final ImageData actual = ShadowBlur.blur(template, 5, 25);
+
+        assertEquals(expected.width, actual.width);
+        assertEquals(expected.height, actual.height);
+        assertEquals(expected.depth, actual.depth);
+        for (int y = 0; y < expected.height; y++) {
+            for (int x = 0; x < expected.width; x++) {
+                final int e = expected.getPixel(x, y);
+                final int a = actual.getPixel(x, y);
+                for (int shift = 0; shift < 24; shift += 8) {
+                    final int diff = Math.abs(((e >> shift) & 0xFF) - ((a >> shift) & 0xFF));
+                    assertTrue(diff <= 1, "Color differs at " + x + "," + y + ": " + e + " vs " + a);
+                }
+                assertTrue(Math.abs(expected.getAlpha(x, y) - actual.getAlpha(x, y)) <= 1,
+                    "Alpha differs at " + x + "," + y);
+            }
+        }
+    }
+}
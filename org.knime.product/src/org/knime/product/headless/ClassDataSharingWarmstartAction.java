@@ -0,0 +1,284 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.product.headless;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+import javax.management.openmbean.CompositeData;
+
+import org.knime.core.node.NodeLogger;
+import org.knime.product.ProductPlugin;
+
+/**
+ * Warmstart action that turns the classes loaded during the warmstart into a dynamic class-data-sharing (AppCDS)
+ * archive and registers that archive in the launcher configuration ({@code knime.ini}) of the installation.
+ *
+ * <p>
+ * The archive is written via the {@code VM.cds dynamic_dump} diagnostic command of the running JVM, which requires the
+ * warmstart application to be launched with {@code -XX:+RecordDynamicDumpInfo}, e.g.
+ *
+ * <pre>
+ * knime -nosplash -application org.knime.product.KNIME_WARMSTART_APPLICATION --launcher.appendVmargs \
+ *     -vmargs -XX:+RecordDynamicDumpInfo
+ * </pre>
+ *
+ * Without {@code --launcher.appendVmargs} the command line {@code -vmargs} replace those of the launcher ini (heap
+ * size, system properties), and the archive would be recorded with a JVM configuration different from the one of
+ * regular starts.
+ * If the JVM has not been started with that option, the action does nothing and reports success so that regular
+ * warmstarts are not affected. The action is registered with the lowest priority of the built-in actions so that the
+ * classes loaded by all other warmstart actions end up in the archive, too.
+ * </p>
+ *
+ * <p>
+ * Once the archive has been written, {@code -XX:SharedArchiveFile=<archive>} is added to the {@code -vmargs} section of
+ * the launcher ini. The ini is replaced atomically and the previous version is kept as {@code <name>.ini.bak}. The
+ * JVM validates the archive on startup and silently ignores it if it does not match (e.g. after
+ * the bundled JRE has been updated), hence a stale archive only costs its benefit, never correctness.
+ * </p>
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 5.12
+ */
+public final class ClassDataSharingWarmstartAction implements IWarmstartAction {
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(ClassDataSharingWarmstartAction.class);
+
+    /** System property to override the location of the archive. */
+    static final String ARCHIVE_PATH_PROPERTY = "knime.warmstart.cds.archive";
+
+    /** System property to prevent the launcher ini from being modified. */
+    static final String SKIP_INI_UPDATE_PROPERTY = "knime.warmstart.cds.skipIniUpdate";
+
+    /** Default file name of the archive inside the installation folder. */
+    static final String DEFAULT_ARCHIVE_NAME = "knime-dynamic.jsa";
+
+    static final String SHARED_ARCHIVE_VM_ARG = "-XX:SharedArchiveFile=";
+
+    private static final String VMARGS = "-vmargs";
+
+    // accessed through the MBean server to avoid a dependency on com.sun.management
+    private static final String DIAGNOSTIC_COMMAND_MBEAN = "com.sun.management:type=DiagnosticCommand";
+
+    private static final String HOTSPOT_DIAGNOSTIC_MBEAN = "com.sun.management:type=HotSpotDiagnostic";
+
+    @Override
+    public WarmstartResult execute() throws Exception {
+        if (!isDynamicDumpSupported()) {
+            return WarmstartResult.success("skipped, JVM was not started with -XX:+RecordDynamicDumpInfo");
+        }
+
+        final Optional<Path> installDir = ProductPlugin.getInstallationLocation();
+        final Path archive = Optional.ofNullable(System.getProperty(ARCHIVE_PATH_PROPERTY)) //
+            .map(Paths::get) //
+            .or(() -> installDir.map(p -> p.resolve(DEFAULT_ARCHIVE_NAME))) //
+            .map(Path::toAbsolutePath) //
+            .orElse(null);
+        if (archive == null) {
+            return WarmstartResult.failure("cannot determine location for the class-data-sharing archive");
+        }
+
+        final long start = System.currentTimeMillis();
+        try {
+            dumpArchive(archive);
+        } catch (IOException | JMException e) {
+            return WarmstartResult.failure("could not create class-data-sharing archive: " + e.getMessage(), e);
+        }
+        LOGGER.info("Created class-data-sharing archive " + archive + " (" + Files.size(archive) / (1024 * 1024)
+            + " MB) in " + (System.currentTimeMillis() - start) + " ms");
+
+        if (Boolean.getBoolean(SKIP_INI_UPDATE_PROPERTY)) {
+            return WarmstartResult.success("created " + archive + ", launcher configuration not updated");
+        }
+        final Optional<Path> launcherIni = installDir.flatMap(ClassDataSharingWarmstartAction::getLauncherIni);
+        if (launcherIni.isEmpty() || !Files.isWritable(launcherIni.get())) {
+            LOGGER.warn("Launcher ini not found or not writable, class-data-sharing archive " + archive
+                + " is not registered");
+            return WarmstartResult.success(
+                "created " + archive + ", but the launcher ini cannot be updated. Add '" + SHARED_ARCHIVE_VM_ARG
+                    + archive + "' to the VM arguments manually.");
+        }
+        try {
+            writeLauncherIni(launcherIni.get(), archive);
+        } catch (IOException e) {
+            return WarmstartResult.failure("could not register archive in " + launcherIni.get(), e);
+        }
+        return WarmstartResult.success("created " + archive + " and registered it in " + launcherIni.get());
+    }
+
+    private static boolean isDynamicDumpSupported() {
+        try {
+            final var option = (CompositeData)ManagementFactory.getPlatformMBeanServer().invoke(
+                new ObjectName(HOTSPOT_DIAGNOSTIC_MBEAN), "getVMOption", new Object[]{"RecordDynamicDumpInfo"},
+                new String[]{String.class.getName()});
+            return Boolean.parseBoolean(String.valueOf(option.get("value")));
+        } catch (JMException | RuntimeException e) { // NOSONAR not a HotSpot VM or an old one
+            LOGGER.debug("JVM does not support dynamic class-data-sharing archives: " + e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Lets the running JVM write its dynamic archive to a temporary file next to the target and moves it into place
+     * afterwards, so that a JVM currently mapping the old archive is not disturbed.
+     */
+    private static void dumpArchive(final Path archive) throws IOException, JMException {
+        Files.createDirectories(archive.getParent());
+        final Path tmp = archive.resolveSibling(archive.getFileName() + ".tmp");
+        Files.deleteIfExists(tmp);
+        try {
+            final Object output = ManagementFactory.getPlatformMBeanServer().invoke(
+                new ObjectName(DIAGNOSTIC_COMMAND_MBEAN), "vmCds",
+                new Object[]{new String[]{"dynamic_dump", tmp.toString()}}, new String[]{String[].class.getName()});
+            LOGGER.debug("VM.cds dynamic_dump: " + output);
+            if (!Files.isRegularFile(tmp)) {
+                throw new IOException("JVM did not create an archive: " + output);
+            }
+            // the JVM creates the archive read-only, which would prevent replacing it on Windows
+            archive.toFile().setWritable(true); // NOSONAR return value irrelevant, move fails if really not writable
+            Files.move(tmp, archive, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+
+    /**
+     * Looks up the ini file read by the native launcher. It has the base name of the launcher and is located next to
+     * it, except on macOS where it is in {@code Contents/Eclipse} while the launcher is in {@code Contents/MacOS}.
+     *
+     * @param installDir the installation folder
+     * @return the ini file read by the native launcher, e.g. {@code knime.ini}, empty if it does not exist
+     */
+    static Optional<Path> getLauncherIni(final Path installDir) {
+        return getLauncherIni(installDir, System.getProperty("eclipse.launcher"));
+    }
+
+    static Optional<Path> getLauncherIni(final Path installDir, final String launcher) {
+        final List<Path> candidates = new ArrayList<>();
+        if (launcher != null) {
+            // the native launcher sets eclipse.launcher to its own path, the ini file has the same base name
+            final Path launcherPath = Paths.get(launcher).toAbsolutePath();
+            String name = launcherPath.getFileName().toString();
+            final int dot = name.lastIndexOf('.');
+            if (dot > 0) {
+                name = name.substring(0, dot);
+            }
+            final String iniName = name + ".ini";
+            candidates.add(launcherPath.resolveSibling(iniName));
+            if (launcherPath.getParent() != null && launcherPath.getParent().getParent() != null) {
+                candidates.add(launcherPath.getParent().resolveSibling("Eclipse").resolve(iniName));
+            }
+            candidates.add(installDir.resolve(iniName));
+        } else {
+            candidates.add(installDir.resolve("knime.ini"));
+        }
+        return candidates.stream().filter(Files::isRegularFile).findFirst();
+    }
+
+    /**
+     * Registers the archive in the launcher ini. The new content is written to a temporary file in the same folder
+     * and moved over the ini, so that a crash or a full disk never leaves a truncated ini behind. The previous
+     * content is kept as backup.
+     *
+     * @param launcherIni the launcher ini
+     * @param archive the archive to register
+     * @throws IOException if the ini cannot be read or replaced
+     */
+    static void writeLauncherIni(final Path launcherIni, final Path archive) throws IOException {
+        final List<String> lines = Files.readAllLines(launcherIni, StandardCharsets.UTF_8);
+        final Path dir = launcherIni.toAbsolutePath().getParent();
+        final String name = launcherIni.getFileName().toString();
+        final Path tmp = Files.createTempFile(dir, name, ".tmp");
+        try {
+            Files.write(tmp, updateLauncherIni(lines, archive), StandardCharsets.UTF_8);
+            Files.copy(launcherIni, dir.resolve(name + ".bak"), StandardCopyOption.REPLACE_EXISTING);
+            try {
+                Files.move(tmp, launcherIni, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) { // NOSONAR still never truncates the ini
+                Files.move(tmp, launcherIni, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+
+    /**
+     * Replaces any previously registered archive in the given launcher ini lines by the given archive.
+     *
+     * @param lines the lines of the launcher ini
+     * @param archive the archive to register
+     * @return the updated lines
+     */
+    static List<String> updateLauncherIni(final List<String> lines, final Path archive) {
+        final List<String> result = new ArrayList<>(lines.size() + 2);
+        for (final String line : lines) {
+            if (!line.trim().startsWith(SHARED_ARCHIVE_VM_ARG)) {
+                result.add(line);
+            }
+        }
+        if (result.stream().noneMatch(l -> VMARGS.equals(l.trim()))) {
+            result.add(VMARGS);
+        }
+        // everything after -vmargs is passed to the JVM, so appending keeps the launcher arguments untouched
+        result.add(SHARED_ARCHIVE_VM_ARG + archive);
+        return result;
+    }
+}
@@ -49,9 +49,9 @@
 import org.eclipse.equinox.app.IApplicationContext;
 import org.knime.core.internal.CorePlugin;
 import org.knime.core.node.util.CheckUtils;
-import org.knime.core.node.workflow.NodeTimer;
 import org.knime.product.ProductPlugin;
 import org.knime.product.rcp.StatusLoggerHelper;
+import org.knime.product.rcp.shutdown.UsageDataFlush;
 import org.osgi.framework.Bundle;
 import org.osgi.framework.BundleContext;
 import org.osgi.framework.FrameworkUtil;
@@ -108,7 +108,9 @@ public Object start(final IApplicationContext context) throws Exception {
             switch (exit) {
                 // only report usage when the batch executor actually ran
                 case IBatchExecutor.EXIT_ERR_EXECUTION, IBatchExecutor.EXIT_WARN, IBatchExecutor.EXIT_SUCCESS:
-                    NodeTimer.GLOBAL_TIMER.performShutdown();
+                    // bounded, a slow network must not delay the end of the batch run
+                    UsageDataFlush.start();
+                    UsageDataFlush.await();
                     break;
                 default:
                     // don't report errors during workflow load and/or batch executor usage problem (cmd line errors)
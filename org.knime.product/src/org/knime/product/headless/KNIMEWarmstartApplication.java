@@ -44,11 +44,17 @@
  */
 package org.knime.product.headless;
 
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.function.Consumer;
+
 import org.eclipse.core.runtime.Platform;
 import org.eclipse.equinox.app.IApplication;
 import org.eclipse.equinox.app.IApplicationContext;
 import org.knime.core.internal.CorePlugin;
 import org.knime.core.node.NodeLogger;
+import org.knime.product.headless.WarmstartActionRegistry.WarmstartActionResult;
 import org.knime.product.headless.WarmstartActionRegistry.WarmstartExecutionSummary;
 import org.knime.product.rcp.StatusLoggerHelper;
 import org.osgi.framework.Bundle;
@@ -68,6 +74,16 @@
  * It's particularly useful for pre-warming Docker containers to reduce startup time for subsequent application runs.
  * </p>
  *
+ * <p>
+ * The following application arguments are supported:
+ * <ul>
+ * <li>{@code -reportFile <path>}: writes a JSON report with the timing and outcome of every action to the given
+ * file</li>
+ * <li>{@code -jsonLines}: additionally prints every action result as a single JSON line (prefixed with
+ * {@value WarmstartReport#JSON_LINE_PREFIX}) to stdout as soon as the action has finished</li>
+ * </ul>
+ * </p>
+ *
  * @author Marc Lehner, KNIME AG, Zurich, Switzerland
  * @since 5.9
  */
@@ -84,6 +100,14 @@ public class KNIMEWarmstartApplication implements IApplication {
 
     private static final int EXIT_CODE_ERROR = 1;
 
+    private static final String ARG_REPORT_FILE = "-reportFile";
+
+    private static final String ARG_JSON_LINES = "-jsonLines";
+
+    private Path m_reportFile;
+
+    private boolean m_jsonLines;
+
     /**
      * Prints a message to stdout and flushes immediately for visibility in Docker logs.
      * We use this instead of the logger to ensure messages appear during the warmstart process,
@@ -107,6 +131,8 @@ public Object start(final IApplicationContext context) throws Exception {
         LOGGER.info("Starting KNIME Warmstart Application");
 
         try {
+            parseApplicationArguments(context);
+
             // Starting the Core plugin initializes `IEarlyStartup` and runs the `EARLIEST` stage
             LOGGER.debug("Initializing CorePlugin");
             printAndFlush("=== WARMSTART: Initializing CorePlugin ===");
@@ -129,7 +155,10 @@ public Object start(final IApplicationContext context) throws Exception {
             printAndFlush("=== WARMSTART: Executing warmstart actions ===");
             LOGGER.info("Executing all registered warmstart actions");
 
-            WarmstartExecutionSummary summary = WarmstartActionRegistry.executeAllActions();
+            final Consumer<WarmstartActionResult> resultListener =
+                m_jsonLines ? KNIMEWarmstartApplication::printJsonLine : r -> { /* no streaming */ };
+            WarmstartExecutionSummary summary = WarmstartActionRegistry.executeAllActions(resultListener);
+            writeReport(summary);
 
             // Report final results
             printAndFlush("=== WARMSTART: Execution Summary ===");
@@ -159,6 +188,42 @@ public Object start(final IApplicationContext context) throws Exception {
         }
     }
 
+    private static void printJsonLine(final WarmstartActionResult result) {
+        printAndFlush(WarmstartReport.JSON_LINE_PREFIX + WarmstartReport.toJsonLine(result));
+    }
+
+    private void parseApplicationArguments(final IApplicationContext context) {
+        final Object args = context.getArguments().get(IApplicationContext.APPLICATION_ARGS);
+        if (!(args instanceof String[] stringArgs)) {
+            return;
+        }
+        for (var i = 0; i < stringArgs.length; i++) {
+            if (ARG_JSON_LINES.equals(stringArgs[i])) {
+                m_jsonLines = true;
+            } else if (ARG_REPORT_FILE.equals(stringArgs[i])) {
+                if (stringArgs.length == (i + 1)) {
+                    throw new IllegalArgumentException("Missing path argument for " + ARG_REPORT_FILE);
+                }
+                i++; // get next argument
+                m_reportFile = Paths.get(stringArgs[i]);
+            }
+        }
+    }
+
+    private void writeReport(final WarmstartExecutionSummary summary) {
+        if (m_reportFile == null) {
+            return;
+        }
+        try {
+            WarmstartReport.write(summary, m_reportFile);
+            printAndFlush("=== WARMSTART: Report written to " + m_reportFile.toAbsolutePath() + " ===");
+        } catch (IOException e) {
+            // the report is diagnostic only, it must not change the outcome of the warmstart
+            LOGGER.error("Could not write warmstart report to " + m_reportFile + ": " + e.getMessage(), e);
+            printAndFlush("=== WARMSTART: Could not write report to " + m_reportFile + " ===");
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -48,9 +48,13 @@
  */
 package org.knime.product.headless;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
+import java.util.function.Consumer;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IConfigurationElement;
@@ -94,6 +98,19 @@ private WarmstartActionRegistry() {
      * @return a summary of the execution results
      */
     public static WarmstartExecutionSummary executeAllActions() {
+        return executeAllActions(r -> {
+        });
+    }
+
+    /**
+     * Discovers and executes all registered warmstart actions, notifying the given listener as soon as the result of an
+     * individual action is known (e.g. to stream results while the warmstart is still running).
+     *
+     * @param resultListener called once per discovered action (including skipped ones) in execution order
+     * @return a summary of the execution results, including the per-action results
+     * @since 5.12
+     */
+    public static WarmstartExecutionSummary executeAllActions(final Consumer<WarmstartActionResult> resultListener) {
         LOGGER.info("=== STARTING WARMSTART ACTION EXECUTION ===");
 
         List<WarmstartActionDescriptor> descriptors = discoverWarmstartActions();
@@ -108,6 +125,7 @@ public static WarmstartExecutionSummary executeAllActions() {
 
         LOGGER.info("Found " + descriptors.size() + " warmstart action(s)");
 
+        final List<WarmstartActionResult> results = new ArrayList<>(descriptors.size());
         int executed = 0;
         int successful = 0;
         int failed = 0;
@@ -122,19 +140,26 @@ public static WarmstartExecutionSummary executeAllActions() {
             if (hasFailure && !descriptor.executeAfterFailures()) {
                 LOGGER.info("Skipping '" + descriptor.name() + "' due to previous failures");
                 skipped++;
+                final Instant now = Instant.now();
+                publish(WarmstartActionResult.of(descriptor, now, now, WarmstartActionOutcome.SKIPPED,
+                    "skipped due to previous failures", null), results, resultListener);
                 continue;
             }
 
             executed++;
+            final Instant start = Instant.now();
 
             try {
                 IWarmstartAction action = createActionInstance(descriptor);
                 WarmstartResult result = action.execute();
+                final Instant end = Instant.now();
 
                 if (result.isSuccessful()) {
                     successful++;
                     String message = result.message() != null ? result.message() : "completed successfully";
                     LOGGER.info("✓ '" + descriptor.name() + "' " + message);
+                    publish(WarmstartActionResult.of(descriptor, start, end, WarmstartActionOutcome.SUCCESS,
+                        result.message(), result.throwable()), results, resultListener);
                 } else {
                     failed++;
                     hasFailure = true;
@@ -144,17 +169,22 @@ public static WarmstartExecutionSummary executeAllActions() {
                     } else {
                         LOGGER.error("✗ '" + descriptor.name() + "' " + message);
                     }
+                    publish(WarmstartActionResult.of(descriptor, start, end, WarmstartActionOutcome.FAILURE,
+                        result.message(), result.throwable()), results, resultListener);
                 }
 
             } catch (Exception e) {
+                final Instant end = Instant.now();
                 failed++;
                 hasFailure = true;
                 LOGGER.error("✗ '" + descriptor.name() + "' failed with exception", e);
+                publish(WarmstartActionResult.of(descriptor, start, end, WarmstartActionOutcome.EXCEPTION,
+                    e.getMessage(), e), results, resultListener);
             }
         }
 
         WarmstartExecutionSummary summary =
-            new WarmstartExecutionSummary(descriptors.size(), executed, successful, failed);
+            new WarmstartExecutionSummary(descriptors.size(), executed, successful, failed, results);
 
         LOGGER.info("=== WARMSTART ACTION EXECUTION COMPLETE ===");
         LOGGER.info(
@@ -164,6 +194,16 @@ public static WarmstartExecutionSummary executeAllActions() {
         return summary;
     }
 
+    private static void publish(final WarmstartActionResult result, final List<WarmstartActionResult> results,
+        final Consumer<WarmstartActionResult> resultListener) {
+        results.add(result);
+        try {
+            resultListener.accept(result);
+        } catch (RuntimeException e) { // NOSONAR a broken listener must not abort the warmstart
+            LOGGER.warn("Failed to report result of warmstart action '" + result.name() + "'", e);
+        }
+    }
+
     /**
      * Discovers all warmstart actions registered via the extension point.
      *
@@ -267,6 +307,52 @@ private record WarmstartActionDescriptor(String id, String name, String classNam
         boolean executeAfterFailures, IConfigurationElement configElement) {
     }
 
+    /**
+     * Outcome of a single warmstart action.
+     *
+     * @since 5.12
+     */
+    public enum WarmstartActionOutcome {
+            /** The action reported success. */
+            SUCCESS,
+            /** The action reported a failure. */
+            FAILURE,
+            /** The action could not be created or threw an exception. */
+            EXCEPTION,
+            /** The action was not executed because a previous action failed. */
+            SKIPPED;
+    }
+
+    /**
+     * Result of a single warmstart action including its timing.
+     *
+     * @param id the unique identifier of the action as declared in the extension
+     * @param name the human-readable name of the action
+     * @param priority the execution priority of the action
+     * @param start the time the action was started (or skipped)
+     * @param end the time the action finished (or was skipped)
+     * @param outcome the outcome of the action
+     * @param message optional message describing the result, may be {@code null}
+     * @param exceptionClass the class name of the associated throwable, may be {@code null}
+     * @since 5.12
+     */
+    public record WarmstartActionResult(String id, String name, int priority, Instant start, Instant end,
+        WarmstartActionOutcome outcome, String message, String exceptionClass) {
+
+        private static WarmstartActionResult of(final WarmstartActionDescriptor descriptor, final Instant start,
+            final Instant end, final WarmstartActionOutcome outcome, final String message, final Throwable throwable) {
+            return new WarmstartActionResult(descriptor.id(), descriptor.name(), descriptor.priority(), start, end,
+                outcome, message, throwable != null ? throwable.getClass().getName() : null);
+        }
+
+        /**
+         * @return the wall-clock duration of the action
+         */
+        public Duration duration() {
+            return Duration.between(start, end);
+        }
+    }
+
     /**
      * Summary of warmstart action execution results.
      *
@@ -274,9 +360,30 @@ private record WarmstartActionDescriptor(String id, String name, String classNam
      * @param executedActions number of actions that were executed
      * @param successfulActions number of actions that completed successfully
      * @param failedActions number of actions that failed
+     * @param actionResults the results of all discovered actions in execution order (since 5.12)
      */
     public record WarmstartExecutionSummary(int totalActions, int executedActions, int successfulActions,
-        int failedActions) {
+        int failedActions, List<WarmstartActionResult> actionResults) {
+
+        /**
+         * Creates a new summary.
+         */
+        public WarmstartExecutionSummary {
+            actionResults = actionResults == null ? List.of() : Collections.unmodifiableList(actionResults);
+        }
+
+        /**
+         * Creates a new summary without per-action results.
+         *
+         * @param totalActions total number of actions discovered
+         * @param executedActions number of actions that were executed
+         * @param successfulActions number of actions that completed successfully
+         * @param failedActions number of actions that failed
+         */
+        public WarmstartExecutionSummary(final int totalActions, final int executedActions,
+            final int successfulActions, final int failedActions) {
+            this(totalActions, executedActions, successfulActions, failedActions, List.of());
+        }
 
         /**
          * @return number of actions that were skipped due to failures
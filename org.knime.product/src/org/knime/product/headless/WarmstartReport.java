@@ -0,0 +1,156 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.product.headless;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+
+import org.knime.product.headless.WarmstartActionRegistry.WarmstartActionResult;
+import org.knime.product.headless.WarmstartActionRegistry.WarmstartExecutionSummary;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Machine-readable representation of a warmstart run. The report contains one entry per discovered warmstart action
+ * with its timings and outcome, so that the cost of individual actions can be tracked across releases.
+ *
+ * <p>
+ * Two formats are supported: a single JSON document (see {@link #write(WarmstartExecutionSummary, Path)}) and one JSON
+ * object per line (see {@link #toJsonLine(WarmstartActionResult)}), which is meant to be streamed to stdout while the
+ * warmstart is still running.
+ * </p>
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 5.12
+ */
+public final class WarmstartReport {
+
+    /** Version of the report format, increased on incompatible changes. */
+    static final int FORMAT_VERSION = 1;
+
+    /** Prefix of streamed JSON lines, allows to separate them from other output on stdout. */
+    public static final String JSON_LINE_PREFIX = "WARMSTART_JSON ";
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private WarmstartReport() {
+        // Utility class - no instantiation
+    }
+
+    /**
+     * Writes the summary as a JSON document to the given file. The file is written to a temporary sibling first and
+     * then moved into place so that readers never see a partial report.
+     *
+     * @param summary the warmstart summary
+     * @param reportFile the target file, parent folders are created if necessary
+     * @throws IOException if the report cannot be written
+     */
+    public static void write(final WarmstartExecutionSummary summary, final Path reportFile) throws IOException {
+        final Path absolute = reportFile.toAbsolutePath();
+        Files.createDirectories(absolute.getParent());
+        final Path tmp = Files.createTempFile(absolute.getParent(), absolute.getFileName().toString(), ".tmp");
+        try {
+            MAPPER.writer().with(SerializationFeature.INDENT_OUTPUT).writeValue(tmp.toFile(), toJson(summary));
+            Files.move(tmp, absolute, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+
+    /**
+     * Converts a single action result into a one-line JSON string (without the {@link #JSON_LINE_PREFIX}).
+     *
+     * @param result the action result
+     * @return the JSON string, never containing line breaks
+     */
+    public static String toJsonLine(final WarmstartActionResult result) {
+        try {
+            return MAPPER.writeValueAsString(toJson(result));
+        } catch (JsonProcessingException e) {
+            // cannot happen for tree nodes, but do not let the report break the warmstart
+            throw new IllegalStateException("Unable to serialize warmstart result: " + e.getMessage(), e);
+        }
+    }
+
+    static ObjectNode toJson(final WarmstartExecutionSummary summary) {
+        final ObjectNode root = MAPPER.createObjectNode();
+        root.put("formatVersion", FORMAT_VERSION);
+        root.put("createdAt", Instant.now().toString());
+        root.put("totalActions", summary.totalActions());
+        root.put("executedActions", summary.executedActions());
+        root.put("successfulActions", summary.successfulActions());
+        root.put("failedActions", summary.failedActions());
+        root.put("skippedActions", summary.skippedActions());
+        root.put("totalDurationMillis",
+            summary.actionResults().stream().mapToLong(r -> r.duration().toMillis()).sum());
+        final var actions = root.putArray("actions");
+        summary.actionResults().forEach(r -> actions.add(toJson(r)));
+        return root;
+    }
+
+    static ObjectNode toJson(final WarmstartActionResult result) {
+        final ObjectNode node = MAPPER.createObjectNode();
+        node.put("id", result.id());
+        node.put("name", result.name());
+        node.put("priority", result.priority());
+        node.put("start", result.start().toString());
+        node.put("end", result.end().toString());
+        node.put("durationMillis", result.duration().toMillis());
+        node.put("outcome", result.outcome().name());
+        node.put("message", result.message());
+        node.put("exceptionClass", result.exceptionClass());
+        return node;
+    }
+}
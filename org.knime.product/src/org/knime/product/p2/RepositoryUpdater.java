@@ -59,6 +59,8 @@
 import java.util.EventObject;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.regex.Pattern;
 
 import org.eclipse.equinox.internal.provisional.p2.core.eventbus.IProvisioningEventBus;
@@ -93,6 +95,8 @@ public class RepositoryUpdater implements ProvisioningListener {
 
     private final Set<URI> m_addedDefaultRepositories = new HashSet<>();
 
+    private volatile CompletionStage<Void> m_repositoriesSetUp = CompletableFuture.completedFuture(null);
+
     private RepositoryUpdater() {
         BundleContext context = FrameworkUtil.getBundle(getClass()).getBundleContext();
         ServiceReference<IProvisioningAgent> ref = context.getServiceReference(IProvisioningAgent.class);
@@ -111,6 +115,31 @@ private RepositoryUpdater() {
         }
     }
 
+    /**
+     * Announces that {@link #addDefaultRepositories()} and {@link #updateArtifactRepositoryURLs()} are executed later,
+     * e.g. after the workbench has been opened. Until the given stage completes, {@link #whenRepositoriesSetUp()}
+     * returns an incomplete future.
+     *
+     * @param setUp a stage that completes once the repository setup is done (also if it failed)
+     * @since 5.12
+     */
+    public void deferRepositorySetUp(final CompletionStage<Void> setUp) {
+        m_repositoriesSetUp = setUp;
+    }
+
+    /**
+     * Returns a future that completes once a setup announced via {@link #deferRepositorySetUp(CompletionStage)} is
+     * done. Everything that queries the known repositories early (e.g. update checks of the intro page) must wait for
+     * it, otherwise it misses the default repositories on a fresh installation. If no setup has been deferred, the
+     * returned future is already complete.
+     *
+     * @return a future that completes once the repositories have been set up
+     * @since 5.12
+     */
+    public CompletableFuture<Void> whenRepositoriesSetUp() {
+        return m_repositoriesSetUp.toCompletableFuture().copy();
+    }
+
     /**
      * Updates the URLs of all enabled artifact repository by adding the KNIME ID to them.
      */
@@ -95,12 +95,12 @@
 import org.eclipse.core.runtime.IConfigurationElement;
 import org.eclipse.core.runtime.IExtensionPoint;
 import org.eclipse.core.runtime.Platform;
-import org.knime.core.node.NodeLogger;
 import org.knime.core.util.KNIMEServerHostnameVerifier;
 import org.knime.core.util.Pair;
 import org.knime.core.util.PathUtils;
 import org.knime.core.util.proxy.URLConnectionFactory;
 import org.knime.core.util.proxy.apache.ProxyHttpClients;
+import org.knime.product.rcp.startup.EarlyStartupLogBuffer;
 import org.osgi.framework.FrameworkUtil;
 
 import com.google.common.base.Supplier;
@@ -129,7 +129,7 @@ public class ProfileManager {
     // Does not exist in `jakarta.ws.rs.core.MediaType`. Package scope for tests.
     static final String PREFERENCES_MEDIA_TYPE = "application/zip";
 
-    private final List<Runnable> m_collectedLogs = new ArrayList<>(2);
+    private final EarlyStartupLogBuffer m_collectedLogs = new EarlyStartupLogBuffer(ProfileManager.class);
 
     private final List<Profile> m_appliedProfiles = new LinkedList<>();
 
@@ -193,9 +193,8 @@ private List<Supplier<IProfileProvider>> getExtensionPointProviderSuppliers() {
             try {
                 return (IProfileProvider)extension.createExecutableExtension("class");
             } catch (CoreException ex) {
-                m_collectedLogs.add(() -> NodeLogger.getLogger(ProfileManager.class).error( //
-                    "Could not create profile provider instance from class " //
-                        + extension.getAttribute("class") + ". No profiles will be processed.", ex));
+                m_collectedLogs.queueError(() -> "Could not create profile provider instance from class " //
+                    + extension.getAttribute("class") + ". No profiles will be processed.", ex);
                 return new EmptyProfileProvider();
             }
         };
@@ -228,11 +227,10 @@ void applyProfiles(final boolean overwrite) {
         try {
             applyPreferences(localProfiles, overwrite);
         } catch (IOException | ReflectiveOperationException ex) {
-            m_collectedLogs.add(() -> NodeLogger.getLogger(ProfileManager.class)
-                .error("Could not apply preferences from profiles: " + ex.getMessage(), ex));
+            m_collectedLogs.queueError(() -> "Could not apply preferences from profiles: " + ex.getMessage(), ex);
         }
 
-        m_collectedLogs.stream().forEach(r -> r.run());
+        m_collectedLogs.replay();
     }
 
     private void applyPreferences(final List<Profile> profiles, final boolean overwrite)
@@ -259,8 +257,8 @@ private void applyPreferences(final List<Profile> profiles, final boolean overwr
                 replaceVariables(props, profile);
                 combinedProperties.putAll(props);
             }
-            m_collectedLogs.add(() -> NodeLogger.getLogger(ProfileManager.class).debug(String.format( //
-                "Applied profile \"%s\" from %s", profile.name(), profile.provider().getProfilesLocation())));
+            m_collectedLogs.queueDebug(() -> String.format( //
+                "Applied profile \"%s\" from %s", profile.name(), profile.provider().getProfilesLocation()));
         }
 
         // remove "/instance" prefixes from preferences because otherwise they are not applied as default preferences
@@ -278,9 +276,8 @@ private void applyPreferences(final List<Profile> profiles, final boolean overwr
             final var nonWorkingFile = pluginCustFile;
             pluginCustFile = tempCustFile;
 
-            m_collectedLogs
-                .add(() -> NodeLogger.getLogger(ProfileManager.class).warn("Could not write combined preferences file '"
-                    + nonWorkingFile + "', will use temporary file '" + tempCustFile + "' instead."));
+            m_collectedLogs.queueWarn(() -> "Could not write combined preferences file '" + nonWorkingFile
+                + "', will use temporary file '" + tempCustFile + "' instead.");
         }
 
         // It's important here to write to a stream and not a reader because when reading the file back in
@@ -520,7 +517,7 @@ private Path fetchNext() throws IllegalArgumentException {
         }
 
         private Path download(final IProfileProvider provider, final CloseableHttpClient client,
-            final HttpUriRequest request, final List<Runnable> logs) {
+            final HttpUriRequest request, final EarlyStartupLogBuffer logs) {
             final var stateDir = getStateLocation();
             final var profileDir = stateDir.resolve(provider.getClass().getName());
 
@@ -550,7 +547,7 @@ private Path download(final IProfileProvider provider, final CloseableHttpClient
                 String msg = "Could not download profiles from " + provider.getProfilesLocation() + ": "
                     + ex.getMessage() + ". " + (Files.isDirectory(profileDir)
                         ? "Will use existing but potentially outdated profiles." : "No profiles will be applied.");
-                logs.add(() -> NodeLogger.getLogger(ProfileManager.class).error(msg, ex));
+                logs.queueError(msg, ex);
             }
 
             return profileDir;
@@ -560,14 +557,13 @@ private Path download(final IProfileProvider provider, final CloseableHttpClient
 
         @SuppressWarnings("resource")
         private static Pair<CloseableHttpClient, HttpUriRequest> createHttpRequest(final IProfileProvider provider,
-            final List<Runnable> logs) {
+            final EarlyStartupLogBuffer logs) {
             try {
                 final var builder = new URIBuilder(provider.getProfilesLocation());
                 builder.addParameter("profiles", String.join(",", provider.getRequestedProfiles()));
                 final var profileUri = builder.build();
 
-                logs.add(
-                    () -> NodeLogger.getLogger(ProfileManager.class).info("Downloading profiles from " + profileUri));
+                logs.queueInfo(() -> "Downloading profiles from " + profileUri);
 
                 // proxy and timeout configuration
                 final var proxy = ProxySelector.getDefault().select(profileUri).stream() //
@@ -593,7 +589,7 @@ private static Pair<CloseableHttpClient, HttpUriRequest> createHttpRequest(final
             } catch (URISyntaxException ex) {
                 String msg = "Could not create HTTP client for downloading profiles from "
                     + provider.getProfilesLocation() + ": " + ex.getMessage();
-                logs.add(() -> NodeLogger.getLogger(ProfileManager.class).error(msg, ex));
+                logs.queueError(msg, ex);
                 return null;
             }
         }
@@ -52,13 +52,12 @@
 import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.util.List;
 import java.util.Optional;
 import java.util.Properties;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
-import org.knime.core.node.NodeLogger;
+import org.knime.product.rcp.startup.EarlyStartupLogBuffer;
 
 /**
  * Abstract class for replacing variables in preference values. A replacer looks for patterns such as
@@ -72,7 +71,7 @@ abstract class VariableReplacer {
      * Replaces environment variables, prefix "env".
      */
     static class EnvVariableReplacer extends VariableReplacer {
-        EnvVariableReplacer(final List<Runnable> logMessages) {
+        EnvVariableReplacer(final EarlyStartupLogBuffer logMessages) {
             super("env", logMessages);
         }
 
@@ -86,7 +85,7 @@ Optional<String> getVariableValue(final String varName) {
      * Replaces system properties, prefix "sysprop".
      */
     static class SyspropVariableReplacer extends VariableReplacer {
-        SyspropVariableReplacer(final List<Runnable> logMessages) {
+        SyspropVariableReplacer(final EarlyStartupLogBuffer logMessages) {
             super("sysprop", logMessages);
         }
 
@@ -103,7 +102,7 @@ Optional<String> getVariableValue(final String varName) {
     static class ProfileVariableReplacer extends VariableReplacer {
         private final Path m_profileLocation;
 
-        ProfileVariableReplacer(final Path profileLocation, final List<Runnable> logMessages) {
+        ProfileVariableReplacer(final Path profileLocation, final EarlyStartupLogBuffer logMessages) {
             super("profile", logMessages);
             m_profileLocation = profileLocation;
         }
@@ -121,15 +120,15 @@ Optional<String> getVariableValue(final String varName) {
     static class OriginVariableReplacer extends VariableReplacer {
         private final Properties m_originHeaders = new Properties();
 
-        OriginVariableReplacer(final Path originHeadersCache, final List<Runnable> logMessages) throws IOException {
+        OriginVariableReplacer(final Path originHeadersCache, final EarlyStartupLogBuffer logMessages) throws IOException {
             super("origin", logMessages);
             if (Files.isReadable(originHeadersCache)) {
                 try (InputStream is = Files.newInputStream(originHeadersCache)) {
                     m_originHeaders.load(is);
                 }
             } else {
-                logMessages.add(() -> NodeLogger.getLogger(getClass()).warn("Origin headers cache file '"
-                    + originHeadersCache + "' does not exist. 'origin' variables will not be replaced."));
+                logMessages.queueWarn(getClass(), () -> "Origin headers cache file '" + originHeadersCache
+                    + "' does not exist. 'origin' variables will not be replaced.");
             }
         }
 
@@ -149,7 +148,7 @@ Optional<String> getVariableValue(final String varName) {
     static class CustomVariableReplacer extends VariableReplacer {
         private final IProfileProvider m_provider;
 
-        CustomVariableReplacer(final IProfileProvider provider, final List<Runnable> logMessages) {
+        CustomVariableReplacer(final IProfileProvider provider, final EarlyStartupLogBuffer logMessages) {
             super("custom", logMessages);
             m_provider = provider;
         }
@@ -163,15 +162,15 @@ Optional<String> getVariableValue(final String varName) {
 
     private final Pattern m_pattern;
 
-    private final List<Runnable> m_logMessages;
+    private final EarlyStartupLogBuffer m_logMessages;
 
     /**
      * Creates a new replacer with the given variable prefix.
      *
      * @param prefix the prefix, must not be <code>null</code>
-     * @param logMessages a list where deferred log messages are collected
+     * @param logMessages a buffer where deferred log messages are collected
      */
-    protected VariableReplacer(final String prefix, final List<Runnable> logMessages) {
+    protected VariableReplacer(final String prefix, final EarlyStartupLogBuffer logMessages) {
         m_pattern = Pattern.compile("(?<!\\$)(\\$\\{" + prefix + ":([^\\}]+)\\})");
         m_logMessages = logMessages;
     }
@@ -187,8 +186,8 @@ String replaceVariables(final String value) {
             if (var.isPresent()) {
                 newValue = newValue.replace(pattern, var.get());
             } else {
-                m_logMessages.add(() -> NodeLogger.getLogger(VariableReplacer.this.getClass())
-                    .warn("Variable " + pattern + " in server-managed preferences is unknown"));
+                m_logMessages.queueWarn(getClass(),
+                    () -> "Variable " + pattern + " in server-managed preferences is unknown");
             }
         }
 
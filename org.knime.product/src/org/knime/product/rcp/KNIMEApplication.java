@@ -61,6 +61,7 @@
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.SWTException;
 import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Shell;
 import org.eclipse.ui.IWorkbench;
 import org.eclipse.ui.PlatformUI;
 import org.eclipse.ui.application.WorkbenchAdvisor;
@@ -79,8 +80,11 @@
 import org.knime.product.ProductPlugin;
 import org.knime.product.p2.RepositoryUpdater;
 import org.knime.product.profiles.ProfileManager;
+import org.knime.product.rcp.StartupTaskScheduler.Stage;
 import org.knime.product.rcp.intro.IntroPage;
 import org.knime.product.rcp.startup.LongStartupHandler;
+import org.knime.product.rcp.startup.SpeculativeWarmup;
+import org.knime.product.rcp.startup.StartupTimeline;
 import org.knime.product.rcp.startup.WindowsDefenderExceptionHandler;
 import org.osgi.framework.Bundle;
 import org.osgi.framework.FrameworkUtil;
@@ -137,18 +141,29 @@ public Object start(final IApplicationContext appContext) throws Exception {
         // Starting the Core plugin initializes `IEarlyStartup` and runs the `EARLIEST` stage
         // (if not done so already because Eclipse activates the bundle otherwise)
         CorePlugin.getInstance();
+        final var timeline = StartupTimeline.getInstance();
+        timeline.mark(StartupTimeline.EARLY_STARTUP_EARLIEST);
 
         // silence Log4j2's StatusLogger used for internal framework logging
         StatusLoggerHelper.disableStatusLogger();
 
+        // a second launch with files or URLs to open hands them to the running instance and exits
+        if (forwardToRunningInstance(appContext)) {
+            appContext.applicationRunning();
+            return EXIT_OK;
+        }
+
         Display display = createDisplay();
+        SingleInstanceChannel singleInstanceChannel = null;
+        timeline.mark(StartupTimeline.DISPLAY_CREATED);
 
         try {
             // open document listener needs to be registered as first
             // thing to account for open document events during startup
-            KNIMEOpenDocumentEventProcessor openDocProcessor = new KNIMEOpenDocumentEventProcessor();
+            final var openRequests = new OpenRequestQueue();
+            KNIMEOpenDocumentEventProcessor openDocProcessor = new KNIMEOpenDocumentEventProcessor(openRequests);
             display.addListener(SWT.OpenDocument, openDocProcessor);
-            KNIMEOpenUrlEventProcessor openUrlProcessor = new KNIMEOpenUrlEventProcessor();
+            KNIMEOpenUrlEventProcessor openUrlProcessor = new KNIMEOpenUrlEventProcessor(openRequests);
             display.addListener(SWT.OpenUrl, openUrlProcessor);
 
             // Before AP-21449, it was forbidden to use the NodeLogger before logging had been initialized, which would
@@ -159,15 +174,35 @@ public Object start(final IApplicationContext appContext) throws Exception {
             // that users don't expect. If we would ever break our buffering, we should hear from (internal) nightly
             // users quickly.
             NodeLogger.getLogger(KNIMEApplication.class).debug("Checking for instance location");
-            if (!checkInstanceLocation()) {
+            // if the workspace chooser is going to be shown, use the user's think time to warm up the JVM
+            final Location instanceLocation = Platform.getInstanceLocation();
+            final SpeculativeWarmup warmup =
+                instanceLocation != null && !instanceLocation.isSet() ? SpeculativeWarmup.start() : null;
+            final boolean instanceLocationSet;
+            try {
+                instanceLocationSet = checkInstanceLocation();
+            } finally {
+                if (warmup != null) {
+                    warmup.stop();
+                }
+            }
+            if (!instanceLocationSet) {
                 NodeLogger.getLogger(KNIMEApplication.class).debug("Instance location not set");
                 appContext.applicationRunning();
                 return EXIT_OK;
             }
             NodeLogger.getLogger(KNIMEApplication.class).debug("Instance location set");
+            timeline.mark(StartupTimeline.INSTANCE_LOCATION_LOCKED, warmup != null);
+            if (warmup != null) {
+                warmup.logSummary();
+            }
+            singleInstanceChannel = listenForForwardedRequests(display, openRequests);
 
             final boolean defenderDialogShown = WindowsDefenderExceptionHandler.getInstance()
                 .checkForAndAddExceptionToWindowsDefender("startup-dialog-noshow", display);
+            if (defenderDialogShown) {
+                timeline.mark(StartupTimeline.WINDOWS_DEFENDER_DIALOG, true);
+            }
             LongStartupHandler.getInstance().onStartupCommenced("startup-dialog-noshow", !defenderDialogShown, display);
 
             ViewUtils.setLookAndFeel();
@@ -177,8 +212,10 @@ public Object start(final IApplicationContext appContext) throws Exception {
             }
 
             ProfileManager.getInstance().applyProfiles();
+            timeline.mark(StartupTimeline.PROFILES_APPLIED);
             // this application is "profile aware" and special-cased in IEarlyStartup, so follow the contract
             IEarlyStartup.runAfterProfilesLoaded();
+            timeline.mark(StartupTimeline.EARLY_STARTUP_AFTER_PROFILES);
 
             // Load node factories asynchronously because the process is very slow, has to happen after the workspace
             // has been selected because the `NodeLogger` class may be loaded, which needs a workspace to log to.
@@ -191,25 +228,47 @@ public Object start(final IApplicationContext appContext) throws Exception {
 
             parseApplicationArguments(appContext);
 
-            RepositoryUpdater.INSTANCE.addDefaultRepositories();
-            RepositoryUpdater.INSTANCE.updateArtifactRepositoryURLs();
-
-            fixPerspectiveSwitchProblem();
-            updateTheme();
-
+            // the theme depends on the perspective that may be changed by the fix; the p2 repository setup is not
+            // needed for opening the first window and therefore runs after the workbench has started, concurrently
+            // with the UI steps
+            final var startupTasks = new StartupTaskScheduler()
+                .add("fixPerspectiveSwitchProblem", Stage.BEFORE_WORKBENCH,
+                    KNIMEApplication::fixPerspectiveSwitchProblem)
+                .add("updateTheme", Stage.BEFORE_WORKBENCH, KNIMEApplication::updateTheme,
+                    "fixPerspectiveSwitchProblem")
+                .add("addDefaultRepositories", Stage.DEFERRED, RepositoryUpdater.INSTANCE::addDefaultRepositories)
+                .add("updateArtifactRepositoryURLs", Stage.DEFERRED,
+                    RepositoryUpdater.INSTANCE::updateArtifactRepositoryURLs, "addDefaultRepositories");
+            // update checks wait for the deferred setup via RepositoryUpdater#whenRepositoriesSetUp
+            RepositoryUpdater.INSTANCE.deferRepositorySetUp(startupTasks.whenDone("updateArtifactRepositoryURLs"));
+            startupTasks.runBeforeWorkbench();
+            timeline.mark(StartupTimeline.WORKBENCH_PREPARED);
 
             int returnCode;
+            if (m_checkForUpdates) {
+                // the update check needs the repositories right away
+                startupTasks.awaitDeferred();
+            }
             if (m_checkForUpdates && checkForUpdates()) {
                 returnCode = PlatformUI.RETURN_RESTART;
             } else {
                 startDeadlockDetectors(display);
+                final var swtMonitor = UIResponsivenessMonitor.startIfEnabled("SWT Display thread",
+                    display.getThread(), display::asyncExec);
+                final var awtMonitor =
+                    UIResponsivenessMonitor.startIfEnabled("AWT Event Queue", null, EventQueue::invokeLater);
 
-                // create the workbench with this advisor and run it until it exits
-                // N.B. createWorkbench remembers the advisor, and also registers
-                // the workbench globally so that all UI plug-ins can find it using
-                // PlatformUI.getWorkbench() or AbstractUIPlugin.getWorkbench()
-                returnCode =
-                    PlatformUI.createAndRunWorkbench(display, getWorkbenchAdvisor(openDocProcessor, openUrlProcessor));
+                try {
+                    // create the workbench with this advisor and run it until it exits
+                    // N.B. createWorkbench remembers the advisor, and also registers
+                    // the workbench globally so that all UI plug-ins can find it using
+                    // PlatformUI.getWorkbench() or AbstractUIPlugin.getWorkbench()
+                    returnCode = PlatformUI.createAndRunWorkbench(display,
+                        getWorkbenchAdvisor(openDocProcessor, openUrlProcessor, startupTasks));
+                } finally {
+                    stopResponsivenessMonitor(swtMonitor, "ui-stalls-swt.collapsed");
+                    stopResponsivenessMonitor(awtMonitor, "ui-stalls-awt.collapsed");
+                }
             }
 
             // the workbench doesn't support relaunch yet (bug 61809) so
@@ -223,6 +282,9 @@ public Object start(final IApplicationContext appContext) throws Exception {
             return EXIT_RELAUNCH.equals(Integer.getInteger(PROP_EXIT_CODE)) ? EXIT_RELAUNCH
                     : EXIT_RESTART;
         } finally {
+            if (singleInstanceChannel != null) {
+                singleInstanceChannel.close();
+            }
             if (display != null) {
                 try {
                     display.dispose();
@@ -346,9 +408,53 @@ private void parseApplicationArguments(final IApplicationContext context)
         }
     }
 
+    /*
+     * Forwards the files and URLs given on the command line to an instance that is already running, preferably the one
+     * on the requested workspace. Returns false if there is nothing to forward or no instance accepted it.
+     */
+    private static boolean forwardToRunningInstance(final IApplicationContext context) {
+        if (!(context.getArguments().get(IApplicationContext.APPLICATION_ARGS) instanceof String[] args)) {
+            return false;
+        }
+        final var request = SingleInstanceChannel.Request.fromArguments(args);
+        if (request.isEmpty()) {
+            return false;
+        }
+        final Location instanceLoc = Platform.getInstanceLocation();
+        final Path workspace = instanceLoc != null && instanceLoc.isSet()
+            ? new File(instanceLoc.getURL().getPath()).toPath() : null;
+        return SingleInstanceChannel.forward(SingleInstanceChannel.getDefaultDirectory(), workspace, request);
+    }
+
+    /*
+     * Listens for files and URLs forwarded by later launches and the protocol handler. They are queued together with
+     * SWT's own open events and the window is brought to the front.
+     */
+    private static SingleInstanceChannel listenForForwardedRequests(final Display display,
+        final OpenRequestQueue openRequests) {
+        try {
+            final var workspace = new File(Platform.getInstanceLocation().getURL().getPath()).toPath();
+            return SingleInstanceChannel.listen(SingleInstanceChannel.getDefaultDirectory(), workspace, request -> {
+                request.files().forEach(openRequests::addFile);
+                request.urls().forEach(openRequests::addUrl);
+                display.asyncExec(() -> {
+                    if (PlatformUI.isWorkbenchRunning() && PlatformUI.getWorkbench().getWorkbenchWindowCount() > 0) {
+                        final Shell shell = PlatformUI.getWorkbench().getWorkbenchWindows()[0].getShell();
+                        shell.setMinimized(false);
+                        shell.forceActive();
+                    }
+                });
+            });
+        } catch (IOException | RuntimeException e) {
+            NodeLogger.getLogger(KNIMEApplication.class)
+                .debug("Could not listen for files and URLs from other launches: " + e.getMessage(), e);
+            return null;
+        }
+    }
+
     private static WorkbenchAdvisor getWorkbenchAdvisor(final KNIMEOpenDocumentEventProcessor openDocProcessor,
-        final KNIMEOpenUrlEventProcessor openUrlProcessor) {
-        return new KNIMEApplicationWorkbenchAdvisor(openDocProcessor, openUrlProcessor);
+        final KNIMEOpenUrlEventProcessor openUrlProcessor, final StartupTaskScheduler startupTasks) {
+        return new KNIMEApplicationWorkbenchAdvisor(openDocProcessor, openUrlProcessor, startupTasks);
     }
 
     /**
@@ -824,6 +930,13 @@ public void run(final IProgressMonitor monitor)
         return restart.booleanValue();
     }
 
+    private static void stopResponsivenessMonitor(final UIResponsivenessMonitor monitor, final String fileName) {
+        if (monitor != null) {
+            monitor.stop(Platform.getStateLocation(FrameworkUtil.getBundle(KNIMEApplication.class)).toFile().toPath()
+                .resolve(fileName));
+        }
+    }
+
     private static void startDeadlockDetectors(final Display display) {
         new GUIDeadlockDetector() {
             @Override
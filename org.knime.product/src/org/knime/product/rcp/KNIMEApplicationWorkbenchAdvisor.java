@@ -69,6 +69,7 @@
 import org.knime.core.util.EclipseUtil;
 import org.knime.product.rcp.shutdown.PreShutdown;
 import org.knime.product.rcp.startup.LongStartupHandler;
+import org.knime.product.rcp.startup.StartupTimeline;
 import org.knime.workbench.core.KNIMECorePlugin;
 import org.knime.workbench.core.preferences.HeadlessPreferencesConstants;
 import org.knime.workbench.core.util.LinkMessageDialog;
@@ -91,6 +92,8 @@ public class KNIMEApplicationWorkbenchAdvisor extends WorkbenchAdvisor {
 
     private final KNIMEOpenUrlEventProcessor m_openUrlProcessor;
 
+    private final StartupTaskScheduler m_startupTasks;
+
     /**
      * Simple constructor to store the {@code KNIMEOpenDocumentEventProcessor}
      *
@@ -100,8 +103,21 @@ public class KNIMEApplicationWorkbenchAdvisor extends WorkbenchAdvisor {
      */
     public KNIMEApplicationWorkbenchAdvisor(final KNIMEOpenDocumentEventProcessor openDocProcessor,
         final KNIMEOpenUrlEventProcessor openUrlProcessor) {
+        this(openDocProcessor, openUrlProcessor, null);
+    }
+
+    /**
+     * Creates a new advisor that starts the deferred startup tasks once the workbench is up.
+     *
+     * @param openDocProcessor the {@link KNIMEOpenDocumentEventProcessor} handling the opening of KNIME files
+     * @param openUrlProcessor the {@link KNIMEOpenUrlEventProcessor} handling the opening of knime:// URLs
+     * @param startupTasks the scheduler with the deferred startup tasks, may be <code>null</code>
+     */
+    KNIMEApplicationWorkbenchAdvisor(final KNIMEOpenDocumentEventProcessor openDocProcessor,
+        final KNIMEOpenUrlEventProcessor openUrlProcessor, final StartupTaskScheduler startupTasks) {
         m_openDocProcessor = openDocProcessor;
         m_openUrlProcessor = openUrlProcessor;
+        m_startupTasks = startupTasks;
     }
 
     @Override
@@ -148,13 +164,6 @@ public boolean preShutdown() {
         return PreShutdown.preShutdown();
     }
 
-    @Override
-    public void eventLoopIdle(final Display display) {
-        m_openDocProcessor.openFiles();
-        m_openUrlProcessor.openUrls();
-        super.eventLoopIdle(display);
-    }
-
     @Override
     public void eventLoopException(final Throwable exception) {
         LOGGER.error("Uncaught exception in event loop", exception);
@@ -168,6 +177,23 @@ public void postStartup() {
         // behind an authenticated proxy can be reached (the service supplies configuration)
         EclipseProxyServiceInitializer.ensureInitialized();
 
+        // files and URLs received during startup can be opened now, later ones are opened as they arrive
+        m_openDocProcessor.openFiles();
+        m_openUrlProcessor.openUrls();
+
+        // the first window is open, now the remaining startup tasks (e.g. p2 repository setup) can run; the startup
+        // timeline is concluded once they are done so that their durations become part of the startup history
+        final var timeline = StartupTimeline.getInstance();
+        timeline.mark(StartupTimeline.WORKBENCH_STARTED);
+        if (m_startupTasks != null) {
+            m_startupTasks.startDeferred().whenComplete((v, e) -> {
+                m_startupTasks.getTimings().forEach(timeline::recordDuration);
+                timeline.conclude();
+            });
+        } else {
+            KNIMEConstants.GLOBAL_THREAD_POOL.enqueue(timeline::conclude);
+        }
+
         // Remove preference pages we don't want to expose to our users
         final var preferenceRoot = PlatformUI.getWorkbench().getPreferenceManager();
 
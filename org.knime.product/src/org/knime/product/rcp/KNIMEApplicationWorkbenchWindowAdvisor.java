@@ -76,9 +76,10 @@
 import org.eclipse.ui.wizards.IWizardDescriptor;
 import org.knime.core.node.KNIMEConstants;
 import org.knime.core.node.NodeLogger;
-import org.knime.core.node.workflow.NodeTimer;
 import org.knime.core.util.EclipseUtil;
 import org.knime.product.rcp.intro.IntroPage;
+import org.knime.product.rcp.shutdown.UsageDataFlush;
+import org.knime.product.rcp.startup.StartupTimeline;
 import org.knime.workbench.ui.startup.StartupMessage;
 
 /**
@@ -163,6 +164,7 @@ private static void showIntroPage() {
     @Override
     public void postWindowOpen() {
         super.postWindowOpen();
+        StartupTimeline.getInstance().mark(StartupTimeline.FIRST_WINDOW_OPENED);
         IWorkbenchWindow workbenchWindow = PlatformUI.getWorkbench().getActiveWorkbenchWindow();
         IMenuManager menuManager = ((WorkbenchWindow)workbenchWindow).getMenuBarManager();
         menuManager.remove("org.eclipse.search.menu");
@@ -188,6 +190,7 @@ public void postWindowOpen() {
 
         removeWizards();
         showIntroPage();
+        StartupTimeline.getInstance().mark(StartupTimeline.INTRO_PAGE_SHOWN);
         showStartupMessages();
         addGlobalNodeTimerShutdownHook();
     }
@@ -253,7 +256,8 @@ private void showStartupMessages() {
     }
 
     /**
-     * Adds a workbench shutdown listener to write and send usage data.
+     * Adds a workbench shutdown listener to write and send usage data. The data is sent in the background while the
+     * windows are being closed, and the shutdown waits for it only for a limited time.
      */
     private static void addGlobalNodeTimerShutdownHook() {
         IWorkbench wb = PlatformUI.getWorkbench();
@@ -261,14 +265,15 @@ private static void addGlobalNodeTimerShutdownHook() {
             @Override
             public boolean preShutdown(final IWorkbench workbench, final boolean forced) {
                 // Write and send usage data.
-                NodeTimer.GLOBAL_TIMER.performShutdown();
+                UsageDataFlush.start();
                 // Don't interrupt regular shutdown!
                 return true;
             }
 
             @Override
             public void postShutdown(final IWorkbench workbench) {
-                /*nothing to do*/ }
+                UsageDataFlush.await();
+            }
         });
     }
 
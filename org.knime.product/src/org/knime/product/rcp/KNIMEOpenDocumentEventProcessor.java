@@ -48,19 +48,9 @@
  */
 package org.knime.product.rcp;
 
-import java.io.BufferedReader;
-import java.io.File;
-import java.io.FileReader;
-import java.io.IOException;
-import java.util.ArrayList;
-import java.util.List;
-
 import org.eclipse.swt.widgets.Event;
 import org.eclipse.swt.widgets.Listener;
-import org.eclipse.ui.IWorkbenchPage;
 import org.eclipse.ui.PlatformUI;
-import org.knime.workbench.explorer.view.actions.OpenKNIMEArchiveFileAction;
-import org.knime.workbench.explorer.view.actions.OpenKnimeUrlAction;
 
 /**
  * {@link Listener} implementation to allow the opening of KNIME application files (*.knar or *.knwf).
@@ -69,7 +59,21 @@
  */
 public class KNIMEOpenDocumentEventProcessor implements Listener {
 
-    private ArrayList<String> m_filesToOpen = new ArrayList<String>(1);
+    private final OpenRequestQueue m_queue;
+
+    /**
+     * Creates a processor with its own queue.
+     */
+    public KNIMEOpenDocumentEventProcessor() {
+        this(new OpenRequestQueue());
+    }
+
+    /**
+     * @param queue the queue shared with the other processors, so that a burst of events is opened in one batch
+     */
+    KNIMEOpenDocumentEventProcessor(final OpenRequestQueue queue) {
+        m_queue = queue;
+    }
 
     /**
      * {@inheritDoc}
@@ -77,58 +81,16 @@ public class KNIMEOpenDocumentEventProcessor implements Listener {
     @Override
     public void handleEvent(final Event event) {
         if (event.text != null) {
-            m_filesToOpen.add(event.text);
+            m_queue.addFile(event.text);
         }
     }
 
     /**
-     * If there are files to open from an openFile-Event this method triggers the corresponding Actions, depending on
-     * the type of files (knimeURL or knar/knwf).
-     *
+     * Starts opening the files from openFile-Events with the corresponding Actions, depending on the type of files
+     * (knimeURL or knar/knwf). Files received so far and all later ones are read in the background and opened in
+     * batches on the UI thread. Must be called on the UI thread once the workbench window is open.
      */
     public void openFiles() {
-        if (!OpenKnimeUrlAction.isEventHandlingActive() || m_filesToOpen.isEmpty()) {
-            // Nothing to do or Classic UI not active, clear events
-            m_filesToOpen.clear();
-            return;
-        }
-
-        List<File> archiveFileList = new ArrayList<File>(1);
-        List<String> urlFileList = new ArrayList<String>(1);
-        m_filesToOpen.forEach(file -> {
-            if (KNIMEOpenUrlEventProcessor.isKnimeUrl(file)) {
-                urlFileList.add(file);
-            } else {
-                File fileToOpen = new File(file);
-                if (fileToOpen.exists() && fileToOpen.isFile() && fileToOpen.canRead()) {
-                    if (file.endsWith(".knimeURL")) {
-                        try (BufferedReader reader = new BufferedReader(new FileReader(fileToOpen))) {
-                            String url = reader.readLine();
-                            if (KNIMEOpenUrlEventProcessor.isKnimeUrl(url)) {
-                                urlFileList.add(url);
-                            }
-                        } catch (IOException e) {
-                            // TODO issue warning?
-                        } finally {
-                            fileToOpen.delete();
-                        }
-                    } else {
-                        archiveFileList.add(fileToOpen);
-                    }
-                }
-            }
-        });
-        m_filesToOpen.clear();
-
-        IWorkbenchPage activePage = PlatformUI.getWorkbench().getActiveWorkbenchWindow().getActivePage();
-        if (!urlFileList.isEmpty()) {
-            OpenKnimeUrlAction a = new OpenKnimeUrlAction(activePage, urlFileList);
-            a.run();
-        }
-
-        if (!archiveFileList.isEmpty()) {
-            OpenKNIMEArchiveFileAction a = new OpenKNIMEArchiveFileAction(activePage, archiveFileList);
-            a.run();
-        }
+        m_queue.start(PlatformUI.getWorkbench().getDisplay()::asyncExec);
     }
 }
@@ -48,13 +48,8 @@
  */
 package org.knime.product.rcp;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.stream.Collectors;
-
 import org.eclipse.swt.widgets.Event;
 import org.eclipse.swt.widgets.Listener;
-import org.eclipse.ui.IWorkbenchPage;
 import org.eclipse.ui.PlatformUI;
 import org.knime.workbench.explorer.view.actions.OpenKnimeUrlAction;
 
@@ -65,7 +60,21 @@
  */
 public class KNIMEOpenUrlEventProcessor implements Listener {
 
-    private ArrayList<String> m_urlsToOpen = new ArrayList<String>(1);
+    private final OpenRequestQueue m_queue;
+
+    /**
+     * Creates a processor with its own queue.
+     */
+    public KNIMEOpenUrlEventProcessor() {
+        this(new OpenRequestQueue());
+    }
+
+    /**
+     * @param queue the queue shared with the other processors, so that a burst of events is opened in one batch
+     */
+    KNIMEOpenUrlEventProcessor(final OpenRequestQueue queue) {
+        m_queue = queue;
+    }
 
     /**
      * {@inheritDoc}
@@ -73,30 +82,17 @@ public class KNIMEOpenUrlEventProcessor implements Listener {
     @Override
     public void handleEvent(final Event event) {
         if (event.text != null) {
-            m_urlsToOpen.add(event.text);
+            m_queue.addUrl(event.text);
         }
     }
 
     /**
-     * If there are URLs to open from an openURL-Event this method triggers the corresponding {@link OpenKnimeUrlAction}s
+     * Starts opening the URLs from openURL-Events with the corresponding {@link OpenKnimeUrlAction}s. URLs received
+     * so far and all later ones are opened in batches on the UI thread. Must be called on the UI thread once the
+     * workbench window is open.
      */
     public void openUrls() {
-        if (!OpenKnimeUrlAction.isEventHandlingActive() || m_urlsToOpen.isEmpty()) {
-            // Nothing to do or Classic UI not active, clear events
-            m_urlsToOpen.clear();
-            return;
-        }
-
-        List<String> urlList = m_urlsToOpen.stream().filter((url) -> {
-            return isKnimeUrl(url);
-        }).collect(Collectors.toList());
-        m_urlsToOpen.clear();
-
-        IWorkbenchPage activePage = PlatformUI.getWorkbench().getActiveWorkbenchWindow().getActivePage();
-        if (!urlList.isEmpty()) {
-            OpenKnimeUrlAction a = new OpenKnimeUrlAction(activePage, urlList);
-            a.run();
-        }
+        m_queue.start(PlatformUI.getWorkbench().getDisplay()::asyncExec);
     }
 
     static boolean isKnimeUrl(final String url) {
@@ -50,6 +50,7 @@
 
 import java.io.File;
 import java.io.PrintWriter;
+import java.util.List;
 
 import org.eclipse.equinox.app.IApplication;
 import org.eclipse.equinox.app.IApplicationContext;
@@ -66,6 +67,11 @@ public class KNIMEProtocolApplication implements IApplication {
     @Override
     public Object start(final IApplicationContext context) throws Exception {
         String[] stringArgs = retrieveApplicationArguments(context);
+        // hand the URL to a running instance, only start a new one if there is none
+        if (stringArgs.length > 0 && SingleInstanceChannel.forward(SingleInstanceChannel.getDefaultDirectory(), null,
+            new SingleInstanceChannel.Request(List.of(), List.of(stringArgs[0])))) {
+            return IApplication.EXIT_OK;
+        }
         File tmpFile = File.createTempFile("open-knime-link", ".knimeURL");
         try (PrintWriter writer = new PrintWriter(tmpFile, "UTF-8")) {
             writer.write(stringArgs[0]);
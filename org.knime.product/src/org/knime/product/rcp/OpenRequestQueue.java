@@ -0,0 +1,283 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.product.rcp;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+import org.eclipse.ui.IWorkbench;
+import org.eclipse.ui.IWorkbenchPage;
+import org.eclipse.ui.IWorkbenchWindow;
+import org.eclipse.ui.PlatformUI;
+import org.knime.core.node.NodeLogger;
+import org.knime.workbench.explorer.view.actions.OpenKNIMEArchiveFileAction;
+import org.knime.workbench.explorer.view.actions.OpenKnimeUrlAction;
+
+/**
+ * Thread-safe queue for the files and URLs that the operating system or other launches ask the application to open.
+ *
+ * <p>
+ * Items can be added from any thread. Duplicates of items that are still pending are dropped. The first item of a
+ * burst schedules a background task after a short delay, so that e.g. fifty workflows dropped from a file manager are
+ * collected together. That task reads the <code>.knimeURL</code> files and classifies the items off the UI thread and
+ * then hands them to the UI thread as a single batch. Nothing is opened before {@link #start(Executor)} is called,
+ * i.e. before the workbench window is open.
+ * </p>
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class OpenRequestQueue {
+
+    /**
+     * The classified items of one burst.
+     *
+     * @param urls the KNIME URLs to open, including those read from <code>.knimeURL</code> files
+     * @param archives the workflow and archive files to open
+     */
+    record Batch(List<String> urls, List<File> archives) {
+        Batch {
+            urls = List.copyOf(urls);
+            archives = List.copyOf(archives);
+        }
+    }
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(OpenRequestQueue.class);
+
+    /** Time during which events following the first one are collected into the same batch. */
+    private static final Duration COALESCE_DELAY = Duration.ofMillis(100);
+
+    private static final String FILE_KEY = "file:";
+
+    private static final String URL_KEY = "url:";
+
+    private static final ScheduledThreadPoolExecutor EXECUTOR = new ScheduledThreadPoolExecutor(1, r -> {
+        final var t = new Thread(r, "KNIME-Open-Requests");
+        t.setDaemon(true);
+        return t;
+    });
+
+    static {
+        EXECUTOR.setKeepAliveTime(30, TimeUnit.SECONDS);
+        EXECUTOR.allowCoreThreadTimeOut(true);
+    }
+
+    private final Set<String> m_pending = ConcurrentHashMap.newKeySet();
+
+    private final ConcurrentLinkedQueue<String> m_queue = new ConcurrentLinkedQueue<>();
+
+    private final AtomicBoolean m_scheduled = new AtomicBoolean();
+
+    private final Consumer<Batch> m_opener;
+
+    private final Duration m_delay;
+
+    private volatile Executor m_uiExecutor;
+
+    /**
+     * Creates a queue that opens the batches with the explorer's open actions.
+     */
+    OpenRequestQueue() {
+        this(OpenRequestQueue::open, COALESCE_DELAY);
+    }
+
+    /**
+     * @param opener opens a batch, called on the UI executor
+     * @param delay time during which following events are collected into the same batch
+     */
+    OpenRequestQueue(final Consumer<Batch> opener, final Duration delay) {
+        m_opener = opener;
+        m_delay = delay;
+    }
+
+    /**
+     * Queues a file, which may also be a KNIME URL or a <code>.knimeURL</code> file.
+     *
+     * @param file the path of the file to open
+     */
+    void addFile(final String file) {
+        add(FILE_KEY + file);
+    }
+
+    /**
+     * Queues a URL, only KNIME URLs are opened.
+     *
+     * @param url the URL to open
+     */
+    void addUrl(final String url) {
+        add(URL_KEY + url);
+    }
+
+    private void add(final String key) {
+        if (m_pending.add(key)) {
+            m_queue.add(key);
+            schedule();
+        }
+    }
+
+    /**
+     * Starts opening the queued items and all items added later. Calling this more than once has no effect.
+     *
+     * @param uiExecutor executes the opening of a batch on the UI thread
+     */
+    void start(final Executor uiExecutor) {
+        if (m_uiExecutor == null) {
+            m_uiExecutor = uiExecutor;
+            schedule();
+        }
+    }
+
+    private void schedule() {
+        if (m_uiExecutor != null && !m_queue.isEmpty() && m_scheduled.compareAndSet(false, true)) {
+            EXECUTOR.schedule(this::drain, m_delay.toMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void drain() {
+        // items arriving from now on schedule the next batch
+        m_scheduled.set(false);
+        final Set<String> urls = new LinkedHashSet<>();
+        final Set<File> archives = new LinkedHashSet<>();
+        String key;
+        while ((key = m_queue.poll()) != null) {
+            try {
+                classify(key, urls, archives);
+            } finally {
+                m_pending.remove(key);
+            }
+        }
+        if (urls.isEmpty() && archives.isEmpty()) {
+            return;
+        }
+        final var batch = new Batch(new ArrayList<>(urls), new ArrayList<>(archives));
+        try {
+            m_uiExecutor.execute(() -> m_opener.accept(batch));
+        } catch (RuntimeException e) { // the display is disposed during shutdown
+            LOGGER.debug("Could not open " + batch, e);
+        }
+    }
+
+    private static void classify(final String key, final Set<String> urls, final Set<File> archives) {
+        if (key.startsWith(URL_KEY)) {
+            final String url = key.substring(URL_KEY.length());
+            if (KNIMEOpenUrlEventProcessor.isKnimeUrl(url)) {
+                urls.add(url);
+            }
+            return;
+        }
+        final String file = key.substring(FILE_KEY.length());
+        if (KNIMEOpenUrlEventProcessor.isKnimeUrl(file)) {
+            urls.add(file);
+            return;
+        }
+        final var fileToOpen = new File(file);
+        if (!fileToOpen.isFile() || !fileToOpen.canRead()) {
+            return;
+        }
+        if (file.endsWith(".knimeURL")) {
+            // the file is a temporary file written by the protocol handler and only holds the URL
+            try (BufferedReader reader = Files.newBufferedReader(fileToOpen.toPath(), StandardCharsets.UTF_8)) {
+                final String url = reader.readLine();
+                if (KNIMEOpenUrlEventProcessor.isKnimeUrl(url)) {
+                    urls.add(url);
+                }
+            } catch (IOException e) {
+                LOGGER.warn("Could not read KNIME URL from " + file + ": " + e.getMessage(), e);
+            } finally {
+                fileToOpen.delete(); // NOSONAR nothing to do if it fails
+            }
+        } else {
+            archives.add(fileToOpen);
+        }
+    }
+
+    private static void open(final Batch batch) {
+        if (!PlatformUI.isWorkbenchRunning() || !OpenKnimeUrlAction.isEventHandlingActive()) {
+            // shutting down or Classic UI not active, drop the batch
+            return;
+        }
+        final IWorkbenchPage page = getTargetPage();
+        if (page == null) {
+            return;
+        }
+        if (!batch.urls().isEmpty()) {
+            new OpenKnimeUrlAction(page, batch.urls()).run();
+        }
+        if (!batch.archives().isEmpty()) {
+            new OpenKNIMEArchiveFileAction(page, batch.archives()).run();
+        }
+    }
+
+    /**
+     * Returns the page to open documents in. URLs and files forwarded from another process arrive while this
+     * application is in the background and hence has no active window, the first window is used then.
+     */
+    private static IWorkbenchPage getTargetPage() {
+        final IWorkbench workbench = PlatformUI.getWorkbench();
+        IWorkbenchWindow window = workbench.getActiveWorkbenchWindow();
+        if (window == null && workbench.getWorkbenchWindowCount() > 0) {
+            window = workbench.getWorkbenchWindows()[0];
+        }
+        return window == null ? null : window.getActivePage();
+    }
+}
@@ -0,0 +1,551 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.product.rcp;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.Channels;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.PosixFileAttributes;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import org.knime.core.node.NodeLogger;
+
+/**
+ * Local channel through which a second launch of the application, or the {@link KNIMEProtocolApplication}, hands the
+ * files and URLs it was asked to open to an already running instance instead of starting another JVM.
+ *
+ * <p>
+ * The running workbench listens on a Unix domain socket named after a hash of its workspace. The sockets of all
+ * instances of the current user live in one owner-only directory, so that clients which do not know the workspace
+ * (such as the protocol handler) can pick the most recently started instance. The directory is created in the user's
+ * runtime directory ({@code XDG_RUNTIME_DIR}) if there is one, otherwise below the temp directory. Both sides check
+ * that the directory is owned by the current user and not accessible by others before using it, a client falls back
+ * to a normal launch otherwise. If Unix domain sockets are not available, a loopback TCP socket is used instead; its
+ * port and a random access token are published in a file in the same directory.
+ * </p>
+ *
+ * <p>
+ * The protocol is line-based UTF-8: a header line <code>KNIME-OPEN &lt;token&gt;</code>, followed by
+ * <code>file &lt;path&gt;</code> and <code>url &lt;url&gt;</code> lines and terminated by an empty line. The server
+ * acknowledges a complete request with <code>OK</code>. Connections are closed if the exchange takes longer than
+ * a few seconds, so that neither side can be blocked by an unresponsive peer.
+ * </p>
+ *
+ * <p>
+ * The client side runs in the protocol application which never initializes KNIME's logging, therefore only the server
+ * side logs.
+ * </p>
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class SingleInstanceChannel implements AutoCloseable {
+
+    /**
+     * Files and URLs forwarded to the running instance.
+     *
+     * @param files absolute paths of the files to open
+     * @param urls the (KNIME) URLs to open
+     */
+    record Request(List<String> files, List<String> urls) {
+
+        Request {
+            files = List.copyOf(files);
+            urls = List.copyOf(urls);
+        }
+
+        boolean isEmpty() {
+            return files.isEmpty() && urls.isEmpty();
+        }
+
+        /**
+         * Picks the KNIME URLs and the workflow, archive and URL files from command line arguments. Files are made
+         * absolute because the receiving instance runs in a different working directory.
+         *
+         * @param args the application arguments
+         * @return the request, possibly empty
+         */
+        static Request fromArguments(final String[] args) {
+            final List<String> files = new ArrayList<>();
+            final List<String> urls = new ArrayList<>();
+            for (final String arg : args) {
+                if (KNIMEOpenUrlEventProcessor.isKnimeUrl(arg)) {
+                    urls.add(arg);
+                } else if (hasOpenableExtension(arg)) {
+                    try {
+                        final Path file = Path.of(arg).toAbsolutePath();
+                        if (Files.isRegularFile(file)) {
+                            files.add(file.toString());
+                        }
+                    } catch (RuntimeException e) { // NOSONAR not a valid path, hence not a file to open
+                    }
+                }
+            }
+            return new Request(files, urls);
+        }
+
+        private static boolean hasOpenableExtension(final String arg) {
+            final String lower = arg.toLowerCase(Locale.ROOT);
+            return lower.endsWith(".knwf") || lower.endsWith(".knar") || lower.endsWith(".knimeurl");
+        }
+    }
+
+    private static final String HEADER = "KNIME-OPEN ";
+
+    private static final String FILE_PREFIX = "file ";
+
+    private static final String URL_PREFIX = "url ";
+
+    private static final String ACK = "OK";
+
+    /** Token of Unix domain sockets, which are protected by the permissions of their directory. */
+    private static final String NO_TOKEN = "-";
+
+    private static final String SOCKET_SUFFIX = ".sock";
+
+    private static final String PORT_SUFFIX = ".port";
+
+    /** Upper bound for the number of files and URLs in one request. */
+    private static final int MAX_ITEMS = 1024;
+
+    /** Upper bound for a complete exchange, from connecting to receiving the acknowledgement. */
+    static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    /** Upper bound for the number of requests read concurrently. */
+    private static final int MAX_CONNECTIONS = 4;
+
+    private static final Set<PosixFilePermission> OWNER_ONLY = PosixFilePermissions.fromString("rwx------");
+
+    private static final AtomicInteger THREAD_COUNTER = new AtomicInteger();
+
+    /** Closes connections that exceed {@link #TIMEOUT}, which also unblocks pending reads and connects. */
+    private static final ScheduledThreadPoolExecutor WATCHDOG = new ScheduledThreadPoolExecutor(1, r -> {
+        final var t = new Thread(r, "KNIME-Single-Instance-Watchdog");
+        t.setDaemon(true);
+        return t;
+    });
+
+    static {
+        WATCHDOG.setRemoveOnCancelPolicy(true);
+    }
+
+    private final ServerSocketChannel m_server;
+
+    private final Path m_endpointFile;
+
+    private final String m_token;
+
+    private final Consumer<Request> m_handler;
+
+    private final ThreadPoolExecutor m_connections;
+
+    private SingleInstanceChannel(final ServerSocketChannel server, final Path endpointFile, final String token,
+        final Consumer<Request> handler) {
+        m_server = server;
+        m_endpointFile = endpointFile;
+        m_token = token;
+        m_handler = handler;
+        m_connections = new ThreadPoolExecutor(0, MAX_CONNECTIONS, 10, TimeUnit.SECONDS, new SynchronousQueue<>(),
+            r -> {
+                final var t = new Thread(r, "KNIME-Single-Instance-" + THREAD_COUNTER.incrementAndGet());
+                t.setDaemon(true);
+                return t;
+            });
+    }
+
+    /**
+     * @return the per-user directory holding the endpoints of all running instances
+     */
+    static Path getDefaultDirectory() {
+        return getDefaultDirectory(System.getenv("XDG_RUNTIME_DIR"));
+    }
+
+    /**
+     * @param runtimeDir the user's runtime directory, may be <code>null</code>
+     * @return the directory below the runtime directory if it is usable, otherwise a per-user directory below the
+     *         temp directory
+     */
+    static Path getDefaultDirectory(final String runtimeDir) {
+        if (runtimeDir != null && !runtimeDir.isEmpty()) {
+            try {
+                final Path dir = Path.of(runtimeDir);
+                if (dir.isAbsolute() && Files.isDirectory(dir)) {
+                    return dir.resolve("knime-ipc");
+                }
+            } catch (RuntimeException e) { // NOSONAR not a valid path, use the temp directory
+            }
+        }
+        final String user = System.getProperty("user.name", "user").replaceAll("[^A-Za-z0-9._-]", "_");
+        return Path.of(System.getProperty("java.io.tmpdir"), "knime-ipc-" + user);
+    }
+
+    /**
+     * Starts listening for requests forwarded to the instance running on the given workspace. The caller must hold
+     * the workspace lock, an existing endpoint of the same workspace is therefore stale and replaced.
+     *
+     * @param directory the directory holding the endpoints, see {@link #getDefaultDirectory()}
+     * @param workspace the workspace of this instance
+     * @param handler receives the forwarded requests on a background thread
+     * @return the open channel, to be closed on shutdown
+     * @throws IOException if neither a Unix domain nor a loopback socket could be opened
+     */
+    static SingleInstanceChannel listen(final Path directory, final Path workspace, final Consumer<Request> handler)
+        throws IOException {
+        createPrivateDirectory(directory);
+        final String name = endpointName(workspace);
+        SingleInstanceChannel channel;
+        try {
+            channel = listenOnUnixSocket(directory.resolve(name + SOCKET_SUFFIX), handler);
+        } catch (IOException | UnsupportedOperationException e) {
+            NodeLogger.getLogger(SingleInstanceChannel.class)
+                .debug("Unix domain socket not available, falling back to loopback: " + e.getMessage(), e);
+            channel = listenOnLoopback(directory.resolve(name + PORT_SUFFIX), handler);
+        }
+        final var thread =
+            new Thread(channel::acceptLoop, "KNIME-Single-Instance-" + THREAD_COUNTER.incrementAndGet());
+        thread.setDaemon(true);
+        thread.start();
+        return channel;
+    }
+
+    private static SingleInstanceChannel listenOnUnixSocket(final Path socketFile, final Consumer<Request> handler)
+        throws IOException {
+        Files.deleteIfExists(socketFile);
+        final var server = ServerSocketChannel.open(StandardProtocolFamily.UNIX);
+        try {
+            server.bind(UnixDomainSocketAddress.of(socketFile));
+        } catch (IOException | RuntimeException e) {
+            server.close();
+            throw e;
+        }
+        return new SingleInstanceChannel(server, socketFile, NO_TOKEN, handler);
+    }
+
+    private static SingleInstanceChannel listenOnLoopback(final Path portFile, final Consumer<Request> handler)
+        throws IOException {
+        final var server = ServerSocketChannel.open();
+        try {
+            server.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+            final var tokenBytes = new byte[16];
+            new SecureRandom().nextBytes(tokenBytes);
+            final String token = HexFormat.of().formatHex(tokenBytes);
+            final int port = ((InetSocketAddress)server.getLocalAddress()).getPort();
+            // write and move, so that clients never read a partially written file
+            final Path tmp = Files.createTempFile(portFile.getParent(), portFile.getFileName().toString(), ".tmp");
+            Files.writeString(tmp, port + " " + token, StandardCharsets.UTF_8);
+            Files.move(tmp, portFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            return new SingleInstanceChannel(server, portFile, token, handler);
+        } catch (IOException | RuntimeException e) {
+            server.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Forwards a request to a running instance.
+     *
+     * @param directory the directory holding the endpoints, see {@link #getDefaultDirectory()}
+     * @param workspace the workspace whose instance should receive the request or <code>null</code> for the most
+     *            recently started instance
+     * @param request the files and URLs to open
+     * @return <code>true</code> if a running instance acknowledged the request, <code>false</code> if the caller has
+     *         to open the files and URLs itself, also if the directory is not private to the current user
+     */
+    static boolean forward(final Path directory, final Path workspace, final Request request) {
+        if (request.isEmpty() || !isPrivateDirectory(directory)) {
+            return false;
+        }
+        for (final Path endpoint : findEndpoints(directory, workspace)) {
+            try {
+                if (send(endpoint, request)) {
+                    return true;
+                }
+            } catch (IOException | RuntimeException e) { // NOSONAR stale endpoint of a crashed instance
+            }
+        }
+        return false;
+    }
+
+    private static List<Path> findEndpoints(final Path directory, final Path workspace) {
+        if (workspace != null) {
+            final String name = endpointName(workspace);
+            return Stream.of(directory.resolve(name + SOCKET_SUFFIX), directory.resolve(name + PORT_SUFFIX))
+                .filter(Files::exists).toList();
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(p -> isEndpoint(p.getFileName().toString()))
+                .sorted(Comparator.comparingLong(SingleInstanceChannel::lastModified).reversed()).toList();
+        } catch (IOException e) { // NOSONAR nothing to forward to
+            return List.of();
+        }
+    }
+
+    private static boolean isEndpoint(final String fileName) {
+        return fileName.endsWith(SOCKET_SUFFIX) || fileName.endsWith(PORT_SUFFIX);
+    }
+
+    private static long lastModified(final Path file) {
+        try {
+            return Files.getLastModifiedTime(file).toMillis();
+        } catch (IOException e) { // NOSONAR sorts last
+            return Long.MIN_VALUE;
+        }
+    }
+
+    private static boolean send(final Path endpoint, final Request request) throws IOException {
+        final SocketAddress address;
+        final String token;
+        if (endpoint.getFileName().toString().endsWith(SOCKET_SUFFIX)) {
+            address = UnixDomainSocketAddress.of(endpoint);
+            token = NO_TOKEN;
+        } else {
+            final String[] portAndToken = Files.readString(endpoint, StandardCharsets.UTF_8).trim().split(" ");
+            if (portAndToken.length != 2) {
+                return false;
+            }
+            address = new InetSocketAddress(InetAddress.getLoopbackAddress(), Integer.parseInt(portAndToken[0]));
+            token = portAndToken[1];
+        }
+        try (SocketChannel socket = address instanceof UnixDomainSocketAddress
+            ? SocketChannel.open(StandardProtocolFamily.UNIX) : SocketChannel.open()) {
+            final ScheduledFuture<?> watchdog = closeAfterTimeout(socket);
+            try {
+                socket.connect(address);
+                // the streams are not closed separately, closing the socket releases them
+                final var writer = new OutputStreamWriter(Channels.newOutputStream(socket), StandardCharsets.UTF_8);
+                final var message = new StringBuilder(HEADER).append(token).append('\n');
+                request.files().forEach(f -> message.append(FILE_PREFIX).append(f).append('\n'));
+                request.urls().forEach(u -> message.append(URL_PREFIX).append(u).append('\n'));
+                writer.write(message.append('\n').toString());
+                writer.flush();
+                return ACK.equals(newReader(socket).readLine());
+            } finally {
+                watchdog.cancel(false);
+            }
+        }
+    }
+
+    private void acceptLoop() {
+        while (m_server.isOpen()) {
+            final SocketChannel socket;
+            try {
+                socket = m_server.accept();
+            } catch (ClosedChannelException e) { // NOSONAR channel closed on shutdown
+                return;
+            } catch (IOException e) {
+                NodeLogger.getLogger(SingleInstanceChannel.class).debug("Could not accept forwarded request", e);
+                continue;
+            }
+            try {
+                m_connections.execute(() -> receive(socket));
+            } catch (RejectedExecutionException e) { // NOSONAR the client falls back to a normal launch
+                closeQuietly(socket);
+            }
+        }
+    }
+
+    private void receive(final SocketChannel socket) {
+        final ScheduledFuture<?> watchdog = closeAfterTimeout(socket);
+        try (socket) {
+            // the streams are not closed separately, closing the socket releases them
+            final Request request = readRequest(newReader(socket));
+            if (request != null) {
+                final var writer = new OutputStreamWriter(Channels.newOutputStream(socket), StandardCharsets.UTF_8);
+                writer.write(ACK + '\n');
+                writer.flush();
+                m_handler.accept(request);
+            }
+        } catch (IOException | RuntimeException e) {
+            NodeLogger.getLogger(SingleInstanceChannel.class).debug("Could not receive forwarded request", e);
+        } finally {
+            watchdog.cancel(false);
+        }
+    }
+
+    private static ScheduledFuture<?> closeAfterTimeout(final SocketChannel socket) {
+        return WATCHDOG.schedule(() -> closeQuietly(socket), TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    private static void closeQuietly(final SocketChannel socket) {
+        try {
+            socket.close();
+        } catch (IOException e) { // NOSONAR nothing left to do
+        }
+    }
+
+    private Request readRequest(final BufferedReader reader) throws IOException {
+        final String header = reader.readLine();
+        if (header == null || !header.startsWith(HEADER)) {
+            return null;
+        }
+        final byte[] token = header.substring(HEADER.length()).getBytes(StandardCharsets.UTF_8);
+        if (!MessageDigest.isEqual(m_token.getBytes(StandardCharsets.UTF_8), token)) {
+            return null;
+        }
+        final List<String> files = new ArrayList<>();
+        final List<String> urls = new ArrayList<>();
+        String line;
+        while ((line = reader.readLine()) != null && !line.isEmpty()) {
+            if (files.size() + urls.size() >= MAX_ITEMS) {
+                return null;
+            }
+            if (line.startsWith(FILE_PREFIX)) {
+                files.add(line.substring(FILE_PREFIX.length()));
+            } else if (line.startsWith(URL_PREFIX)) {
+                urls.add(line.substring(URL_PREFIX.length()));
+            }
+        }
+        // an incomplete request is dropped, the client then opens the files and URLs itself
+        return line == null ? null : new Request(files, urls);
+    }
+
+    private static BufferedReader newReader(final SocketChannel socket) {
+        return new BufferedReader(new InputStreamReader(Channels.newInputStream(socket), StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Stops listening and removes the endpoint, so that clients no longer find this instance.
+     */
+    @Override
+    public void close() {
+        m_connections.shutdownNow();
+        try {
+            m_server.close();
+            Files.deleteIfExists(m_endpointFile);
+        } catch (IOException e) {
+            NodeLogger.getLogger(SingleInstanceChannel.class).debug("Could not close single-instance channel", e);
+        }
+    }
+
+    static String endpointName(final Path workspace) {
+        try {
+            final byte[] digest = MessageDigest.getInstance("SHA-256")
+                .digest(workspace.toAbsolutePath().normalize().toString().getBytes(StandardCharsets.UTF_8));
+            // short names keep socket paths below the platforms' limit of about 100 characters
+            return HexFormat.of().formatHex(Arrays.copyOf(digest, 6));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private static void createPrivateDirectory(final Path directory) throws IOException {
+        try {
+            if (isPosix(directory)) {
+                Files.createDirectory(directory, PosixFilePermissions.asFileAttribute(OWNER_ONLY));
+            } else {
+                Files.createDirectory(directory);
+            }
+        } catch (FileAlreadyExistsException e) { // NOSONAR verified below
+        }
+        // another user could have created the directory, or a link to one, in the shared temp directory
+        if (!isPrivateDirectory(directory)) {
+            throw new IOException("Directory " + directory + " is not private to the current user");
+        }
+    }
+
+    /**
+     * @param directory the directory holding the endpoints
+     * @return whether the directory exists, is not a link, and, on POSIX file systems, is owned by the current user
+     *         and not accessible by anybody else
+     */
+    static boolean isPrivateDirectory(final Path directory) {
+        try {
+            if (!isPosix(directory)) {
+                // non-POSIX systems, i.e. Windows, have a temp directory per user
+                return Files.isDirectory(directory, LinkOption.NOFOLLOW_LINKS);
+            }
+            final var attributes =
+                Files.readAttributes(directory, PosixFileAttributes.class, LinkOption.NOFOLLOW_LINKS);
+            return attributes.isDirectory() && attributes.owner().getName().equals(System.getProperty("user.name"))
+                && attributes.permissions().equals(OWNER_ONLY);
+        } catch (IOException | RuntimeException e) { // NOSONAR missing or not accessible
+            return false;
+        }
+    }
+
+    private static boolean isPosix(final Path directory) {
+        return directory.getFileSystem().supportedFileAttributeViews().contains("posix");
+    }
+}
@@ -0,0 +1,240 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.product.rcp;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import org.knime.core.node.NodeLogger;
+
+/**
+ * Runs the steps that {@link KNIMEApplication} performs before and shortly after the workbench is created. Each step
+ * declares the steps it depends on and whether it is needed before the first window opens. Steps without a
+ * dependency between them are executed concurrently, {@link Stage#DEFERRED deferred} steps are only started once
+ * {@link #startDeferred()} is called (usually after the workbench is up). The duration of every step is logged and
+ * can be retrieved via {@link #getTimings()}. Code outside of the startup that needs the result of a step can wait for
+ * it via {@link #whenDone(String)}.
+ *
+ * <p>
+ * Dependencies must be registered before the steps that depend on them, which rules out cycles. A step that is needed
+ * before the workbench must not depend on a deferred step.
+ * </p>
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class StartupTaskScheduler {
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(StartupTaskScheduler.class);
+
+    /**
+     * When a startup step has to be executed.
+     */
+    enum Stage {
+            /** The step has to be completed before the workbench is created. */
+            BEFORE_WORKBENCH,
+            /** The step can run after the first workbench window has been opened. */
+            DEFERRED
+    }
+
+    private record Task(String name, Stage stage, Runnable action, List<String> dependencies) {
+    }
+
+    private final Map<String, Task> m_tasks = new LinkedHashMap<>();
+
+    /** Completed once the respective step has run, also if it failed. */
+    private final Map<String, CompletableFuture<Void>> m_done = new LinkedHashMap<>();
+
+    private final Map<String, Duration> m_timings = Collections.synchronizedMap(new LinkedHashMap<>());
+
+    private final ExecutorService m_executor;
+
+    private CompletableFuture<Void> m_deferred;
+
+    StartupTaskScheduler() {
+        final var counter = new AtomicInteger();
+        m_executor = Executors.newCachedThreadPool(r -> {
+            final var t = new Thread(r, "KNIME-Startup-Task-" + counter.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    /**
+     * Registers a new startup step.
+     *
+     * @param name a unique name for the step, used for declaring dependencies and in the timing report
+     * @param stage when the step must be executed
+     * @param action the step itself
+     * @param dependencies names of already registered steps that must be completed before this step starts
+     * @return this scheduler
+     * @throws IllegalArgumentException if the name is already taken, a dependency is unknown, or a step needed before
+     *             the workbench depends on a deferred step
+     */
+    synchronized StartupTaskScheduler add(final String name, final Stage stage, final Runnable action,
+        final String... dependencies) {
+        if (m_tasks.containsKey(name)) {
+            throw new IllegalArgumentException("Startup task '" + name + "' is already registered");
+        }
+        for (final String dep : dependencies) {
+            final var depTask = m_tasks.get(dep);
+            if (depTask == null) {
+                throw new IllegalArgumentException(
+                    "Startup task '" + name + "' depends on unknown task '" + dep + "'");
+            }
+            if (stage == Stage.BEFORE_WORKBENCH && depTask.stage() == Stage.DEFERRED) {
+                throw new IllegalArgumentException(
+                    "Startup task '" + name + "' is needed before the workbench but depends on deferred task '" + dep
+                        + "'");
+            }
+        }
+        m_tasks.put(name, new Task(name, stage, action, List.of(dependencies)));
+        m_done.put(name, new CompletableFuture<>());
+        return this;
+    }
+
+    /**
+     * @param name the name of a registered step
+     * @return a future that completes once the step has run, also if it failed, but never if its stage is not started
+     * @throws IllegalArgumentException if no step with the given name is registered
+     */
+    synchronized CompletableFuture<Void> whenDone(final String name) {
+        final var done = m_done.get(name);
+        if (done == null) {
+            throw new IllegalArgumentException("Startup task '" + name + "' is not registered");
+        }
+        return done.copy();
+    }
+
+    /**
+     * Executes all steps that are needed before the workbench is created and waits until they are completed. Failing
+     * steps are logged but do not prevent other steps (including the ones depending on them) from running.
+     */
+    void runBeforeWorkbench() {
+        start(Stage.BEFORE_WORKBENCH).join();
+    }
+
+    /**
+     * Starts all deferred steps in the background. Calling this method more than once has no effect.
+     *
+     * @return a future that completes once all deferred steps are done
+     */
+    synchronized CompletableFuture<Void> startDeferred() {
+        if (m_deferred == null) {
+            m_deferred = start(Stage.DEFERRED).whenComplete((v, e) -> {
+                m_executor.shutdown();
+                logTimings();
+            });
+        }
+        return m_deferred;
+    }
+
+    /**
+     * Starts the deferred steps (if not already done) and waits until they are completed. This is necessary if
+     * something that would normally happen after the workbench has been opened needs the results of deferred steps
+     * earlier.
+     */
+    void awaitDeferred() {
+        startDeferred().join();
+    }
+
+    /**
+     * @return the durations of all completed steps, in order of completion
+     */
+    Map<String, Duration> getTimings() {
+        synchronized (m_timings) {
+            return new LinkedHashMap<>(m_timings);
+        }
+    }
+
+    private synchronized CompletableFuture<Void> start(final Stage stage) {
+        final List<CompletableFuture<Void>> started = new ArrayList<>();
+        // tasks are registered after their dependencies, therefore iterating in insertion order is sufficient
+        for (final Task task : m_tasks.values()) {
+            if (task.stage() == stage) {
+                final var dependencies = task.dependencies().stream().map(m_done::get)
+                    .toArray(CompletableFuture<?>[]::new);
+                CompletableFuture.allOf(dependencies).thenRunAsync(() -> run(task), m_executor);
+                started.add(m_done.get(task.name()));
+            }
+        }
+        return CompletableFuture.allOf(started.toArray(CompletableFuture<?>[]::new));
+    }
+
+    private void run(final Task task) {
+        final long start = System.nanoTime();
+        try {
+            task.action().run();
+        } catch (RuntimeException | LinkageError ex) { // NOSONAR startup must continue
+            LOGGER.error("Startup task '" + task.name() + "' failed: " + ex.getMessage(), ex);
+        } finally {
+            final var duration = Duration.ofNanos(System.nanoTime() - start);
+            m_timings.put(task.name(), duration);
+            LOGGER.debug("Startup task '" + task.name() + "' (" + task.stage() + ") took " + duration.toMillis()
+                + "ms on thread " + Thread.currentThread().getName());
+            m_done.get(task.name()).complete(null);
+        }
+    }
+
+    private void logTimings() {
+        final var timings = getTimings();
+        final long total = timings.values().stream().mapToLong(Duration::toMillis).sum();
+        LOGGER.debug("Startup task timings: " + timings.entrySet().stream()
+            .map(e -> e.getKey() + "=" + e.getValue().toMillis() + "ms").collect(Collectors.joining(", "))
+            + " (" + total + "ms accumulated)");
+    }
+}
@@ -0,0 +1,334 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.product.rcp;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import org.knime.core.node.NodeLogger;
+
+/**
+ * Monitors the responsiveness of a UI thread (e.g. the SWT display thread or the AWT event dispatch thread). A ping is
+ * regularly posted to the thread's event queue; if it has not been processed after a configurable threshold, the UI
+ * thread is considered stalled and its stack is sampled at a high rate until the ping finally arrives. Stalls are
+ * aggregated into a histogram of their durations and the samples into collapsed stacks (one line per distinct stack,
+ * frames separated by semicolons, followed by the number of samples), which can directly be turned into a flame graph.
+ *
+ * <p>
+ * In contrast to the {@code GUIDeadlockDetector}, which only reports threads that are blocked for good, this helps to
+ * find the short freezes that make the UI feel sluggish, without attaching a profiler. Since the pings wake up the UI
+ * thread several times a second, which costs CPU time and battery even when the application is idle, the monitor is
+ * only started on request. It can be configured with the following system properties:
+ * </p>
+ * <ul>
+ * <li>{@value #PROP_ENABLED}: set to <code>true</code> to enable the monitor</li>
+ * <li>{@value #PROP_THRESHOLD}: the delay in milliseconds after which a ping is considered late (default
+ * {@value #DEFAULT_THRESHOLD_MILLIS})</li>
+ * <li>{@value #PROP_SAMPLE_INTERVAL}: the interval in milliseconds between two stack samples during a stall (default
+ * {@value #DEFAULT_SAMPLE_INTERVAL_MILLIS})</li>
+ * </ul>
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class UIResponsivenessMonitor {
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(UIResponsivenessMonitor.class);
+
+    static final String PROP_ENABLED = "knime.ui.responsivenessMonitor.enabled";
+
+    static final String PROP_THRESHOLD = "knime.ui.responsivenessMonitor.threshold";
+
+    static final String PROP_SAMPLE_INTERVAL = "knime.ui.responsivenessMonitor.sampleInterval";
+
+    static final long DEFAULT_THRESHOLD_MILLIS = 500;
+
+    static final long DEFAULT_SAMPLE_INTERVAL_MILLIS = 10;
+
+    /** The pause between a ping arriving in time and sending the next one. */
+    private static final long PING_INTERVAL_MILLIS = 250;
+
+    /** Upper bounds (inclusive, in milliseconds) of the histogram buckets, the last bucket is unbounded. */
+    static final long[] HISTOGRAM_BOUNDS = {1_000, 2_000, 5_000, 10_000, 30_000};
+
+    /** Limits the memory used for collapsed stacks if there are many distinct stacks. */
+    private static final int MAX_DISTINCT_STACKS = 10_000;
+
+    private static final class Ping {
+
+        private final long m_sent = System.nanoTime();
+
+        private volatile long m_arrived = -1;
+
+        private int m_samples;
+
+        void arrived() {
+            m_arrived = System.nanoTime();
+        }
+
+        boolean hasArrived() {
+            return m_arrived >= 0;
+        }
+
+        long latencyMillis() {
+            return TimeUnit.NANOSECONDS.toMillis((hasArrived() ? m_arrived : System.nanoTime()) - m_sent);
+        }
+    }
+
+    private final String m_name;
+
+    private final Consumer<Runnable> m_enqueue;
+
+    private final long m_thresholdMillis;
+
+    private final long m_sampleIntervalMillis;
+
+    private final ScheduledExecutorService m_executor;
+
+    private volatile Thread m_uiThread;
+
+    // the following fields are guarded by "this"
+    private final long[] m_histogram = new long[HISTOGRAM_BOUNDS.length + 1];
+
+    private final Map<String, Integer> m_collapsedStacks = new HashMap<>();
+
+    private long m_longestStallMillis;
+
+    /**
+     * Creates a new monitor without starting it.
+     *
+     * @param name a human-readable name of the monitored thread
+     * @param uiThread the monitored thread, may be <code>null</code> if it is not known yet, in which case it is
+     *            determined by the first ping
+     * @param enqueue posts a runnable to the monitored thread's event queue
+     * @param thresholdMillis the delay after which a ping is considered late
+     * @param sampleIntervalMillis the interval between two stack samples during a stall
+     */
+    UIResponsivenessMonitor(final String name, final Thread uiThread, final Consumer<Runnable> enqueue,
+        final long thresholdMillis, final long sampleIntervalMillis) {
+        m_name = name;
+        m_uiThread = uiThread;
+        m_enqueue = enqueue;
+        m_thresholdMillis = thresholdMillis;
+        m_sampleIntervalMillis = sampleIntervalMillis;
+        m_executor = Executors.newSingleThreadScheduledExecutor(r -> {
+            final var t = new Thread(r, "KNIME-UI-Responsiveness-Monitor (" + name + ")");
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    /**
+     * Creates and starts a monitor configured by the system properties, if it has been enabled.
+     *
+     * @param name a human-readable name of the monitored thread
+     * @param uiThread the monitored thread, may be <code>null</code> if it is not known yet
+     * @param enqueue posts a runnable to the monitored thread's event queue
+     * @return the running monitor or <code>null</code> if it has not been enabled
+     */
+    static UIResponsivenessMonitor startIfEnabled(final String name, final Thread uiThread,
+        final Consumer<Runnable> enqueue) {
+        if (!Boolean.getBoolean(PROP_ENABLED)) {
+            return null;
+        }
+        final var monitor = new UIResponsivenessMonitor(name, uiThread, enqueue,
+            Long.getLong(PROP_THRESHOLD, DEFAULT_THRESHOLD_MILLIS),
+            Long.getLong(PROP_SAMPLE_INTERVAL, DEFAULT_SAMPLE_INTERVAL_MILLIS));
+        monitor.start();
+        return monitor;
+    }
+
+    /**
+     * Starts sending pings.
+     */
+    void start() {
+        m_executor.execute(this::sendPing);
+    }
+
+    /**
+     * Stops the monitor and logs a summary of the detected stalls.
+     *
+     * @param collapsedStacksFile the file to which the collapsed stacks are written, may be <code>null</code>
+     */
+    void stop(final Path collapsedStacksFile) {
+        m_executor.shutdownNow();
+        if (getStallCount() == 0) {
+            LOGGER.debug("No UI stalls longer than " + m_thresholdMillis + "ms detected on " + m_name);
+            return;
+        }
+        var message = getSummary();
+        if (collapsedStacksFile != null) {
+            try {
+                writeCollapsedStacks(collapsedStacksFile);
+                message += ", stack samples written to " + collapsedStacksFile;
+            } catch (IOException ex) {
+                LOGGER.debug("Could not write UI stall samples to " + collapsedStacksFile + ": " + ex.getMessage(), ex);
+            }
+        }
+        LOGGER.info(message);
+    }
+
+    private void sendPing() {
+        final var ping = new Ping();
+        try {
+            m_enqueue.accept(() -> {
+                m_uiThread = Thread.currentThread();
+                ping.arrived();
+            });
+        } catch (RuntimeException ex) { // NOSONAR e.g. the display has been disposed
+            LOGGER.debug("Stopping UI responsiveness monitor for " + m_name + ": " + ex.getMessage(), ex);
+            m_executor.shutdown();
+            return;
+        }
+        schedule(() -> check(ping), m_thresholdMillis);
+    }
+
+    private void check(final Ping ping) {
+        if (ping.hasArrived()) {
+            final long latency = ping.latencyMillis();
+            if (latency >= m_thresholdMillis) {
+                recordStall(latency);
+                LOGGER.debug("UI stall on " + m_name + ": " + latency + "ms (" + ping.m_samples + " stack samples)");
+            }
+            schedule(this::sendPing, PING_INTERVAL_MILLIS);
+        } else {
+            // the UI thread is stalled, sample its stack until the ping arrives
+            final Thread uiThread = m_uiThread;
+            if (uiThread != null) {
+                addSample(uiThread.getStackTrace());
+                ping.m_samples++;
+            }
+            schedule(() -> check(ping), m_sampleIntervalMillis);
+        }
+    }
+
+    private void schedule(final Runnable r, final long delayMillis) {
+        if (!m_executor.isShutdown()) {
+            m_executor.schedule(r, delayMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    synchronized void recordStall(final long durationMillis) {
+        var bucket = 0;
+        while (bucket < HISTOGRAM_BOUNDS.length && durationMillis > HISTOGRAM_BOUNDS[bucket]) {
+            bucket++;
+        }
+        m_histogram[bucket]++;
+        m_longestStallMillis = Math.max(m_longestStallMillis, durationMillis);
+    }
+
+    synchronized void addSample(final StackTraceElement[] stack) {
+        if (stack.length == 0) {
+            return;
+        }
+        final List<String> frames = new ArrayList<>(stack.length);
+        // collapsed stacks list the outermost frame first
+        for (var i = stack.length - 1; i >= 0; i--) {
+            frames.add(stack[i].getClassName() + "." + stack[i].getMethodName());
+        }
+        final String key = String.join(";", frames);
+        if (m_collapsedStacks.containsKey(key) || m_collapsedStacks.size() < MAX_DISTINCT_STACKS) {
+            m_collapsedStacks.merge(key, 1, Integer::sum);
+        }
+    }
+
+    synchronized long getStallCount() {
+        long count = 0;
+        for (final long c : m_histogram) {
+            count += c;
+        }
+        return count;
+    }
+
+    /**
+     * @return a copy of the stall histogram, the i-th entry counts stalls up to {@link #HISTOGRAM_BOUNDS}[i]
+     *         milliseconds, the last entry all longer ones
+     */
+    synchronized long[] getHistogram() {
+        return m_histogram.clone();
+    }
+
+    synchronized String getSummary() {
+        final var sb = new StringBuilder();
+        sb.append(getStallCount()).append(" UI stalls longer than ").append(m_thresholdMillis).append("ms on ")
+            .append(m_name).append(" (longest ").append(m_longestStallMillis).append("ms): ");
+        var lower = m_thresholdMillis;
+        for (var i = 0; i < m_histogram.length; i++) {
+            sb.append(i > 0 ? ", " : "").append(lower).append("ms").append(i < HISTOGRAM_BOUNDS.length
+                ? ("-" + HISTOGRAM_BOUNDS[i] + "ms") : "+").append(": ").append(m_histogram[i]);
+            lower = i < HISTOGRAM_BOUNDS.length ? HISTOGRAM_BOUNDS[i] : lower;
+        }
+        return sb.toString();
+    }
+
+    /**
+     * @return the collapsed stacks, one line per distinct stack
+     */
+    synchronized String getCollapsedStacks() {
+        return m_collapsedStacks.entrySet().stream().sorted(Map.Entry.comparingByKey())
+            .map(e -> e.getKey() + " " + e.getValue()).collect(Collectors.joining("\n", "", "\n"));
+    }
+
+    void writeCollapsedStacks(final Path file) throws IOException {
+        Files.createDirectories(file.getParent());
+        final Path tmp = file.resolveSibling(file.getFileName() + ".tmp");
+        Files.writeString(tmp, getCollapsedStacks());
+        Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+}
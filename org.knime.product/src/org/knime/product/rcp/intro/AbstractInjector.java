@@ -48,45 +48,21 @@
  */
 package org.knime.product.rcp.intro;
 
-import java.io.File;
-import java.io.FileOutputStream;
-import java.io.IOException;
-import java.io.OutputStream;
-import java.nio.file.Files;
-import java.nio.file.StandardCopyOption;
-import java.util.concurrent.locks.ReentrantLock;
-
-import javax.xml.parsers.DocumentBuilder;
-import javax.xml.parsers.DocumentBuilderFactory;
-import javax.xml.transform.OutputKeys;
-import javax.xml.transform.Transformer;
-import javax.xml.transform.TransformerException;
-import javax.xml.transform.TransformerFactory;
-import javax.xml.transform.dom.DOMSource;
-import javax.xml.transform.stream.StreamResult;
 import javax.xml.xpath.XPath;
-import javax.xml.xpath.XPathFactory;
 
 import org.eclipse.core.runtime.preferences.IEclipsePreferences;
-import org.eclipse.swt.browser.Browser;
-import org.eclipse.swt.widgets.Display;
-import org.knime.core.node.NodeLogger;
-import org.knime.core.util.FileUtil;
 import org.w3c.dom.Document;
 
 /**
- * Abstract base class for all injectors that modify the intro page.
+ * Abstract base class for all injectors that modify the intro page. Injectors modify the in-memory
+ * {@link IntroPageModel}; several injectors can be applied in one batch via {@link IntroPageModel#inject}, in which
+ * case the page is written only once.
  *
  * @author Thorsten Meinl, KNIME AG, Zurich, Switzerland
  */
 abstract class AbstractInjector extends AbstractIntroPageModifier implements Runnable {
-    private final DocumentBuilderFactory m_parserFactory;
-
-    protected final XPathFactory m_xpathFactory;
 
-    protected final TransformerFactory m_transformerFactory;
-
-    private final ReentrantLock m_introFileLock;
+    private final IntroPageModel m_model;
 
     protected final IEclipsePreferences m_prefs;
 
@@ -95,66 +71,29 @@ abstract class AbstractInjector extends AbstractIntroPageModifier implements Run
     /**
      * Creates a new injector.
      *
-     * @param templateFile the template file in the temporary directory
-     * @param introFileLock lock for the intro file
+     * @param model the intro page model
      * @param preferences the intro page preferences
      * @param isFreshWorkspace <code>true</code> if we are starting in a fresh workspace, <code>false</code> otherwise
-     * @param parserFactory a parser factory that will be re-used
-     * @param xpathFactory an XPath factory that will be re-used
-     * @param transformerFactory a transformer factory that will be re-used
      */
-    protected AbstractInjector(final File templateFile, final ReentrantLock introFileLock,
-        final IEclipsePreferences preferences, final boolean isFreshWorkspace,
-        final DocumentBuilderFactory parserFactory, final XPathFactory xpathFactory,
-        final TransformerFactory transformerFactory) {
-        super(templateFile);
-        m_introFileLock = introFileLock;
+    protected AbstractInjector(final IntroPageModel model, final IEclipsePreferences preferences,
+        final boolean isFreshWorkspace) {
+        super(model.getIntroPageFile());
+        m_model = model;
         m_prefs = preferences;
         m_isFreshWorkspace = isFreshWorkspace;
-        m_parserFactory = parserFactory;
-        m_xpathFactory = xpathFactory;
-        m_transformerFactory = transformerFactory;
     }
 
     /**
-     * {@inheritDoc}
+     * Applies this injector alone to the intro page model.
      */
     @Override
     public final void run() {
-        try {
-            prepareData();
-            m_introFileLock.lock();
-            try {
-                DocumentBuilder parser = m_parserFactory.newDocumentBuilder();
-                parser.setEntityResolver(EmptyDoctypeResolver.INSTANCE);
-                Document doc = parser.parse(getIntroPageFile());
-                XPath xpath = m_xpathFactory.newXPath();
-                injectData(doc, xpath);
-                writeFile(doc);
-                refreshIntroEditor();
-            } finally {
-                m_introFileLock.unlock();
-            }
-        } catch (Exception ex) {
-            NodeLogger.getLogger(getClass()).warn("Could not modify intro page: " + ex.getMessage(), ex);
-        }
-    }
-
-    private void refreshIntroEditor() {
-        final Browser browser = findIntroPageBrowser();
-        if (browser != null) {
-            Display.getDefault().asyncExec(new Runnable() {
-                @Override
-                public void run() {
-                    browser.refresh();
-                }
-            });
-        }
+        m_model.inject(this);
     }
 
     /**
-     * Method that is called before the intro page is locked and read. Subclasses may retrieve remote information to
-     * perform other longer-runnning tasks for acquiring information to be injected into the page. The default
+     * Method that is called before the intro page is locked and modified. Subclasses may retrieve remote information
+     * to perform other longer-runnning tasks for acquiring information to be injected into the page. The default
      * implementation does nothing.
      *
      * @throws Exception if an error occurs
@@ -171,17 +110,4 @@ protected void prepareData() throws Exception {
      * @throws Exception if an error occurs
      */
     protected abstract void injectData(Document doc, XPath xpath) throws Exception;
-
-    private void writeFile(final Document doc) throws IOException, TransformerException {
-        File temp = FileUtil.createTempFile("intro", ".html", true);
-
-        try (OutputStream out = new FileOutputStream(temp)) {
-            Transformer serializer = m_transformerFactory.newTransformer();
-            serializer.setOutputProperty(OutputKeys.METHOD, "html");
-            serializer.setOutputProperty(OutputKeys.DOCTYPE_SYSTEM, "about:legacy-compat");
-            serializer.setOutputProperty(OutputKeys.OMIT_XML_DECLARATION, "yes");
-            serializer.transform(new DOMSource(doc), new StreamResult(out));
-        }
-        Files.move(temp.toPath(), getIntroPageFile().toPath(), StandardCopyOption.REPLACE_EXISTING);
-    }
 }
@@ -49,9 +49,13 @@
 package org.knime.product.rcp.intro;
 
 import java.io.File;
-import java.lang.reflect.Field;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.lang.ref.WeakReference;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.core.runtime.AssertionFailedException;
 import org.eclipse.swt.browser.Browser;
@@ -77,6 +81,9 @@ public class AbstractIntroPageModifier {
 
     private final static NodeLogger LOGGER = NodeLogger.getLogger(AbstractIntroPageModifier.class);
 
+    /** Intro page file -> browser showing it. */
+    private static final Map<File, WeakReference<Browser>> BROWSER_CACHE = new ConcurrentHashMap<>();
+
     private final File m_introPageFile;
 
     /**
@@ -110,11 +117,39 @@ protected Browser findIntroPageBrowser() {
      * Looks for the open intro page editor (and HTML editor) and returns the Browser instance. This (unfortunately)
      * involves some heavy reflection stuff as there is no other way to attach a listener otherwise. If the intro page
      * editor cannot be found then <code>null</code> is returned.
+     * <p>
+     * Once found, the browser is cached (weakly) until it is disposed, i.e. until the intro page editor is closed.
+     * </p>
      *
      * @param introPageFile the temporary intro page file
      * @return the browser instance showing the intro page or <code>null</code>
      */
     static Browser findIntroPageBrowser(final File introPageFile) {
+        if (introPageFile == null) {
+            return null;
+        }
+        final WeakReference<Browser> cached = BROWSER_CACHE.get(introPageFile);
+        final Browser cachedBrowser = cached != null ? cached.get() : null;
+        if (cachedBrowser != null && !cachedBrowser.isDisposed()) {
+            return cachedBrowser;
+        }
+        final Browser browser = searchIntroPageBrowser(introPageFile);
+        if (browser != null) {
+            final var reference = new WeakReference<>(browser);
+            BROWSER_CACHE.put(introPageFile, reference);
+            // drop the entry as soon as the editor is closed, listeners can only be added in the UI thread
+            browser.getDisplay().asyncExec(() -> {
+                if (browser.isDisposed()) {
+                    BROWSER_CACHE.remove(introPageFile, reference);
+                } else {
+                    browser.addDisposeListener(e -> BROWSER_CACHE.remove(introPageFile, reference));
+                }
+            });
+        }
+        return browser;
+    }
+
+    private static Browser searchIntroPageBrowser(final File introPageFile) {
         for (IWorkbenchWindow window : PlatformUI.getWorkbench().getWorkbenchWindows()) {
             IWorkbenchPage[] pages = new IWorkbenchPage[0];
             try {
@@ -135,25 +170,14 @@ static Browser findIntroPageBrowser(final File introPageFile) {
                     try {
                         if (isIntroPageEditor(ref, introPageFile)) {
                             IEditorPart part = ref.getEditor(false);
-                            if (part instanceof WebBrowserEditor) {
-                                WebBrowserEditor editor = (WebBrowserEditor)part;
-
-                                Field webBrowser = editor.getClass().getDeclaredField("webBrowser");
-                                webBrowser.setAccessible(true);
-                                BrowserViewer viewer = (BrowserViewer)webBrowser.get(editor);
-
-                                Field browserField = viewer.getClass().getDeclaredField("browser");
-                                browserField.setAccessible(true);
-                                return (Browser)browserField.get(viewer);
+                            if (part instanceof WebBrowserEditor editor && BrowserFields.isAvailable()) {
+                                BrowserViewer viewer = (BrowserViewer)BrowserFields.WEB_BROWSER.get(editor);
+                                return viewer != null ? (Browser)BrowserFields.BROWSER.get(viewer) : null;
                             }
                         }
                     } catch (PartInitException ex) {
                         NodeLogger.getLogger(AbstractInjector.class).error(
                             "Could not open web browser with intro page: " + ex.getMessage(), ex);
-                    } catch (SecurityException | NoSuchFieldException | IllegalArgumentException
-                            | IllegalAccessException ex) {
-                        NodeLogger.getLogger(AbstractInjector.class).error(
-                            "Could not attach location listener to web browser: " + ex.getMessage(), ex);
                     }
                 }
             }
@@ -162,6 +186,36 @@ static Browser findIntroPageBrowser(final File introPageFile) {
         return null;
     }
 
+    /**
+     * Handles for the private fields that lead from the editor to its browser, resolved once.
+     */
+    private static final class BrowserFields {
+
+        private static final VarHandle WEB_BROWSER;
+
+        private static final VarHandle BROWSER;
+
+        static {
+            VarHandle webBrowser = null;
+            VarHandle browser = null;
+            try {
+                webBrowser = MethodHandles.privateLookupIn(WebBrowserEditor.class, MethodHandles.lookup())
+                    .findVarHandle(WebBrowserEditor.class, "webBrowser", BrowserViewer.class);
+                browser = MethodHandles.privateLookupIn(BrowserViewer.class, MethodHandles.lookup())
+                    .findVarHandle(BrowserViewer.class, "browser", Browser.class);
+            } catch (SecurityException | NoSuchFieldException | IllegalAccessException ex) {
+                NodeLogger.getLogger(AbstractInjector.class)
+                    .error("Could not attach location listener to web browser: " + ex.getMessage(), ex);
+            }
+            WEB_BROWSER = webBrowser;
+            BROWSER = browser;
+        }
+
+        static boolean isAvailable() {
+            return WEB_BROWSER != null && BROWSER != null;
+        }
+    }
+
     /**
      * Returns whether the given editor is an intro editor. This is checked by looking the URL the editor displays.
      *
@@ -97,24 +97,18 @@ public final void run() {
         }
     }
 
+    /**
+     * Executes the given JavaScript code in the intro page. If the page is still loading, the code is executed as soon
+     * as it has been loaded completely.
+     *
+     * @param jsCall the JavaScript code
+     */
     protected void executeUpdateInBrowser(final String jsCall) {
         Browser browser = findIntroPageBrowser();
         if (browser != null) {
-            Display.getDefault().asyncExec(new Runnable() {
-                @Override
-                public void run() {
-                    try {
-                        //try for a couple of calls till the script is executed successfully
-                        //isn't always the case on the first call maybe because page loading isn't done, yet
-                        //see AP-13094
-                        int i = 0;
-                        while (!browser.execute(jsCall) && i < 10) {
-                            Thread.sleep(100);
-                            i++;
-                        }
-                    } catch (Exception e) {
-                        LOGGER.info("Could not update intro page: " + e.getMessage(), e);
-                    }
+            Display.getDefault().asyncExec(() -> {
+                if (!browser.isDisposed()) {
+                    BrowserScriptQueue.of(browser).enqueue(jsCall);
                 }
             });
         }
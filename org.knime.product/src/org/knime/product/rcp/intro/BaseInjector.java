@@ -48,15 +48,10 @@
  */
 package org.knime.product.rcp.intro;
 
-import java.io.File;
 import java.net.URL;
-import java.util.concurrent.locks.ReentrantLock;
 
-import javax.xml.parsers.DocumentBuilderFactory;
-import javax.xml.transform.TransformerFactory;
 import javax.xml.xpath.XPath;
 import javax.xml.xpath.XPathConstants;
-import javax.xml.xpath.XPathFactory;
 
 import org.eclipse.core.runtime.FileLocator;
 import org.eclipse.core.runtime.preferences.IEclipsePreferences;
@@ -79,12 +74,9 @@ class BaseInjector extends AbstractInjector {
     private static final String SUBTITLE_FIRST = "Looks like you're using KNIME for the first time...";
     private static final String SUBTITLE = "Pick up where you left off";
 
-    protected BaseInjector(final File templateFile, final ReentrantLock introFileLock,
-        final IEclipsePreferences preferences, final boolean isFreshWorkspace,
-        final DocumentBuilderFactory parserFactory, final XPathFactory xpathFactory,
-        final TransformerFactory transformerFactory) {
-        super(templateFile, introFileLock, preferences, isFreshWorkspace, parserFactory, xpathFactory,
-            transformerFactory);
+    protected BaseInjector(final IntroPageModel model, final IEclipsePreferences preferences,
+        final boolean isFreshWorkspace) {
+        super(model, preferences, isFreshWorkspace);
     }
 
     /**
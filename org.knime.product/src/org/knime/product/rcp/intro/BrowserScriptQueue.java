@@ -0,0 +1,169 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.product.rcp.intro;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.swt.browser.Browser;
+import org.eclipse.swt.browser.LocationEvent;
+import org.eclipse.swt.browser.LocationListener;
+import org.eclipse.swt.browser.ProgressEvent;
+import org.eclipse.swt.browser.ProgressListener;
+import org.knime.core.node.NodeLogger;
+
+/**
+ * Buffers JavaScript updates for a browser while its page is loading and executes them in one call once the page has
+ * been loaded completely. There is one queue per browser, it is attached to the browser widget and disposed with it.
+ * <p>
+ * All methods must be called in the SWT UI thread.
+ * </p>
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class BrowserScriptQueue implements ProgressListener, LocationListener {
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(BrowserScriptQueue.class);
+
+    private static final String DATA_KEY = BrowserScriptQueue.class.getName();
+
+    private final Browser m_browser;
+
+    private final List<String> m_pending = new ArrayList<>();
+
+    private boolean m_loading;
+
+    /** Whether a page has been loaded completely since the queue was created. */
+    private boolean m_loaded;
+
+    private BrowserScriptQueue(final Browser browser) {
+        m_browser = browser;
+        browser.addProgressListener(this);
+        browser.addLocationListener(this);
+    }
+
+    /**
+     * @param browser a browser, not disposed
+     * @return the queue of the browser, created if it does not exist yet
+     */
+    static BrowserScriptQueue of(final Browser browser) {
+        var queue = (BrowserScriptQueue)browser.getData(DATA_KEY);
+        if (queue == null) {
+            queue = new BrowserScriptQueue(browser);
+            browser.setData(DATA_KEY, queue);
+        }
+        return queue;
+    }
+
+    /**
+     * Executes the script right away if the page is ready, otherwise as soon as it has been loaded. Scripts are
+     * executed in the order in which they have been enqueued. A script that cannot be executed although the page has
+     * been loaded is logged and dropped.
+     *
+     * @param script the JavaScript code
+     */
+    void enqueue(final String script) {
+        if (m_browser.isDisposed()) {
+            return;
+        }
+        // the first update may come before a queue has seen any load event, so just try whether the page is ready
+        if (!m_loading && m_pending.isEmpty()) {
+            if (m_browser.execute(isolate(script))) {
+                return;
+            }
+            if (m_loaded) {
+                // the page is ready, so executing the script again would fail as well
+                LOGGER.debug("Could not execute intro page update, dropping it: " + script);
+                return;
+            }
+        }
+        m_pending.add(script);
+    }
+
+    @Override
+    public void changing(final LocationEvent event) {
+        // nothing to do, navigation may still be vetoed
+    }
+
+    @Override
+    public void changed(final LocationEvent event) {
+        if (event.top) {
+            m_loading = true;
+        }
+    }
+
+    @Override
+    public void changed(final ProgressEvent event) {
+        // only the completion matters
+    }
+
+    @Override
+    public void completed(final ProgressEvent event) {
+        m_loading = false;
+        m_loaded = true;
+        if (m_pending.isEmpty() || m_browser.isDisposed()) {
+            return;
+        }
+        // each update is isolated, so a failing one does not prevent the others
+        final var batch = new StringBuilder();
+        for (var script : m_pending) {
+            batch.append(isolate(script));
+        }
+        if (m_browser.execute(batch.toString())) {
+            m_pending.clear();
+        } else {
+            LOGGER.debug("Could not execute " + m_pending.size() + " pending intro page update(s), retrying when the "
+                + "page has been loaded again");
+        }
+    }
+
+    private static String isolate(final String script) {
+        return "try {\n" + script + "\n} catch (e) { console.error(e); }\n";
+    }
+}
@@ -51,19 +51,18 @@
 
 import java.io.File;
 import java.io.IOException;
-import java.io.InputStream;
 import java.net.MalformedURLException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
-import java.nio.file.Files;
-import java.nio.file.StandardCopyOption;
 import java.util.Collections;
 import java.util.Map;
 import java.util.concurrent.locks.ReentrantLock;
 
 import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.transform.TransformerException;
 import javax.xml.transform.TransformerFactory;
 import javax.xml.transform.TransformerFactoryConfigurationError;
 import javax.xml.xpath.XPathFactory;
@@ -114,6 +113,7 @@
 import org.osgi.framework.BundleContext;
 import org.osgi.framework.FrameworkUtil;
 import org.osgi.framework.ServiceReference;
+import org.xml.sax.SAXException;
 
 /**
  * Class for showing and handling events in the intro page.
@@ -156,6 +156,8 @@ public static IntroPage getInstance() {
 
     private File m_introFile;
 
+    private IntroPageModel m_model;
+
     private final ReentrantLock m_lock;
 
     private final IEclipsePreferences m_prefs =
@@ -179,17 +181,22 @@ private IntroPage() {
 
     private void injectTiles(final boolean refresh) {
         try {
-            String introFile = "intro4.0/intro.xhtml";
-            m_introFile = copyTemplate(introFile, refresh);
+            if (m_model == null) {
+                m_introFile = FileUtil.createTempFile("intro", ".html", true);
+                URL introUrl = FrameworkUtil.getBundle(getClass()).getEntry("intro4.0/intro.xhtml");
+                m_model = new IntroPageModel(m_introFile, m_lock, introUrl, m_parserFactory, m_xpathFactory,
+                    m_transformerFactory);
+            } else if (refresh) {
+                m_model.reset();
+            }
 
-            BaseInjector baseInjector = new BaseInjector(m_introFile, m_lock, m_prefs, isStartedWithFreshWorkspace(),
-                m_parserFactory, m_xpathFactory, m_transformerFactory);
-            baseInjector.run();
+            m_model.inject(new BaseInjector(m_model, m_prefs, isStartedWithFreshWorkspace()));
 
             updateTiles();
 
-        } catch (IOException | TransformerFactoryConfigurationError ex) {
-            LOGGER.error("Could not copy welcome page: " + ex.getMessage(), ex);
+        } catch (IOException | SAXException | ParserConfigurationException | TransformerException
+                | TransformerFactoryConfigurationError ex) {
+            LOGGER.error("Could not prepare welcome page: " + ex.getMessage(), ex);
         }
     }
 
@@ -227,26 +234,6 @@ private static Map<String, String> getBrandingInfo() {
         }
     }
 
-    /**
-     * Copies one of the template files into a temporary directory.
-     *
-     * @param templateFile the template file that should be copied
-     * @return the modified temporary file
-     */
-    private File copyTemplate(final String templateFile, final boolean replaceExisting)
-        throws IOException, TransformerFactoryConfigurationError {
-        File tempTemplate = m_introFile;
-        if (!replaceExisting) {
-            tempTemplate = FileUtil.createTempFile("intro", ".html", true);
-        }
-        Bundle myBundle = FrameworkUtil.getBundle(getClass());
-        URL introUrl = myBundle.getEntry(templateFile);
-        try (InputStream is = introUrl.openStream()) {
-            Files.copy(is, tempTemplate.toPath(), StandardCopyOption.REPLACE_EXISTING);
-        }
-        return tempTemplate;
-    }
-
     /**
      * Shows the intro page.
      */
@@ -367,6 +354,7 @@ private void handleIntroCommand(final URI command) {
                 }
                 break;
             case "invokeupdate":
+                UpdateAvailability.getInstance().invalidate();
                 new InvokeUpdateAction().run();
                 break;
             case "newworkflow":
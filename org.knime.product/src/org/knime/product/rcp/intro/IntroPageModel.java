@@ -0,0 +1,240 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.product.rcp.intro;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+import javax.xml.parsers.DocumentBuilder;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.transform.OutputKeys;
+import javax.xml.transform.Transformer;
+import javax.xml.transform.TransformerConfigurationException;
+import javax.xml.transform.TransformerException;
+import javax.xml.transform.TransformerFactory;
+import javax.xml.transform.dom.DOMSource;
+import javax.xml.transform.stream.StreamResult;
+import javax.xml.xpath.XPath;
+import javax.xml.xpath.XPathFactory;
+
+import org.eclipse.swt.browser.Browser;
+import org.eclipse.swt.widgets.Display;
+import org.knime.core.node.NodeLogger;
+import org.w3c.dom.Document;
+import org.xml.sax.SAXException;
+
+/**
+ * The intro page as a parsed document in memory. The template is parsed once, {@link AbstractInjector injectors} apply
+ * their modifications to the in-memory document, and the document is only serialized into the intro page file once
+ * per batch of injectors.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class IntroPageModel {
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(IntroPageModel.class);
+
+    private final File m_introPageFile;
+
+    private final ReentrantLock m_lock;
+
+    private final DocumentBuilderFactory m_parserFactory;
+
+    private final XPathFactory m_xpathFactory;
+
+    private final Transformer m_serializer;
+
+    private final Document m_template;
+
+    private Document m_document;
+
+    /**
+     * Parses the template and creates a new model.
+     *
+     * @param introPageFile the file into which the page is serialized
+     * @param lock lock for the intro page, held while the document is modified or serialized
+     * @param templateUrl URL of the intro page template
+     * @param parserFactory a parser factory
+     * @param xpathFactory an XPath factory
+     * @param transformerFactory a transformer factory
+     * @throws IOException if the template cannot be read
+     * @throws SAXException if the template cannot be parsed
+     * @throws ParserConfigurationException if no parser can be created
+     * @throws TransformerConfigurationException if no serializer can be created
+     */
+    IntroPageModel(final File introPageFile, final ReentrantLock lock, final URL templateUrl,
+        final DocumentBuilderFactory parserFactory, final XPathFactory xpathFactory,
+        final TransformerFactory transformerFactory)
+        throws IOException, SAXException, ParserConfigurationException, TransformerConfigurationException {
+        m_introPageFile = introPageFile;
+        m_lock = lock;
+        m_parserFactory = parserFactory;
+        m_xpathFactory = xpathFactory;
+
+        m_serializer = transformerFactory.newTransformer();
+        m_serializer.setOutputProperty(OutputKeys.METHOD, "html");
+        m_serializer.setOutputProperty(OutputKeys.DOCTYPE_SYSTEM, "about:legacy-compat");
+        m_serializer.setOutputProperty(OutputKeys.OMIT_XML_DECLARATION, "yes");
+
+        try (InputStream is = templateUrl.openStream()) {
+            m_template = newParser().parse(is, templateUrl.toExternalForm());
+        }
+        m_document = (Document)m_template.cloneNode(true);
+    }
+
+    /**
+     * @return the file into which the intro page is serialized
+     */
+    File getIntroPageFile() {
+        return m_introPageFile;
+    }
+
+    /**
+     * @return a new parser that ignores the DTD
+     * @throws ParserConfigurationException if no parser can be created
+     */
+    DocumentBuilder newParser() throws ParserConfigurationException {
+        final DocumentBuilder parser = m_parserFactory.newDocumentBuilder();
+        parser.setEntityResolver(EmptyDoctypeResolver.INSTANCE);
+        return parser;
+    }
+
+    /**
+     * @return a new XPath object
+     */
+    XPath newXPath() {
+        return m_xpathFactory.newXPath();
+    }
+
+    /**
+     * Discards all injected modifications, the next {@link #inject(AbstractInjector...)} starts from the template
+     * again.
+     */
+    void reset() {
+        m_lock.lock();
+        try {
+            m_document = (Document)m_template.cloneNode(true);
+        } finally {
+            m_lock.unlock();
+        }
+    }
+
+    /**
+     * Lets all injectors prepare their data, applies their modifications to the document in one batch, writes the
+     * intro page file once, and refreshes the intro page if it is shown. Failing injectors are logged and skipped.
+     *
+     * @param injectors the injectors
+     */
+    void inject(final AbstractInjector... injectors) {
+        final List<AbstractInjector> prepared = new ArrayList<>(injectors.length);
+        for (AbstractInjector injector : injectors) {
+            try {
+                injector.prepareData();
+                prepared.add(injector);
+            } catch (Exception ex) {
+                NodeLogger.getLogger(injector.getClass()).warn("Could not modify intro page: " + ex.getMessage(), ex);
+            }
+        }
+        if (prepared.isEmpty()) {
+            return;
+        }
+
+        var modified = false;
+        m_lock.lock();
+        try {
+            final XPath xpath = newXPath();
+            for (AbstractInjector injector : prepared) {
+                try {
+                    injector.injectData(m_document, xpath);
+                    modified = true;
+                } catch (Exception ex) {
+                    NodeLogger.getLogger(injector.getClass())
+                        .warn("Could not modify intro page: " + ex.getMessage(), ex);
+                }
+            }
+            if (modified) {
+                writeFile();
+            }
+        } catch (IOException | TransformerException ex) {
+            LOGGER.warn("Could not write intro page: " + ex.getMessage(), ex);
+            modified = false;
+        } finally {
+            m_lock.unlock();
+        }
+
+        if (modified) {
+            refreshIntroEditor();
+        }
+    }
+
+    private void writeFile() throws IOException, TransformerException {
+        final File temp = new File(m_introPageFile.getParentFile(), m_introPageFile.getName() + ".tmp");
+        try (OutputStream out = new FileOutputStream(temp)) {
+            m_serializer.transform(new DOMSource(m_document), new StreamResult(out));
+        }
+        Files.move(temp.toPath(), m_introPageFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    private void refreshIntroEditor() {
+        final Browser browser = AbstractIntroPageModifier.findIntroPageBrowser(m_introPageFile);
+        if (browser != null) {
+            Display.getDefault().asyncExec(browser::refresh);
+        }
+    }
+}
@@ -0,0 +1,201 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.product.rcp.intro;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.knime.core.node.NodeLogger;
+
+/**
+ * Delivers pings to an endpoint on a background thread, so that recording a ping does not cost more than storing its
+ * parameters. A ping that is recorded while another one has not been delivered yet replaces that one, so repeated
+ * pings are reported once. Failed deliveries are retried with exponential backoff up to a maximum number of attempts,
+ * after which the ping is dropped.
+ *
+ * @param <P> the ping, i.e. the parameters of the request
+ * @param <R> the response of the endpoint
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class PingSpool<P, R> {
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(PingSpool.class);
+
+    private static final AtomicInteger THREAD_COUNTER = new AtomicInteger();
+
+    /**
+     * Delivers a ping.
+     *
+     * @param <P> the ping
+     * @param <R> the response of the endpoint
+     */
+    @FunctionalInterface
+    interface Sender<P, R> {
+
+        /**
+         * @param ping the ping to deliver
+         * @param attempt the number of the attempt, starting with 0
+         * @return the response or an empty optional if the ping could not be delivered
+         */
+        Optional<R> send(P ping, int attempt);
+    }
+
+    private final class Pending {
+
+        private P m_ping;
+
+        private int m_attempts;
+
+        private final CompletableFuture<Optional<R>> m_firstAttempt = new CompletableFuture<>();
+
+        Pending(final P ping) {
+            m_ping = ping;
+        }
+    }
+
+    private final Sender<P, R> m_sender;
+
+    private final ScheduledExecutorService m_executor;
+
+    private final long m_initialBackoffMillis;
+
+    private final long m_maxBackoffMillis;
+
+    private final int m_maxAttempts;
+
+    // guarded by this
+    private Pending m_pending;
+
+    /**
+     * @param sender delivers the pings
+     * @param executor runs the deliveries
+     * @param initialBackoffMillis the delay before the first retry, doubled for every further retry
+     * @param maxBackoffMillis the maximum delay between two retries
+     * @param maxAttempts the maximum number of attempts to deliver a ping
+     */
+    PingSpool(final Sender<P, R> sender, final ScheduledExecutorService executor, final long initialBackoffMillis,
+        final long maxBackoffMillis, final int maxAttempts) {
+        m_sender = sender;
+        m_executor = executor;
+        m_initialBackoffMillis = initialBackoffMillis;
+        m_maxBackoffMillis = maxBackoffMillis;
+        m_maxAttempts = maxAttempts;
+    }
+
+    /**
+     * @param name the name of the thread
+     * @return an executor with a single daemon thread that is only kept while there is something to deliver
+     */
+    static ScheduledExecutorService newExecutor(final String name) {
+        final var executor = new ScheduledThreadPoolExecutor(1, r -> {
+            final var t = new Thread(r, name + "-" + THREAD_COUNTER.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+        executor.setKeepAliveTime(30, TimeUnit.SECONDS);
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    /**
+     * Records a ping for delivery. If a ping has not been delivered yet, it is replaced by the given one.
+     *
+     * @param ping the ping
+     * @return a future that completes with the response of the first attempt to deliver the (possibly replaced) ping,
+     *         or an empty optional if that attempt failed
+     */
+    synchronized CompletableFuture<Optional<R>> record(final P ping) {
+        if (m_pending == null) {
+            m_pending = new Pending(ping);
+            m_executor.execute(this::flush);
+        } else {
+            m_pending.m_ping = ping;
+        }
+        return m_pending.m_firstAttempt;
+    }
+
+    private void flush() {
+        final Pending pending;
+        final P ping;
+        final int attempt;
+        synchronized (this) {
+            pending = m_pending;
+            if (pending == null) {
+                return;
+            }
+            ping = pending.m_ping;
+            attempt = pending.m_attempts++;
+        }
+
+        Optional<R> response;
+        try {
+            response = m_sender.send(ping, attempt);
+        } catch (RuntimeException e) { // NOSONAR the ping is retried
+            LOGGER.debug("Could not deliver ping: " + e.getMessage(), e);
+            response = Optional.empty();
+        }
+        pending.m_firstAttempt.complete(response);
+
+        synchronized (this) {
+            if (response.isPresent()) {
+                m_pending = null;
+            } else if (pending.m_attempts >= m_maxAttempts) {
+                LOGGER.debug("Giving up to deliver ping after " + pending.m_attempts + " attempts");
+                m_pending = null;
+            } else {
+                final long backoff = Math.min(m_maxBackoffMillis, m_initialBackoffMillis << Math.min(attempt, 20));
+                m_executor.schedule(this::flush, backoff, TimeUnit.MILLISECONDS);
+            }
+        }
+    }
+}
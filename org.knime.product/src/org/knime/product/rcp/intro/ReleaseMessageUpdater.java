@@ -52,6 +52,7 @@
 import java.net.URI;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.locks.ReentrantLock;
 
 import org.knime.core.eclipseUtil.UpdateChecker.UpdateInfo;
@@ -91,9 +92,10 @@ protected void updateData() throws Exception{
     @Override
     protected void prepareData() throws Exception {
         try {
-            m_newReleases = UpdateDetector.checkForNewRelease();
-            m_bugfixes = UpdateDetector.checkForBugfixes();
-        } catch (Exception e) {
+            final var updates = UpdateAvailability.getInstance().getUpdates().get();
+            m_newReleases = new ArrayList<>(updates.newReleases());
+            m_bugfixes = new ArrayList<>(updates.bugfixes());
+        } catch (ExecutionException e) {
             // offline or server not reachable
             NodeLogger.getLogger(ReleaseMessageUpdater.class)
                 .info("Could not check for updates or new releases, possibly offline.");
@@ -0,0 +1,201 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.product.rcp.intro;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.LongSupplier;
+
+import org.knime.core.eclipseUtil.UpdateChecker.UpdateInfo;
+import org.knime.product.p2.RepositoryUpdater;
+
+/**
+ * Shares the results of the update checks done by {@link UpdateDetector} between all consumers, e.g. the intro page
+ * that is shown again and again. A successful result is reused until its time to live (system property
+ * {@value #TTL_PROPERTY}, in minutes) has passed, and consumers asking while a check is running wait for that check
+ * instead of starting another one. Failed checks, e.g. when being offline, are not cached. Checks wait until a
+ * deferred repository setup of the startup is done (if one has been scheduled), see
+ * {@link RepositoryUpdater#whenRepositoriesSetUp()}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public final class UpdateAvailability {
+
+    /** System property for the number of minutes a check result is reused. */
+    static final String TTL_PROPERTY = "knime.updatecheck.cache.ttl";
+
+    static final long DEFAULT_TTL_MINUTES = 60;
+
+    private static final UpdateAvailability INSTANCE = new UpdateAvailability(UpdateAvailability::check,
+        UpdateDetector.CHECK_EXECUTOR, Duration.ofMinutes(Math.max(0, Long.getLong(TTL_PROPERTY, DEFAULT_TTL_MINUTES))),
+        System::nanoTime);
+
+    /**
+     * The result of an update check.
+     *
+     * @param newReleases the new releases available in the known KNIME repositories
+     * @param bugfixes the names of the installed features for which updates are available
+     */
+    public record Updates(List<UpdateInfo> newReleases, List<String> bugfixes) {
+
+        /**
+         * @param newReleases the new releases available in the known KNIME repositories
+         * @param bugfixes the names of the installed features for which updates are available
+         */
+        public Updates {
+            newReleases = List.copyOf(newReleases);
+            bugfixes = List.copyOf(bugfixes);
+        }
+    }
+
+    private final Callable<Updates> m_checker;
+
+    private final Executor m_executor;
+
+    private final long m_ttlNanos;
+
+    private final LongSupplier m_nanoClock;
+
+    private final Object m_lock = new Object();
+
+    // all guarded by m_lock
+    private CompletableFuture<Updates> m_inFlight;
+
+    private Updates m_cached;
+
+    private long m_cachedAt;
+
+    private long m_generation;
+
+    UpdateAvailability(final Callable<Updates> checker, final Executor executor, final Duration ttl,
+        final LongSupplier nanoClock) {
+        m_checker = checker;
+        m_executor = executor;
+        m_ttlNanos = ttl.toNanos();
+        m_nanoClock = nanoClock;
+    }
+
+    /**
+     * @return the instance shared by all consumers
+     */
+    public static UpdateAvailability getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Returns the available updates. The future is already completed if a recent result is available, otherwise it
+     * completes once the (possibly already running) check is done. It completes exceptionally if the check failed.
+     *
+     * @return a future with the available updates
+     */
+    public CompletableFuture<Updates> getUpdates() {
+        synchronized (m_lock) {
+            if (m_cached != null && m_nanoClock.getAsLong() - m_cachedAt < m_ttlNanos) {
+                return CompletableFuture.completedFuture(m_cached);
+            }
+            if (m_inFlight == null) {
+                final long generation = m_generation;
+                final var future = CompletableFuture.supplyAsync(this::runCheck, m_executor);
+                m_inFlight = future;
+                future.whenComplete((updates, ex) -> checkDone(generation, future, updates));
+            }
+            return m_inFlight;
+        }
+    }
+
+    /**
+     * Discards the cached result, e.g. because updates have been installed. The next request will check again.
+     */
+    public void invalidate() {
+        synchronized (m_lock) {
+            m_generation++;
+            m_cached = null;
+            m_inFlight = null;
+        }
+    }
+
+    private Updates runCheck() {
+        try {
+            return m_checker.call();
+        } catch (Exception ex) { // NOSONAR the checker's exception is passed on to the consumers
+            throw new CompletionException(ex);
+        }
+    }
+
+    private void checkDone(final long generation, final CompletableFuture<Updates> future, final Updates updates) {
+        synchronized (m_lock) {
+            if (m_inFlight == future) {
+                m_inFlight = null;
+            }
+            if (updates != null && generation == m_generation) {
+                m_cached = updates;
+                m_cachedAt = m_nanoClock.getAsLong();
+            }
+        }
+    }
+
+    private static Updates check() throws Exception {
+        // the default KNIME repositories are only added after the workbench has been opened; the future is already
+        // complete if no setup has been deferred, and a failed setup has been logged by the startup
+        RepositoryUpdater.INSTANCE.whenRepositoriesSetUp().handle((v, e) -> null).get();
+        // the bugfix check resolves a p2 update operation, which can run while the release sites are queried
+        final var bugfixes =
+            CompletableFuture.supplyAsync(UpdateDetector::checkForBugfixes, UpdateDetector.CHECK_EXECUTOR);
+        final var newReleases = UpdateDetector.checkForNewRelease();
+        try {
+            return new Updates(newReleases, bugfixes.join());
+        } catch (CompletionException ex) {
+            throw ex.getCause() instanceof Exception e ? e : ex;
+        }
+    }
+}
@@ -49,11 +49,18 @@
 package org.knime.product.rcp.intro;
 
 import java.io.IOException;
+import java.io.InterruptedIOException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -71,12 +78,22 @@
  */
 public final class UpdateDetector {
 
+    private static final AtomicInteger THREAD_COUNTER = new AtomicInteger();
+
+    /** Runs the checks of the single repositories, the threads are only kept while checks are running. */
+    static final ExecutorService CHECK_EXECUTOR = Executors.newCachedThreadPool(r -> {
+        final var t = new Thread(r, "KNIME-Update-Check-" + THREAD_COUNTER.incrementAndGet());
+        t.setDaemon(true);
+        return t;
+    });
+
     private UpdateDetector() {
         // Utility class
     }
 
     /**
-     * Check for new releases
+     * Check for new releases. The known KNIME repositories are queried in parallel. Consider using
+     * {@link UpdateAvailability} which caches the result.
      *
      * @return List of update infos on new releases
      * @throws IOException
@@ -90,21 +107,51 @@ public static List<UpdateInfo> checkForNewRelease() throws IOException, URISynta
             return Collections.emptyList();
         }
 
-        List<UpdateInfo> updateList = new ArrayList<>();
+        final List<CompletableFuture<UpdateInfo>> checks = new ArrayList<>();
         for (URI uri : tracker.getKnownRepositories(provUI.getSession())) {
             if (("http".equals(uri.getScheme()) || "https".equals(uri.getScheme()))
                 && (uri.getHost().endsWith(".knime.org") || uri.getHost().endsWith(".knime.com"))) {
-                UpdateInfo newRelease = UpdateChecker.checkForNewRelease(uri);
-                if (newRelease != null) {
-                    updateList.add(newRelease);
+                checks.add(CompletableFuture.supplyAsync(() -> checkRepository(uri), CHECK_EXECUTOR));
+            }
+        }
+
+        List<UpdateInfo> updateList = new ArrayList<>();
+        for (CompletableFuture<UpdateInfo> check : checks) {
+            final UpdateInfo newRelease;
+            try {
+                newRelease = check.get();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                checks.forEach(c -> c.cancel(true));
+                throw new InterruptedIOException("Interrupted while checking for new releases");
+            } catch (ExecutionException ex) {
+                final Throwable cause = ex.getCause();
+                if (cause instanceof IOException ioe) {
+                    throw ioe;
+                } else if (cause instanceof URISyntaxException use) {
+                    throw use;
+                } else if (cause instanceof RuntimeException re) {
+                    throw re;
                 }
+                throw new IOException(cause.getMessage(), cause);
+            }
+            if (newRelease != null) {
+                updateList.add(newRelease);
             }
         }
         return updateList;
     }
 
+    private static UpdateInfo checkRepository(final URI uri) {
+        try {
+            return UpdateChecker.checkForNewRelease(uri);
+        } catch (IOException | URISyntaxException ex) {
+            throw new CompletionException(ex);
+        }
+    }
+
     /**
-     * Check for new bugfix updates
+     * Check for new bugfix updates. Consider using {@link UpdateAvailability} which caches the result.
      *
      * @return List of bugfix updates
      */
@@ -0,0 +1,253 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.product.rcp.intro;
+
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.eclipse.core.runtime.Platform;
+import org.knime.core.node.NodeLogger;
+import org.knime.product.rcp.intro.json.JSONCategory;
+import org.osgi.framework.FrameworkUtil;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Disk cache for the categories returned by the welcome page endpoint, so that the tiles can be shown immediately
+ * on the next start while the endpoint is called in the background. Besides the categories, the cache keeps the
+ * endpoint that delivered them and its validators ({@code ETag}, {@code Last-Modified}) for a conditional request.
+ * One entry is kept per request variant, so that the classic and the modern UI do not evict each other's categories.
+ * <p>
+ * Entries older than the time to live (system property {@value #TTL_PROPERTY}, in hours) are not shown anymore, but
+ * their validators can still be used for revalidation.
+ * </p>
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class WelcomeAPCategoryCache {
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(WelcomeAPCategoryCache.class);
+
+    /** System property for the maximum age in hours of cached categories that are shown. */
+    static final String TTL_PROPERTY = "knime.welcomeap.cache.ttl";
+
+    static final long DEFAULT_TTL_HOURS = 7 * 24L;
+
+    private static final String CACHE_FILE = "welcome-ap-categories.json";
+
+    private static final int FORMAT_VERSION = 2;
+
+    /**
+     * A cached endpoint response.
+     *
+     * @param variant the request variant the categories were requested for, see {@link #variant(boolean, String)}
+     * @param fetched when the categories were last received or revalidated
+     * @param endpoint the endpoint that delivered the categories
+     * @param etag the {@code ETag} header of the response, may be <code>null</code>
+     * @param lastModified the {@code Last-Modified} header of the response, may be <code>null</code>
+     * @param categories the categories
+     */
+    record Entry(String variant, Instant fetched, String endpoint, String etag, String lastModified,
+        JSONCategory[] categories) {
+
+        /**
+         * @param ttl the time to live
+         * @param now the current time
+         * @return whether the entry is older than the time to live
+         */
+        boolean isExpired(final Duration ttl, final Instant now) {
+            return fetched.plus(ttl).isBefore(now);
+        }
+    }
+
+    private final Path m_file;
+
+    private final Duration m_ttl;
+
+    private final ObjectMapper m_mapper = new ObjectMapper();
+
+    /**
+     * @param file the cache file
+     * @param ttl the time to live
+     */
+    WelcomeAPCategoryCache(final Path file, final Duration ttl) {
+        m_file = file;
+        m_ttl = ttl;
+    }
+
+    /**
+     * @return the cache in the state location of this plug-in, with the configured time to live
+     */
+    static WelcomeAPCategoryCache inStateLocation() {
+        final var stateLocation =
+            Platform.getStateLocation(FrameworkUtil.getBundle(WelcomeAPCategoryCache.class)).toFile().toPath();
+        return new WelcomeAPCategoryCache(stateLocation.resolve(CACHE_FILE),
+            Duration.ofHours(Math.max(0, Long.getLong(TTL_PROPERTY, DEFAULT_TTL_HOURS))));
+    }
+
+    /**
+     * @param calledFromWebUI whether the categories are requested for the Web UI
+     * @param companyName the brand parameter, may be <code>null</code>
+     * @return a key for the request parameters that influence the content of the response
+     */
+    static String variant(final boolean calledFromWebUI, final String companyName) {
+        return (calledFromWebUI ? "modern" : "classic") + (companyName == null ? "" : ("|" + companyName));
+    }
+
+    /**
+     * Reads the cached entry for the given variant, regardless of its age.
+     *
+     * @param variant the request variant
+     * @return the entry, or an empty optional if nothing is cached for the variant or the cache cannot be read
+     */
+    synchronized Optional<Entry> read(final String variant) {
+        final var node = readEntries().path(variant);
+        if (!node.path("categories").isArray()) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(new Entry(variant, Instant.ofEpochMilli(node.path("fetched").asLong()),
+                node.path("endpoint").asText(), textOrNull(node, "etag"), textOrNull(node, "lastModified"),
+                m_mapper.treeToValue(node.get("categories"), JSONCategory[].class)));
+        } catch (IOException | RuntimeException ex) { // NOSONAR a broken cache must not prevent showing tiles
+            LOGGER.debug("Could not read cached welcome page categories from " + m_file + ": " + ex.getMessage(), ex);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * @param entry a cached entry
+     * @return whether the entry is not older than the time to live and its categories may be shown
+     */
+    boolean isFresh(final Entry entry) {
+        return !entry.isExpired(m_ttl, Instant.now());
+    }
+
+    /**
+     * Replaces the cached entry of the entry's variant, the entries of other variants are kept.
+     *
+     * @param entry the new entry
+     */
+    synchronized void write(final Entry entry) {
+        final var node = m_mapper.createObjectNode();
+        node.put("fetched", entry.fetched().toEpochMilli());
+        node.put("endpoint", entry.endpoint());
+        node.put("etag", entry.etag());
+        node.put("lastModified", entry.lastModified());
+        node.set("categories", m_mapper.valueToTree(entry.categories()));
+
+        final var entries = readEntries();
+        entries.set(entry.variant(), node);
+        final var root = m_mapper.createObjectNode();
+        root.put("formatVersion", FORMAT_VERSION);
+        root.set("entries", entries);
+
+        final var temp = m_file.resolveSibling(m_file.getFileName() + "." + UUID.randomUUID() + ".tmp");
+        try {
+            Files.createDirectories(m_file.getParent());
+            m_mapper.writeValue(temp.toFile(), root);
+            try {
+                Files.move(temp, m_file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException ex) { // NOSONAR fall back to a non-atomic move
+                Files.move(temp, m_file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException ex) {
+            LOGGER.debug("Could not cache welcome page categories in " + m_file + ": " + ex.getMessage(), ex);
+        } finally {
+            try {
+                Files.deleteIfExists(temp);
+            } catch (IOException ex) { // NOSONAR only a left-over temporary file
+                LOGGER.debug("Could not delete " + temp + ": " + ex.getMessage(), ex);
+            }
+        }
+    }
+
+    /**
+     * @return the cached entries by variant, empty if nothing is cached or the cache cannot be read
+     */
+    private ObjectNode readEntries() {
+        if (Files.isRegularFile(m_file)) {
+            try {
+                final JsonNode root = m_mapper.readTree(m_file.toFile());
+                if (root.path("formatVersion").asInt() == FORMAT_VERSION && root.path("entries").isObject()) {
+                    return (ObjectNode)root.get("entries");
+                }
+            } catch (IOException ex) { // NOSONAR a broken cache must not prevent showing tiles
+                LOGGER.debug(
+                    "Could not read cached welcome page categories from " + m_file + ": " + ex.getMessage(), ex);
+            }
+        }
+        return m_mapper.createObjectNode();
+    }
+
+    /**
+     * Removes the cached entries of all variants, e.g. if tiles must not be shown anymore.
+     */
+    synchronized void clear() {
+        try {
+            Files.deleteIfExists(m_file);
+        } catch (IOException ex) {
+            LOGGER.debug("Could not delete cached welcome page categories " + m_file + ": " + ex.getMessage(), ex);
+        }
+    }
+
+    private static String textOrNull(final JsonNode root, final String field) {
+        final var node = root.get(field);
+        return node == null || node.isNull() ? null : node.asText();
+    }
+}
@@ -50,11 +50,15 @@
 import java.io.InputStream;
 import java.net.HttpURLConnection;
 import java.net.URISyntaxException;
+import java.time.Instant;
 import java.time.ZonedDateTime;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Supplier;
 
 import org.apache.http.client.utils.URIBuilder;
@@ -79,10 +83,35 @@ public final class WelcomeAPEndpoint {
 
     private static final String KNIME_COM_ENDPOINT = "https://tips-and-tricks.knime.com/welcome-ap";
 
+    /** System property for the time in milliseconds to wait for the endpoints, shared by all concurrent requests. */
+    private static final String TIMEOUT_PROPERTY = "knime.welcomeap.timeout";
+
+    /** One round trip with the connect and read timeouts of a single request. */
+    private static final long DEFAULT_TIMEOUT_MILLIS = 7_000;
+
+    /** The delay before the first retry of a usage ping, doubled for further retries. */
+    private static final long PING_INITIAL_BACKOFF_MILLIS = 30_000;
+
+    private static final long PING_MAX_BACKOFF_MILLIS = 10 * 60_000L;
+
+    private static final int PING_MAX_ATTEMPTS = 5;
+
+    /**
+     * The request to the KNIME endpoint reports the usage, it is retried in the background if it fails. Its response
+     * is also used for the categories if there is no custom endpoint.
+     */
+    private static final PingSpool<Ping, Response> KNIME_PING_SPOOL =
+        new PingSpool<>(WelcomeAPEndpoint::sendPing, PingSpool.newExecutor("KNIME-Welcome-Ping"),
+            PING_INITIAL_BACKOFF_MILLIS, PING_MAX_BACKOFF_MILLIS, PING_MAX_ATTEMPTS);
+
     private static WelcomeAPEndpoint instance;
 
     private Future<Optional<JSONCategory[]>> m_future;
 
+    private Optional<JSONCategory[]> m_cachedCategories = Optional.empty();
+
+    private WelcomeAPCategoryCache m_cache;
+
     /**
      * Singleton to be accessible from classic UI or early lifecycle stages of web UI.
      *
@@ -100,39 +129,136 @@ private WelcomeAPEndpoint() {
     }
 
     /**
+     * Reports the usage to the endpoint. Does not block, the endpoint is called in the background and retried if it
+     * cannot be reached.
      *
      * @param calledFromWebUI Whether the call is made from the Web UI.
      */
     public void callEndpointForTracking(final boolean calledFromWebUI) {
-        getCategories(calledFromWebUI, null);
+        startRefresh(calledFromWebUI, null);
     }
 
     /**
+     * Returns the categories to show. The endpoint is called once per session. If categories from a previous session
+     * are cached and not older than the cache's time to live, they are returned immediately while the endpoint is
+     * called in the background (including all tracking parameters) to update the cache for the next display.
+     *
      * @apiNote This method call might block until the page content is retrieved.
      * @param calledFromWebUI Whether the call is made from the Web UI.
      * @param companyName Customisation information from AP instance, nullable. Already URL-encoded.
      * @return the home/welcome page content categories or an empty optional if run from the SDK
      */
     public Optional<JSONCategory[]> getCategories(final boolean calledFromWebUI, final String companyName) {
-        if (m_future == null) {
-            m_future =
-                CompletableFuture.supplyAsync(() -> WelcomeAPEndpoint.requestCategories(calledFromWebUI, companyName));
+        final Future<Optional<JSONCategory[]>> future;
+        synchronized (this) {
+            future = startRefresh(calledFromWebUI, companyName);
+            if (m_cachedCategories.isPresent()) {
+                return m_cachedCategories;
+            }
         }
         try {
-            return m_future.get();
+            return future.get();
         } catch (InterruptedException | ExecutionException e) { // NOSONAR (exception handled in requestCategories)
             return Optional.empty();
         }
     }
 
+    /**
+     * Starts calling the endpoint unless that has already happened in this session.
+     */
+    private synchronized Future<Optional<JSONCategory[]>> startRefresh(final boolean calledFromWebUI,
+        final String companyName) {
+        if (m_future == null) {
+            final var variant = WelcomeAPCategoryCache.variant(calledFromWebUI, companyName);
+            final var cached = getCache().flatMap(c -> c.read(variant));
+            m_cachedCategories = areTilesHidden() ? Optional.empty()
+                : cached.filter(e -> m_cache.isFresh(e)).map(WelcomeAPCategoryCache.Entry::categories);
+            m_future = CompletableFuture
+                .supplyAsync(() -> refreshCategories(calledFromWebUI, companyName, variant, cached.orElse(null)));
+        }
+        return m_future;
+    }
+
+    private synchronized Optional<WelcomeAPCategoryCache> getCache() {
+        if (m_cache == null && !EclipseUtil.isRunFromSDK()) {
+            try {
+                m_cache = WelcomeAPCategoryCache.inStateLocation();
+            } catch (RuntimeException e) { // NOSONAR e.g. no instance location, tiles are then not cached
+                NodeLogger.getLogger(WelcomeAPEndpoint.class)
+                    .debug("Welcome page categories are not cached: " + e.getMessage(), e);
+            }
+        }
+        return Optional.ofNullable(m_cache);
+    }
+
+    /**
+     * Requests the categories and updates the cache with the result.
+     */
+    private Optional<JSONCategory[]> refreshCategories(final boolean calledFromWebUI, final String companyName,
+        final String variant, final WelcomeAPCategoryCache.Entry cached) {
+        final var response = requestCategories(calledFromWebUI, companyName, cached);
+        getCache().ifPresent(cache -> {
+            if (response.isPresent()) {
+                final var r = response.get();
+                cache.write(new WelcomeAPCategoryCache.Entry(variant, Instant.now(), r.endpoint(), r.etag(),
+                    r.lastModified(), r.categories()));
+            } else if (areTilesHidden()) {
+                cache.clear();
+            }
+        });
+        return response.map(Response::categories);
+    }
+
+    /**
+     * @return whether no tiles should be shown at all, in which case cached tiles must not be shown either
+     */
+    private static boolean areTilesHidden() {
+        if (EclipseUtil.isRunFromSDK()) {
+            return true;
+        }
+        return CorePlugin.getInstance().getCustomizationService() //
+            .map(s -> s.getCustomization().ui()) //
+            .map(ui -> ui.isHideWelcomeAPTiles()) //
+            .orElse(true);
+    }
+
+    /**
+     * A response of one endpoint.
+     *
+     * @param endpoint the endpoint URL
+     * @param categories the parsed categories
+     * @param etag the {@code ETag} header, may be <code>null</code>
+     * @param lastModified the {@code Last-Modified} header, may be <code>null</code>
+     */
+    private record Response(String endpoint, JSONCategory[] categories, String etag, String lastModified) {
+    }
+
+    /**
+     * The parameters of a usage ping to the KNIME endpoint.
+     *
+     * @param calledFromWebUI Whether the call is made from the Web UI.
+     * @param companyName Customisation information from AP instance, nullable. Already URL-encoded.
+     * @param cached the cached response of a previous session for conditional requests, may be <code>null</code>
+     */
+    private record Ping(boolean calledFromWebUI, String companyName, WelcomeAPCategoryCache.Entry cached) {
+    }
+
+    private static Optional<Response> sendPing(final Ping ping, final int attempt) {
+        // the usage statistics are only read when the ping is sent, failed retries are only logged for debugging
+        return performRequest(KNIME_COM_ENDPOINT, null, ping.calledFromWebUI(), ping.companyName(), ping.cached(),
+            attempt == 0);
+    }
+
     /**
      * Negotiate which endpoints to hit and of which to return results from.
      *
      * @param calledFromWebUI Whether the call is made from the Web UI.
      * @param companyName Customisation information from AP instance, nullable. Already URL-encoded.
+     * @param cached the cached response of a previous session for conditional requests, may be <code>null</code>
      * @return The home page tile contents, grouped into categories.
      */
-    private static Optional<JSONCategory[]> requestCategories(final boolean calledFromWebUI, final String companyName) {
+    private static Optional<Response> requestCategories(final boolean calledFromWebUI, final String companyName,
+        final WelcomeAPCategoryCache.Entry cached) {
         if (EclipseUtil.isRunFromSDK()) {
             return Optional.empty();
         }
@@ -143,20 +269,116 @@ private static Optional<JSONCategory[]> requestCategories(final boolean calledFr
             return Optional.empty();
         }
 
-        // always request KNIME endpoint for tracking, even though we might not use the response
-        var responseFromKnimeEndpoint = performRequest(KNIME_COM_ENDPOINT, calledFromWebUI, companyName); // NOSONAR
+        // always report to the KNIME endpoint for tracking, even though we might not use the response
+        final var knimeResponse = KNIME_PING_SPOOL.record(new Ping(calledFromWebUI, companyName, cached));
 
         if (uiCustomization.isHideWelcomeAPTiles()) {
             return Optional.empty();
         }
 
-        var responseFromCustomEndpoint = uiCustomization.getWelcomeAPEndpointURL(WelcomeAPEndpoint::getUserId) //
-            .flatMap(endpoint -> performRequest(endpoint, calledFromWebUI, companyName));
-        return responseFromCustomEndpoint.isPresent() ? responseFromCustomEndpoint : responseFromKnimeEndpoint;
+        // both endpoints are requested concurrently, the custom endpoint wins as soon as it has answered
+        final var customRequest = uiCustomization.getWelcomeAPEndpointURL(WelcomeAPEndpoint::getUserId) //
+            .map(endpoint -> new EndpointRequest(endpoint, calledFromWebUI, companyName, cached));
+        final var deadline =
+            System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(Long.getLong(TIMEOUT_PROPERTY, DEFAULT_TIMEOUT_MILLIS));
+        final var responseFromCustomEndpoint = customRequest.flatMap(r -> r.await(deadline));
+        if (responseFromCustomEndpoint.isPresent()) {
+            // the KNIME request is not cancelled, it still has to deliver the tracking data
+            return responseFromCustomEndpoint;
+        }
+        return await(knimeResponse, deadline, KNIME_COM_ENDPOINT, () -> {
+            // the ping is not cancelled either
+        });
     }
 
-    private static Optional<JSONCategory[]> performRequest(final String endpointUrl, final boolean calledFromWebUI,
-        final String companyName) {
+    /**
+     * Waits for a response until the given deadline.
+     *
+     * @param response the future response
+     * @param deadlineNanos the deadline in terms of {@link System#nanoTime()}
+     * @param endpointUrl the endpoint URL for logging
+     * @param onTimeout called if the deadline has passed or the waiting thread has been interrupted
+     * @return the response or an empty optional if the request failed or did not finish in time
+     */
+    private static Optional<Response> await(final Future<Optional<Response>> response, final long deadlineNanos,
+        final String endpointUrl, final Runnable onTimeout) {
+        try {
+            return response.get(Math.max(0, deadlineNanos - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) { // NOSONAR logged
+            NodeLogger.getLogger(WelcomeAPEndpoint.class)
+                .debug("Welcome page endpoint " + endpointUrl + " did not answer in time");
+            onTimeout.run();
+        } catch (InterruptedException e) { // NOSONAR the response is not needed anymore
+            Thread.currentThread().interrupt();
+            onTimeout.run();
+        } catch (ExecutionException e) { // NOSONAR exception handled in performRequest
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * A request to one endpoint, running in the background from its creation on. It can be cancelled by
+     * disconnecting its connection once its response is not needed anymore.
+     */
+    private static final class EndpointRequest {
+
+        private final String m_endpointUrl;
+
+        private final AtomicReference<HttpURLConnection> m_connection = new AtomicReference<>();
+
+        private final CompletableFuture<Optional<Response>> m_future;
+
+        private volatile boolean m_cancelled;
+
+        EndpointRequest(final String endpointUrl, final boolean calledFromWebUI, final String companyName,
+            final WelcomeAPCategoryCache.Entry cached) {
+            m_endpointUrl = endpointUrl;
+            m_future = CompletableFuture.supplyAsync(
+                () -> performRequest(endpointUrl, this, calledFromWebUI, companyName, cached, true));
+        }
+
+        /**
+         * Waits for the response until the given deadline, the request is cancelled if the deadline has passed.
+         *
+         * @param deadlineNanos the deadline in terms of {@link System#nanoTime()}
+         * @return the response or an empty optional if the request failed or did not finish in time
+         */
+        Optional<Response> await(final long deadlineNanos) {
+            return WelcomeAPEndpoint.await(m_future, deadlineNanos, m_endpointUrl, this::cancel);
+        }
+
+        void connecting(final HttpURLConnection connection) throws IOException {
+            m_connection.set(connection);
+            if (m_cancelled) {
+                throw new IOException("Request has been cancelled");
+            }
+        }
+
+        void cancel() {
+            m_cancelled = true;
+            final var connection = m_connection.get();
+            if (connection != null) {
+                connection.disconnect();
+            }
+        }
+
+        boolean isCancelled() {
+            return m_cancelled;
+        }
+    }
+
+    /**
+     * @param endpointUrl the endpoint URL
+     * @param request the request that can be cancelled, <code>null</code> if it cannot be cancelled
+     * @param calledFromWebUI Whether the call is made from the Web UI.
+     * @param companyName Customisation information from AP instance, nullable. Already URL-encoded.
+     * @param cached the cached response of a previous session for conditional requests, may be <code>null</code>
+     * @param logFailure whether a failure is logged as an error or only for debugging
+     * @return the response or an empty optional if the request failed
+     */
+    private static Optional<Response> performRequest(final String endpointUrl, final EndpointRequest request,
+        final boolean calledFromWebUI, final String companyName, final WelcomeAPCategoryCache.Entry cached,
+        final boolean logFailure) {
         try (final var suppression = ThreadLocalHTTPAuthenticator.suppressAuthenticationPopups()) {
             var urlBuilder = new URIBuilder(endpointUrl) //
                 .addParameter("knid", KNIMEConstants.getKNID()) //
@@ -176,16 +398,47 @@ private static Optional<JSONCategory[]> performRequest(final String endpointUrl,
             var connection = (HttpURLConnection)URLConnectionFactory.getConnection(url);
             connection.setReadTimeout(5000);
             connection.setConnectTimeout(2000);
+            // the tracking parameters are part of the URL, so a conditional request still reports them
+            final var revalidate = cached != null && endpointUrl.equals(cached.endpoint());
+            if (revalidate && cached.etag() != null) {
+                connection.setRequestProperty("If-None-Match", cached.etag());
+            }
+            if (revalidate && cached.lastModified() != null) {
+                connection.setRequestProperty("If-Modified-Since", cached.lastModified());
+            }
+            if (request != null) {
+                request.connecting(connection);
+            }
             connection.connect();
-            try (var response = connection.getInputStream()) {
-                if (KNIME_COM_ENDPOINT.equals(endpointUrl)) {
-                    HubUsage.dataSent();
+            try {
+                if (revalidate && connection.getResponseCode() == HttpURLConnection.HTTP_NOT_MODIFIED) {
+                    if (KNIME_COM_ENDPOINT.equals(endpointUrl)) {
+                        HubUsage.dataSent();
+                    }
+                    return Optional.of(new Response(endpointUrl, cached.categories(), cached.etag(),
+                        cached.lastModified()));
+                }
+                try (var response = connection.getInputStream()) {
+                    if (KNIME_COM_ENDPOINT.equals(endpointUrl)) {
+                        HubUsage.dataSent();
+                    }
+                    return Optional.of(new Response(endpointUrl, parseResponse(response),
+                        connection.getHeaderField("ETag"), connection.getHeaderField("Last-Modified")));
                 }
-                return Optional.of(parseResponse(response));
             } finally {
                 connection.disconnect();
             }
         } catch (URISyntaxException | IOException e) {
+            if (request != null && request.isCancelled()) {
+                NodeLogger.getLogger(WelcomeAPEndpoint.class)
+                    .debug("Cancelled request to welcome page endpoint " + endpointUrl);
+                return Optional.empty();
+            }
+            if (!logFailure) {
+                NodeLogger.getLogger(WelcomeAPEndpoint.class)
+                    .debug("Calling welcome page endpoint " + endpointUrl + " failed again: " + e.getMessage(), e);
+                return Optional.empty();
+            }
             NodeLogger.getLogger(WelcomeAPEndpoint.class)
                 .error(String.format("Calling welcome page endpoint failed%s:%s",
                     KNIME_COM_ENDPOINT.equals(endpointUrl) ? "" : (" (" + endpointUrl + ")"), e.getMessage()), e);
@@ -49,15 +49,7 @@
 package org.knime.product.rcp.intro.json;
 
 import java.io.IOException;
-import java.net.URL;
-import java.nio.charset.Charset;
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.Enumeration;
-import java.util.List;
-import java.util.Optional;
 
-import org.apache.commons.io.IOUtils;
 import org.knime.core.node.NodeLogger;
 import org.osgi.framework.Bundle;
 import org.osgi.framework.FrameworkUtil;
@@ -65,24 +57,25 @@
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 /**
+ * Provides the offline welcome page tiles. The tiles are read and parsed into an {@link OfflineTileIndex} once per
+ * session and shared by all collectors.
  *
  * @author Christian Albrecht, KNIME GmbH, Konstanz, Germany
  * @since 4.1
  */
 public class OfflineJsonCollector {
 
-    private static String TILES = "intro4.0/tiles";
     private static NodeLogger LOGGER = NodeLogger.getLogger(OfflineJsonCollector.class);
 
-    private final Bundle m_bundle;
-    private final ObjectMapper m_mapper;
+    private static OfflineTileIndex index;
+
+    private static IOException indexFailure;
 
     /**
      *
      */
     public OfflineJsonCollector() {
-        m_bundle = FrameworkUtil.getBundle(this.getClass());
-        m_mapper = new ObjectMapper();
+        // the index is loaded lazily
     }
 
     String collectJson(/* some config? */) {
@@ -94,62 +87,32 @@ String collectJson(/* some config? */) {
      * @throws IOException
      */
     public String fetchFirstUse() throws IOException {
-        return fetchAllTilesFromDir(TILES + "/first");
+        return getIndex().getAllTiles(OfflineTileIndex.FIRST);
     }
 
     public String fetchAllOffline() throws IOException {
-        return fetchAllTilesFromDir(TILES + "/offline");
+        return getIndex().getAllTiles(OfflineTileIndex.OFFLINE);
     }
 
-    private String fetchAllTilesFromDir(final String dir) throws IOException {
-        List<URL> ttFiles = listFilesInDir(dir);
-        JSONTile[] allFirstUses = ttFiles.stream().map(url -> {
-            try {
-                return readFile(url);
-            } catch (Exception e) {
-                LOGGER.error("Could not read welcome page tile " + e.getMessage(), e);
-                return null;
-            }
-        }).map(str -> {
-            JSONTile tile = new JSONTile();
-            try {
-                m_mapper.readerForUpdating(tile).readValue(str);
-            } catch (IOException e) {
-                LOGGER.error("Could not parse welcome page tile: " + e.getMessage(), e);
-            }
-            return tile;
-        }).toArray(JSONTile[]::new);
-        return m_mapper.writeValueAsString(allFirstUses);
+    public JSONTile fetchSingleOfflineTile(final String prefix, final boolean first) throws IOException {
+        return getIndex().find(first ? OfflineTileIndex.FIRST : OfflineTileIndex.OFFLINE, prefix)
+            .orElseGet(JSONTile::new);
     }
 
-    public JSONTile fetchSingleOfflineTile(final String prefix, final boolean first) throws IOException {
-        String dir = TILES + (first ? "/first" : "/offline");
-        List<URL> ttFiles = listFilesInDir(dir);
-        Optional<URL> categoryFile = ttFiles.stream().filter(url -> {
-            String fileName = url.getFile().substring(url.getFile().lastIndexOf("/") + 1);
-            return fileName.startsWith(prefix);
-        }).findFirst();
-        JSONTile tile = new JSONTile();
-        if (categoryFile.isPresent()) {
-            String tileJson = readFile(categoryFile.get());
+    private static synchronized OfflineTileIndex getIndex() throws IOException {
+        if (index == null && indexFailure == null) {
             try {
-                m_mapper.readerForUpdating(tile).readValue(tileJson);
+                final Bundle bundle = FrameworkUtil.getBundle(OfflineJsonCollector.class);
+                index = OfflineTileIndex.build(new ObjectMapper(), OfflineTileIndex.collectSources(bundle));
             } catch (IOException e) {
-                LOGGER.error("Could not parse welcome page tile: " + e.getMessage(), e);
+                // not retried, the tiles do not change during a session
+                LOGGER.error("Could not load the offline welcome page tiles: " + e.getMessage(), e);
+                indexFailure = e;
             }
-         }
-        return tile;
-    }
-
-    private List<URL> listFilesInDir(final String dir) {
-        Enumeration<URL> entries = m_bundle.findEntries(dir, "*.json", false);
-        ArrayList<URL> list = Collections.list(entries);
-        list.sort((e1, e2) -> e1.getPath().compareTo(e2.getPath()));
-        return list;
+        }
+        if (indexFailure != null) {
+            throw new IOException("Offline welcome page tiles are not available", indexFailure);
+        }
+        return index;
     }
-
-    private static String readFile(final URL url) throws IOException {
-        return IOUtils.toString(url.openStream(), Charset.forName("UTF-8"));
-    }
-
 }
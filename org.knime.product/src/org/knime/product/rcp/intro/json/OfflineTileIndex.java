@@ -0,0 +1,191 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.product.rcp.intro.json;
+
+import java.io.IOException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+import org.apache.commons.io.IOUtils;
+import org.knime.core.node.NodeLogger;
+import org.osgi.framework.Bundle;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Pre-parsed index of the offline welcome page tiles in {@value #TILES}. The tile files are read and parsed once
+ * when the index is built, so that they do not have to be listed, read, and parsed whenever the welcome page is
+ * shown. Tiles that cannot be read or parsed are logged and left out.
+ * <p>
+ * Instances are immutable, lookups by file name prefix take constant time.
+ * </p>
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class OfflineTileIndex {
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(OfflineTileIndex.class);
+
+    static final String TILES = "intro4.0/tiles";
+
+    /** Tiles shown in a fresh workspace. */
+    static final String FIRST = "first";
+
+    /** Tiles shown if the welcome page endpoint cannot be reached. */
+    static final String OFFLINE = "offline";
+
+    private static final List<String> DIRECTORIES = List.of(FIRST, OFFLINE);
+
+    private final ObjectMapper m_mapper;
+
+    /** Directory -> any prefix of a file name -> tile of the first file with that prefix. */
+    private final Map<String, Map<String, JSONTile>> m_byPrefix;
+
+    /** Directory -> all tiles serialized as JSON array. */
+    private final Map<String, String> m_allTiles;
+
+    private OfflineTileIndex(final ObjectMapper mapper, final Map<String, Map<String, JSONTile>> tiles)
+        throws IOException {
+        m_mapper = mapper;
+        final Map<String, Map<String, JSONTile>> byPrefix = new HashMap<>();
+        final Map<String, String> allTiles = new HashMap<>();
+        for (var dir : tiles.entrySet()) {
+            final Map<String, JSONTile> prefixes = new HashMap<>();
+            for (var file : dir.getValue().entrySet()) {
+                final var name = file.getKey();
+                for (var i = 0; i <= name.length(); i++) {
+                    prefixes.putIfAbsent(name.substring(0, i), file.getValue());
+                }
+            }
+            byPrefix.put(dir.getKey(), Collections.unmodifiableMap(prefixes));
+            allTiles.put(dir.getKey(), mapper.writeValueAsString(dir.getValue().values().toArray(JSONTile[]::new)));
+        }
+        m_byPrefix = Collections.unmodifiableMap(byPrefix);
+        m_allTiles = Collections.unmodifiableMap(allTiles);
+    }
+
+    /**
+     * Builds an index from the contents of the single tile files. Tiles that cannot be parsed are left out.
+     *
+     * @param mapper the mapper for parsing and serializing tiles
+     * @param sources directory -> file name -> file content
+     * @return the index
+     * @throws IOException if the tiles cannot be serialized
+     */
+    static OfflineTileIndex build(final ObjectMapper mapper, final Map<String, Map<String, String>> sources)
+        throws IOException {
+        final Map<String, Map<String, JSONTile>> tiles = new LinkedHashMap<>();
+        for (var dir : sources.entrySet()) {
+            final Map<String, JSONTile> parsed = new LinkedHashMap<>();
+            for (var file : new TreeMap<>(dir.getValue()).entrySet()) {
+                try {
+                    parsed.put(file.getKey(), mapper.readValue(file.getValue(), JSONTile.class));
+                } catch (IOException e) {
+                    LOGGER.error("Could not parse welcome page tile " + dir.getKey() + "/" + file.getKey() + ": "
+                        + e.getMessage(), e);
+                }
+            }
+            tiles.put(dir.getKey(), Collections.unmodifiableMap(parsed));
+        }
+        return new OfflineTileIndex(mapper, tiles);
+    }
+
+    /**
+     * Collects the single tile files from the given bundle. Files that cannot be read are left out.
+     *
+     * @param bundle the bundle containing {@value #TILES}
+     * @return directory -> file name -> file content
+     */
+    static Map<String, Map<String, String>> collectSources(final Bundle bundle) {
+        final Map<String, Map<String, String>> sources = new LinkedHashMap<>();
+        for (var dir : DIRECTORIES) {
+            final Map<String, String> files = new TreeMap<>();
+            final Enumeration<URL> entries = bundle.findEntries(TILES + "/" + dir, "*.json", false);
+            if (entries != null) {
+                for (var url : Collections.list(entries)) {
+                    final var path = url.getPath();
+                    try (var in = url.openStream()) {
+                        files.put(path.substring(path.lastIndexOf('/') + 1),
+                            IOUtils.toString(in, StandardCharsets.UTF_8));
+                    } catch (IOException e) {
+                        LOGGER.error("Could not read welcome page tile " + path + ": " + e.getMessage(), e);
+                    }
+                }
+            }
+            sources.put(dir, files);
+        }
+        return sources;
+    }
+
+    /**
+     * @param dir the tile directory, {@link #FIRST} or {@link #OFFLINE}
+     * @return all tiles of the directory as JSON array, in the order of their file names
+     */
+    String getAllTiles(final String dir) {
+        return m_allTiles.getOrDefault(dir, "[]");
+    }
+
+    /**
+     * @param dir the tile directory, {@link #FIRST} or {@link #OFFLINE}
+     * @param prefix a file name prefix
+     * @return a copy of the tile of the first file (by name) that starts with the prefix
+     */
+    Optional<JSONTile> find(final String dir, final String prefix) {
+        return Optional.ofNullable(m_byPrefix.getOrDefault(dir, Map.of()).get(prefix))
+            .map(tile -> m_mapper.convertValue(m_mapper.valueToTree(tile), JSONTile.class));
+    }
+}
@@ -50,11 +50,8 @@
 
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.Iterator;
 import java.util.Map;
-import java.util.Set;
-import java.util.function.Supplier;
 import java.util.stream.Stream;
 
 import org.eclipse.core.runtime.CoreException;
@@ -110,7 +107,9 @@ static boolean preShutdown() {
 
     /**
      * Helper to execute the code registered at this extension point. Must be called at the 'pre-shutdown' of the KNIME
-     * Application.
+     * Application. Hooks are run according to their declared {@code order}; hooks declared as {@code parallel} are
+     * checked concurrently, bounded by their {@code timeout} and the overall shutdown budget (see
+     * {@code PreShutdownRunner}).
      * <p>
      * Package-scope for testing.
      * </p>
@@ -122,39 +121,7 @@ static boolean preShutdown() {
      * @noreference This method is not intended to be referenced by clients.
      */
     static boolean preShutdown(final Map<IConfigurationElement, PreShutdown> allHooks) {
-        final Set<IConfigurationElement> checkedHooks = new HashSet<>();
-        var allSuccessful = true;
-
-        // checking phase of pre-shutdown hooks, continue shutdown only if all succeed
-        for (var hook : allHooks.entrySet()) {
-            final var e = hook.getKey();
-            checkedHooks.add(e);
-            final var result = wrapPreShutdownHook(e, () -> hook.getValue().onPreShutdown());
-            if (!Boolean.TRUE.equals(result)) {
-                allSuccessful = false;
-                break;
-            }
-        }
-
-        // abort phase if necessary, signal shutdown abort to (already checked) hooks
-        if (!allSuccessful) {
-            for (var e : checkedHooks) {
-                wrapPreShutdownHook(e, () -> {
-                    allHooks.get(e).onShutdownAborted();
-                    return null;
-                });
-            }
-            return false;
-        }
-
-        // continue phase if no registered hooks vetoed against a non-forced shutdown
-        for (var e : checkedHooks) {
-            wrapPreShutdownHook(e, () -> {
-                allHooks.get(e).onShutdownContinued();
-                return null;
-            });
-        }
-        return true;
+        return new PreShutdownRunner(allHooks, PreShutdownRunner.getBudgetMillis()).run();
     }
 
     /**
@@ -184,24 +151,4 @@ private static Map<IConfigurationElement, PreShutdown> collectPreShutdownHooks()
         }
         return Collections.unmodifiableMap(hooks);
     }
-
-    /**
-     * Wraps a {@link PreShutdown} hook's action into try-catch for runtime exceptions. We make sure to shutdown the
-     * AP gracefully even if one hook action fails.
-     *
-     * @param <T> result of the hook action
-     * @param e configuration element
-     * @param action executable hook action
-     * @return Result from the hook action.
-     */
-    private static <T> T wrapPreShutdownHook(final IConfigurationElement e, final Supplier<T> action) {
-        try {
-            return action.get();
-        } catch (Exception ex) {
-            NodeLogger.getLogger(PreShutdown.class)
-                .error("Pre-shutdown in '" + e.getAttribute("class") + " from plug-in '" + e.getContributor().getName()
-                    + "' has thrown an uncaught exception: " + ex.getMessage(), ex);
-        }
-        return null;
-    }
 }
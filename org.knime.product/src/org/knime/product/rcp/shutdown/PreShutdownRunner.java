@@ -0,0 +1,335 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.product.rcp.shutdown;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.eclipse.core.runtime.IConfigurationElement;
+import org.knime.core.node.NodeLogger;
+
+/**
+ * Runs the checking, abort, and continue phases of all {@link PreShutdown} hooks.
+ * <p>
+ * Hooks are processed in ascending {@value #ORDER_ATTRIBUTE}. Sequential hooks are checked one after the other on the
+ * calling thread (usually the UI thread, since they may open dialogs). Hooks declared with
+ * {@value #PARALLEL_ATTRIBUTE}{@code ="true"} are all started on background threads before the first sequential hook
+ * is checked, so slow non-interactive checks overlap with the interactive ones. Each parallel hook gets its own
+ * {@value #TIMEOUT_ATTRIBUTE}, and once the sequential hooks are done the runner waits at most the overall budget
+ * (system property {@value #BUDGET_PROPERTY}) for the remaining parallel hooks. A parallel hook that does not answer
+ * in time is interrupted and does not veto the shutdown.
+ * </p>
+ * <p>
+ * The abort and continue callbacks are delivered exactly as before: sequentially on the calling thread, and only to
+ * hooks whose check has been started.
+ * </p>
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class PreShutdownRunner {
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(PreShutdown.class);
+
+    /** Optional integer attribute; hooks with lower values are run first. */
+    static final String ORDER_ATTRIBUTE = "order";
+
+    /** Optional boolean attribute; parallel hooks are checked concurrently on background threads. */
+    static final String PARALLEL_ATTRIBUTE = "parallel";
+
+    /** Optional attribute with the maximum time in milliseconds a parallel hook may take for its check. */
+    static final String TIMEOUT_ATTRIBUTE = "timeout";
+
+    /** System property for the time in milliseconds to wait for outstanding parallel hooks. */
+    static final String BUDGET_PROPERTY = "knime.preshutdown.budget";
+
+    static final long DEFAULT_HOOK_TIMEOUT_MILLIS = 5_000;
+
+    static final long DEFAULT_BUDGET_MILLIS = 10_000;
+
+    /** Checks taking longer than this are logged on INFO instead of DEBUG level. */
+    private static final long SLOW_HOOK_MILLIS = 1_000;
+
+    private static final int NEW = 0;
+
+    private static final int STARTED = 1;
+
+    private static final int SKIPPED = 2;
+
+    private final List<Hook> m_hooks;
+
+    private final long m_budgetMillis;
+
+    /**
+     * @param allHooks all hooks, attached to the configuration elements they were declared with
+     * @param budgetMillis maximum time to wait for parallel hooks after the sequential hooks are done
+     */
+    PreShutdownRunner(final Map<IConfigurationElement, PreShutdown> allHooks, final long budgetMillis) {
+        m_hooks = allHooks.entrySet().stream() //
+            .map(entry -> new Hook(entry.getKey(), entry.getValue())) //
+            .sorted(Comparator.comparingInt((Hook h) -> h.m_order).thenComparing(h -> h.m_name)) //
+            .toList();
+        m_budgetMillis = Math.max(0, budgetMillis);
+    }
+
+    /**
+     * @return the configured budget for outstanding parallel hooks
+     */
+    static long getBudgetMillis() {
+        return Long.getLong(BUDGET_PROPERTY, DEFAULT_BUDGET_MILLIS);
+    }
+
+    /**
+     * Runs all phases.
+     *
+     * @return <code>true</code> to allow the workbench to proceed with shutdown, <code>false</code> to veto a
+     *         non-forced shutdown
+     */
+    boolean run() {
+        final var allSuccessful = check();
+
+        // only hooks that were actually asked get the abort/continue signal, in the same order as they were checked
+        final var checkedHooks = m_hooks.stream().filter(Hook::wasStarted).toList();
+        if (!allSuccessful) {
+            for (var h : checkedHooks) {
+                wrapPreShutdownHook(h, () -> {
+                    h.m_hook.onShutdownAborted();
+                    return null;
+                });
+            }
+            return false;
+        }
+        for (var h : checkedHooks) {
+            wrapPreShutdownHook(h, () -> {
+                h.m_hook.onShutdownContinued();
+                return null;
+            });
+        }
+        return true;
+    }
+
+    private boolean check() {
+        final var parallel = m_hooks.stream().filter(h -> h.m_parallel).toList();
+        if (parallel.isEmpty()) {
+            return checkSequential(Map.of());
+        }
+
+        final var counter = new AtomicInteger();
+        final ExecutorService executor = Executors.newCachedThreadPool(r -> {
+            final var t = new Thread(r, "KNIME-PreShutdown-" + counter.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+        try {
+            final var submitted = System.nanoTime();
+            final Map<Hook, Future<Boolean>> pending = new LinkedHashMap<>();
+            for (var h : parallel) {
+                pending.put(h, executor.submit(() -> checkHook(h)));
+            }
+            return checkSequential(pending) && awaitParallel(pending, submitted);
+        } finally {
+            // interrupts hooks that are still running after a veto or timeout; their threads are daemons
+            executor.shutdownNow();
+        }
+    }
+
+    private boolean checkSequential(final Map<Hook, Future<Boolean>> pending) {
+        for (var h : m_hooks) {
+            if (h.m_parallel) {
+                continue;
+            }
+            if (!Boolean.TRUE.equals(checkHook(h)) || hasVetoed(pending)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean hasVetoed(final Map<Hook, Future<Boolean>> pending) {
+        return pending.values().stream().filter(Future::isDone).anyMatch(f -> !Boolean.TRUE.equals(getNow(f)));
+    }
+
+    private static Boolean getNow(final Future<Boolean> future) {
+        try {
+            return future.get();
+        } catch (ExecutionException | CancellationException e) { // NOSONAR exceptions are logged by checkHook
+            return null;
+        } catch (InterruptedException e) { // NOSONAR cannot happen on a completed future
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+
+    private boolean awaitParallel(final Map<Hook, Future<Boolean>> pending, final long submittedNanos) {
+        final var budgetEnd = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(m_budgetMillis);
+        for (var entry : pending.entrySet()) {
+            final var h = entry.getKey();
+            final var future = entry.getValue();
+            final var hookEnd = submittedNanos + TimeUnit.MILLISECONDS.toNanos(h.m_timeoutMillis);
+            final var waitNanos = Math.max(0, Math.min(hookEnd, budgetEnd) - System.nanoTime());
+            try {
+                if (!Boolean.TRUE.equals(future.get(waitNanos, TimeUnit.NANOSECONDS))) {
+                    return false;
+                }
+            } catch (TimeoutException e) { // NOSONAR logged
+                future.cancel(true);
+                LOGGER.warn("Pre-shutdown hook '" + h.m_name + "' from plug-in '" + h.m_contributor
+                    + "' did not finish within " + (hookEnd <= budgetEnd ? (h.m_timeoutMillis + " ms")
+                        : ("the shutdown budget of " + m_budgetMillis + " ms")) + "; continuing without it.");
+            } catch (ExecutionException | CancellationException e) { // NOSONAR exceptions are logged by checkHook
+                return false;
+            } catch (InterruptedException e) { // NOSONAR shutdown must not be blocked
+                Thread.currentThread().interrupt();
+                LOGGER.warn("Interrupted while waiting for pre-shutdown hooks; continuing without them.");
+                return true;
+            }
+        }
+        return true;
+    }
+
+    private static Boolean checkHook(final Hook h) {
+        if (!h.m_state.compareAndSet(NEW, STARTED)) {
+            return null;
+        }
+        final var start = System.nanoTime();
+        final var result = wrapPreShutdownHook(h, h.m_hook::onPreShutdown);
+        final var millis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        final var message = "Pre-shutdown hook '" + h.m_name + "' from plug-in '" + h.m_contributor + "' took "
+            + millis + " ms" + (Boolean.TRUE.equals(result) ? "" : " and vetoed the shutdown");
+        if (millis >= SLOW_HOOK_MILLIS) {
+            LOGGER.info(message);
+        } else {
+            LOGGER.debug(message);
+        }
+        return result;
+    }
+
+    /**
+     * Wraps a {@link PreShutdown} hook's action into try-catch for runtime exceptions. We make sure to shutdown the
+     * AP gracefully even if one hook action fails.
+     *
+     * @param <T> result of the hook action
+     * @param h the hook
+     * @param action executable hook action
+     * @return Result from the hook action.
+     */
+    private static <T> T wrapPreShutdownHook(final Hook h, final Supplier<T> action) {
+        try {
+            return action.get();
+        } catch (Exception ex) {
+            LOGGER.error("Pre-shutdown in '" + h.m_name + " from plug-in '" + h.m_contributor
+                + "' has thrown an uncaught exception: " + ex.getMessage(), ex);
+        }
+        return null;
+    }
+
+    /**
+     * A hook together with the attributes it was declared with.
+     */
+    private static final class Hook {
+
+        private final PreShutdown m_hook;
+
+        private final String m_name;
+
+        private final String m_contributor;
+
+        private final int m_order;
+
+        private final boolean m_parallel;
+
+        private final long m_timeoutMillis;
+
+        private final AtomicInteger m_state = new AtomicInteger(NEW);
+
+        Hook(final IConfigurationElement e, final PreShutdown hook) {
+            m_hook = hook;
+            m_name = Objects.requireNonNullElse(e.getAttribute("class"), hook.getClass().getName());
+            m_contributor = e.getContributor() != null ? e.getContributor().getName() : "";
+            m_order = (int)parseNumber(e, ORDER_ATTRIBUTE, 0);
+            m_parallel = Boolean.parseBoolean(e.getAttribute(PARALLEL_ATTRIBUTE));
+            m_timeoutMillis = Math.max(0, parseNumber(e, TIMEOUT_ATTRIBUTE, DEFAULT_HOOK_TIMEOUT_MILLIS));
+        }
+
+        /**
+         * Whether the check of this hook has been started. Hooks that have not been started yet are marked as
+         * skipped, so they cannot be started afterwards anymore.
+         */
+        boolean wasStarted() {
+            return !m_state.compareAndSet(NEW, SKIPPED) && m_state.get() == STARTED;
+        }
+
+        private static long parseNumber(final IConfigurationElement e, final String attribute,
+            final long defaultValue) {
+            final var value = e.getAttribute(attribute);
+            if (value == null || value.isBlank()) {
+                return defaultValue;
+            }
+            try {
+                return Long.parseLong(value.trim());
+            } catch (NumberFormatException ex) { // NOSONAR logged
+                LOGGER.warn("Invalid value '" + value + "' for attribute '" + attribute + "' of pre-shutdown hook '"
+                    + e.getAttribute("class") + "', using " + defaultValue + ".");
+                return defaultValue;
+            }
+        }
+    }
+}
@@ -0,0 +1,168 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.product.rcp.shutdown;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.knime.core.node.NodeLogger;
+import org.knime.core.node.workflow.NodeTimer;
+
+/**
+ * Writes and sends the usage data collected by {@link NodeTimer#GLOBAL_TIMER} on a background thread, so that a slow
+ * or blocked network does not stretch the shutdown of the workbench or of a batch run.
+ * <p>
+ * The flush is started as early as possible during shutdown via {@link #start()} and joined with a deadline via
+ * {@link #await()} right before the application exits (system property {@value #TIMEOUT_PROPERTY}, in milliseconds).
+ * The thread is a daemon thread, so a flush that misses the deadline, e.g. because the network is slow or not
+ * reachable, is abandoned when the JVM exits and cannot delay the exit any further. The node timer writes its
+ * statistics file, which is local I/O, before it sends the statistics, so an abandoned flush only loses the network
+ * send. The statistics are cumulative, so the data that could not be sent is part of the next report.
+ * </p>
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public final class UsageDataFlush {
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(UsageDataFlush.class);
+
+    /** System property for the maximum time in milliseconds the shutdown waits for the flush. */
+    static final String TIMEOUT_PROPERTY = "knime.usagedata.flush.timeout";
+
+    static final long DEFAULT_TIMEOUT_MILLIS = 5_000;
+
+    private static final UsageDataFlush GLOBAL = new UsageDataFlush(() -> NodeTimer.GLOBAL_TIMER.performShutdown());
+
+    private final Runnable m_flush;
+
+    private Thread m_thread;
+
+    private long m_startNanos;
+
+    private volatile Throwable m_failure;
+
+    /**
+     * @param flush writes and sends the usage data
+     */
+    UsageDataFlush(final Runnable flush) {
+        m_flush = flush;
+    }
+
+    /**
+     * Starts writing and sending the usage data on a background thread, unless this has already happened.
+     */
+    public static void start() {
+        GLOBAL.begin();
+    }
+
+    /**
+     * Waits for the flush started by {@link #start()}, at most until the configured deadline. Starts the flush if this
+     * has not happened yet.
+     *
+     * @return <code>true</code> if the usage data has been written and sent, <code>false</code> if the flush failed or
+     *         did not finish in time
+     */
+    public static boolean await() {
+        return GLOBAL.join(Duration.ofMillis(Math.max(0, Long.getLong(TIMEOUT_PROPERTY, DEFAULT_TIMEOUT_MILLIS))));
+    }
+
+    synchronized void begin() {
+        if (m_thread != null) {
+            return;
+        }
+        m_startNanos = System.nanoTime();
+        m_thread = new Thread(() -> {
+            try {
+                m_flush.run();
+            } catch (Throwable t) { // NOSONAR reported by join
+                m_failure = t;
+            }
+        }, "KNIME-Usage-Data-Flush");
+        // a non-daemon thread would keep the JVM alive until the network send gives up, regardless of the deadline
+        m_thread.setDaemon(true);
+        m_thread.start();
+    }
+
+    /**
+     * Waits for the flush, at most until the given time has passed since it was started.
+     *
+     * @param timeout the deadline, measured from the start of the flush
+     * @return <code>true</code> if the flush completed successfully within the deadline
+     */
+    boolean join(final Duration timeout) {
+        final Thread thread;
+        final long started;
+        synchronized (this) {
+            begin();
+            thread = m_thread;
+            started = m_startNanos;
+        }
+        final var remaining = timeout.toNanos() - (System.nanoTime() - started);
+        try {
+            if (remaining > 0) {
+                thread.join(Math.max(1, TimeUnit.NANOSECONDS.toMillis(remaining)));
+            }
+        } catch (InterruptedException e) { // NOSONAR shutdown continues
+            Thread.currentThread().interrupt();
+            return false;
+        }
+        if (thread.isAlive()) {
+            LOGGER.info("Sending usage data did not finish within " + timeout.toMillis()
+                + " ms, continuing shutdown. The data is sent with the next report.");
+            return false;
+        }
+        final var failure = m_failure;
+        if (failure != null) {
+            LOGGER.warn("Could not write or send usage data: " + failure.getMessage(), failure);
+            return false;
+        }
+        LOGGER.debug("Usage data sent after " + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started) + " ms");
+        return true;
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.product.rcp.startup;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.osgi.framework.Bundle;
+import org.osgi.framework.Constants;
+import org.osgi.framework.wiring.BundleWire;
+import org.osgi.framework.wiring.BundleWiring;
+
+/**
+ * Decides whether classes can be loaded from a bundle on a background thread during startup. Loading a class from a
+ * lazily activated bundle starts that bundle, which runs arbitrary activator code and takes Equinox' state change
+ * lock; doing so concurrently to the regular startup risks lock timeouts and deadlocks.
+ * <p>
+ * An instance remembers the result for every bundle it has checked, so bundles shared by many dependency trees are
+ * only checked once. Bundle states change during startup, so an instance must only be used for one pass over the
+ * bundles. Instances are not thread-safe.
+ * </p>
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class BundleActivation {
+
+    /** Bundle id -> whether classes can be loaded from it, and all its dependencies, without activating a bundle. */
+    private final Map<Long, Boolean> m_results = new HashMap<>();
+
+    /**
+     * Checks whether loading classes from the given bundle can possibly activate a bundle, i.e. whether the bundle
+     * (transitively) only depends on bundles that are either already active or are not activated lazily.
+     *
+     * @param bundle the bundle to load classes from
+     * @return {@code true} if no bundle can be activated by loading classes from the given bundle
+     */
+    boolean canLoadWithoutActivation(final Bundle bundle) {
+        final Boolean known = m_results.get(bundle.getBundleId());
+        if (known != null) {
+            return known;
+        }
+        final Deque<Bundle> queue = new ArrayDeque<>();
+        queue.add(bundle);
+        final Set<Long> seen = new HashSet<>();
+        while (!queue.isEmpty()) {
+            final Bundle current = queue.pop();
+            if (!seen.add(current.getBundleId())) {
+                continue;
+            }
+            final Boolean result = m_results.get(current.getBundleId());
+            if (Boolean.TRUE.equals(result)) {
+                // its dependencies have been checked already
+                continue;
+            }
+            final BundleWiring wiring = Boolean.FALSE.equals(result) || !isSafeToLoadFrom(current) ? null
+                : current.adapt(BundleWiring.class);
+            if (wiring == null) {
+                m_results.put(bundle.getBundleId(), Boolean.FALSE);
+                return false;
+            }
+            for (final BundleWire wire : wiring.getRequiredWires(null)) {
+                queue.add(wire.getProvider().getBundle());
+            }
+        }
+        // the dependencies of every visited bundle have been visited as well
+        seen.forEach(id -> m_results.put(id, Boolean.TRUE));
+        return true;
+    }
+
+    static boolean isSafeToLoadFrom(final Bundle bundle) {
+        if (bundle.getBundleId() == 0 || bundle.getState() == Bundle.ACTIVE) {
+            return true;
+        }
+        // loading a class from a resolved bundle only activates it if it declares lazy activation
+        final var headers = bundle.getHeaders("");
+        return bundle.getState() == Bundle.RESOLVED && headers.get(Constants.BUNDLE_ACTIVATIONPOLICY) == null
+            && headers.get("Eclipse-LazyStart") == null && headers.get("Eclipse-AutoStart") == null;
+    }
+}
@@ -49,7 +49,6 @@
 package org.knime.product.rcp.startup;
 
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -57,11 +56,13 @@
 
 import org.eclipse.core.runtime.Platform;
 import org.eclipse.osgi.service.datalocation.Location;
+import org.knime.product.rcp.startup.ConfigAreaStateStore.Key;
 
 /**
  * A helper class for setting and retrieving a flag to / from the Eclipse configuration area. We use the Eclipse
  * configuration area (as opposed to the KNIME configuration area), since we want to delay calling code from other KNIME
- * plugins.
+ * plugins. Flags are kept in the {@link ConfigAreaStateStore}; flags that were stored in individual files by previous
+ * versions are migrated when they are read for the first time.
  *
  * @author Marc Bux, KNIME GmbH, Berlin, Germany
  */
@@ -83,41 +84,50 @@ static Optional<Path> getPathFromLocation(final Location location) {
 
     private final String m_key;
 
-    private final DelayedMessageLogger m_logger;
+    private final Key<Boolean> m_storeKey;
 
-    ConfigAreaFlag(final String configName, final DelayedMessageLogger logger) {
+    private final ConfigAreaStateStore m_store;
+
+    private final EarlyStartupLogBuffer m_logger;
+
+    ConfigAreaFlag(final String configName, final EarlyStartupLogBuffer logger) {
+        this(configName, logger, ConfigAreaStateStore.getInstance());
+    }
+
+    ConfigAreaFlag(final String configName, final EarlyStartupLogBuffer logger, final ConfigAreaStateStore store) {
         m_key = configName;
+        m_storeKey = Key.ofBoolean("flag." + configName, false);
+        m_store = store;
         m_logger = logger;
     }
 
     boolean isFlagSet() {
-        try {
-            final var path = getConfigPath();
-            if (Files.exists(path)) {
-                try (final var reader = Files.newBufferedReader(path)) {
-                    return Boolean.parseBoolean(reader.readLine());
-                }
-            }
-        } catch (final IOException e) {
-            m_logger.queueError(String.format("Error when reading %s settings from configuration area.", m_key), e);
+        if (!m_store.contains(m_storeKey)) {
+            readLegacyFlag().ifPresent(value -> m_store.set(m_storeKey, value));
         }
-        return false;
+        return m_store.get(m_storeKey);
     }
 
     void setFlag(final boolean value) {
+        m_store.set(m_storeKey, value);
+    }
+
+    private Optional<Boolean> readLegacyFlag() {
         try {
-            final var path = getConfigPath();
-            if (!Files.exists(path)) {
-                Files.createDirectories(path.getParent());
+            final var path = getLegacyConfigPath();
+            if (Files.exists(path)) {
+                try (final var reader = Files.newBufferedReader(path)) {
+                    return Optional.of(Boolean.parseBoolean(reader.readLine()));
+                }
             }
-            final byte[] bytes = Boolean.toString(value).getBytes(StandardCharsets.UTF_8);
-            Files.write(path, bytes);
         } catch (final IOException e) {
-            m_logger.queueError(String.format("Error when writing %s settings to configuration area.", m_key), e);
+            m_logger.queueError(() -> String.format("Error when reading %s settings from configuration area.", m_key),
+                e);
         }
+        return Optional.empty();
     }
 
-    private Path getConfigPath() throws IOException {
+    private Path getLegacyConfigPath() throws IOException {
         // code mostly copied from org.knime.core.internal.ConfigurationAreaChecker#getConfigurationLocationPath
         final var configLocation = Platform.getConfigurationLocation();
         if (configLocation == null) {
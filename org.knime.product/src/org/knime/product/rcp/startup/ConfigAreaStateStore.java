@@ -0,0 +1,320 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.product.rcp.startup;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+
+import org.eclipse.core.runtime.Platform;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.BooleanNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * A small persistent key-value store in the Eclipse configuration area for state the product needs during startup,
+ * e.g. flags for suppressing dialogs or the history of previous startups. All values live in a single JSON file that
+ * is read once per launch; afterwards reads are served from an in-memory snapshot. Every modification rewrites the file
+ * atomically (write to a temporary file, then move it over the old one), so a crash never leaves a partially written
+ * store behind.
+ *
+ * <p>
+ * Several instances of the application may share a configuration area. Therefore a modification locks the store, reads
+ * the current file again and only changes the modified key before writing it, so that the changes of other instances
+ * are kept. If the current file cannot be read (e.g. because a virus scanner holds it), the modification is not
+ * written at all instead of replacing the other keys with an empty store.
+ * </p>
+ *
+ * <p>
+ * Values are accessed through typed {@link Key keys}. Problems with reading or writing the file never interrupt the
+ * startup, they are collected and logged by {@link #replayLog()}.
+ * </p>
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public final class ConfigAreaStateStore {
+
+    static final String STORE_FILE = "product-state.json";
+
+    private static final String LOCK_FILE = STORE_FILE + ".lock";
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private static final ConfigAreaStateStore INSTANCE = new ConfigAreaStateStore(null);
+
+    /**
+     * A typed key of the store.
+     *
+     * @param <T> the type of the value
+     * @param name the key's name, unique within the store
+     * @param defaultValue the value returned if the key is not present or its value cannot be read
+     * @param reader converts the stored JSON into a value, may throw an exception if the JSON is invalid
+     * @param writer converts a value into JSON
+     */
+    public record Key<T>(String name, T defaultValue, Function<JsonNode, T> reader, Function<T, JsonNode> writer) {
+
+        /**
+         * Creates a key for a boolean value.
+         *
+         * @param name the key's name
+         * @param defaultValue the default value
+         * @return a new key
+         */
+        public static Key<Boolean> ofBoolean(final String name, final boolean defaultValue) {
+            return new Key<>(name, defaultValue, JsonNode::asBoolean, BooleanNode::valueOf);
+        }
+
+        /**
+         * Creates a key for an arbitrary JSON value.
+         *
+         * @param name the key's name
+         * @return a new key whose default value is <code>null</code>
+         */
+        public static Key<JsonNode> ofJson(final String name) {
+            return new Key<>(name, null, Function.identity(), Function.identity());
+        }
+    }
+
+    /**
+     * @return the store in the current Eclipse configuration area
+     */
+    public static ConfigAreaStateStore getInstance() {
+        return INSTANCE;
+    }
+
+    private final EarlyStartupLogBuffer m_log = new EarlyStartupLogBuffer(ConfigAreaStateStore.class);
+
+    // null for the store in the configuration area, which is resolved lazily
+    private final Path m_fixedFile;
+
+    private ObjectNode m_snapshot;
+
+    private Optional<Path> m_file;
+
+    /**
+     * Creates a store backed by the given file.
+     *
+     * @param file the file, or <code>null</code> for the store in the Eclipse configuration area
+     */
+    ConfigAreaStateStore(final Path file) {
+        m_fixedFile = file;
+    }
+
+    /**
+     * Reads a value.
+     *
+     * @param <T> the value's type
+     * @param key the key
+     * @return the stored value or the key's default value
+     */
+    public synchronized <T> T get(final Key<T> key) {
+        return get(snapshot(), key);
+    }
+
+    private <T> T get(final ObjectNode root, final Key<T> key) {
+        final JsonNode node = root.get(key.name());
+        if (node == null || node.isNull()) {
+            return key.defaultValue();
+        }
+        try {
+            return key.reader().apply(node);
+        } catch (RuntimeException ex) { // NOSONAR an invalid value must not affect the startup
+            m_log.queueError(() -> "Invalid value for '" + key.name() + "' in " + STORE_FILE + ": " + ex.getMessage(),
+                ex);
+            return key.defaultValue();
+        }
+    }
+
+    /**
+     * @param key the key
+     * @return whether the store contains a value for the key
+     */
+    public synchronized boolean contains(final Key<?> key) {
+        return snapshot().has(key.name());
+    }
+
+    /**
+     * Stores a value and writes the store.
+     *
+     * @param <T> the value's type
+     * @param key the key
+     * @param value the new value, <code>null</code> removes the key
+     * @return <code>true</code> if the store has been written, <code>false</code> if it could not be written (the
+     *         value is still available in memory for this launch)
+     */
+    public synchronized <T> boolean set(final Key<T> key, final T value) {
+        return update(key, old -> value);
+    }
+
+    /**
+     * Replaces a value based on its current value in the file, which may have been changed by another instance of the
+     * application since this instance read the store, and writes the store.
+     *
+     * @param <T> the value's type
+     * @param key the key
+     * @param updater computes the new value from the current one (or the key's default value), returning
+     *            <code>null</code> removes the key
+     * @return <code>true</code> if the store has been written, <code>false</code> if it could not be written (the
+     *         value is still available in memory for this launch)
+     */
+    public synchronized <T> boolean update(final Key<T> key, final UnaryOperator<T> updater) {
+        final Optional<Path> file = getFile();
+        if (file.isEmpty()) {
+            apply(snapshot(), key, updater);
+            m_log.queueError("No configuration area set, product state cannot be saved.");
+            return false;
+        }
+        try {
+            Files.createDirectories(file.get().getParent());
+            try (FileChannel channel = FileChannel.open(file.get().resolveSibling(LOCK_FILE),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE); FileLock lock = channel.lock()) {
+                final ObjectNode current = readCurrent(file.get());
+                apply(current, key, updater);
+                write(file.get(), current);
+                m_snapshot = current;
+                return true;
+            }
+        } catch (IOException ex) {
+            apply(snapshot(), key, updater);
+            m_log.queueError(() -> "Could not write " + file.get() + ": " + ex.getMessage(), ex);
+            return false;
+        }
+    }
+
+    private <T> void apply(final ObjectNode root, final Key<T> key, final UnaryOperator<T> updater) {
+        final T value = updater.apply(get(root, key));
+        if (value == null) {
+            root.remove(key.name());
+        } else {
+            root.set(key.name(), key.writer().apply(value));
+        }
+    }
+
+    /**
+     * Logs the problems that occurred while reading or writing the store. Must only be called once the
+     * {@code NodeLogger} may be used.
+     */
+    public void replayLog() {
+        m_log.replay();
+    }
+
+    private ObjectNode snapshot() {
+        if (m_snapshot == null) {
+            m_snapshot = read();
+        }
+        return m_snapshot;
+    }
+
+    private Optional<Path> getFile() {
+        if (m_file == null) {
+            if (m_fixedFile != null) {
+                m_file = Optional.of(m_fixedFile);
+            } else {
+                final var configLocation = Platform.getConfigurationLocation();
+                m_file = configLocation == null ? Optional.empty()
+                    : ConfigAreaFlag.getPathFromLocation(configLocation)
+                        .map(p -> p.resolve("org.knime.product").resolve(STORE_FILE));
+            }
+        }
+        return m_file;
+    }
+
+    private ObjectNode read() {
+        final Optional<Path> file = getFile();
+        if (file.isPresent()) {
+            try {
+                return readCurrent(file.get());
+            } catch (IOException ex) {
+                m_log.queueError(() -> "Could not read " + file.get() + ": " + ex.getMessage(), ex);
+            }
+        }
+        return JsonNodeFactory.instance.objectNode();
+    }
+
+    /**
+     * Reads the file. Invalid content cannot be repaired by waiting and is replaced by an empty store, any other
+     * problem, e.g. the file being locked by another process, is passed on.
+     */
+    private ObjectNode readCurrent(final Path file) throws IOException {
+        if (!Files.isRegularFile(file)) {
+            return JsonNodeFactory.instance.objectNode();
+        }
+        try {
+            final JsonNode root = MAPPER.readTree(file.toFile());
+            if (root instanceof ObjectNode object) {
+                return object;
+            }
+            m_log.queueError("Ignoring unexpected content in " + file);
+        } catch (JsonProcessingException ex) {
+            m_log.queueError(() -> "Ignoring invalid content in " + file + ": " + ex.getMessage(), ex);
+        }
+        return JsonNodeFactory.instance.objectNode();
+    }
+
+    private static void write(final Path file, final ObjectNode root) throws IOException {
+        final Path tmp = Files.createTempFile(file.getParent(), STORE_FILE, ".tmp");
+        try {
+            MAPPER.writeValue(tmp.toFile(), root);
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+}
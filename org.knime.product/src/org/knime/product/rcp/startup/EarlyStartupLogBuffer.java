@@ -0,0 +1,279 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.product.rcp.startup;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Supplier;
+
+import org.knime.core.node.NodeLogger;
+import org.knime.core.node.NodeLogger.LEVEL;
+
+/**
+ * Collects log messages during early startup and replays them to the {@link NodeLogger} once logging may be used. This
+ * avoids loading the classes required for logging too early (e.g. before the workspace has been selected).
+ *
+ * <p>
+ * The buffer is bounded, messages that exceed its capacity are dropped and only counted. Adding messages is lock-free
+ * and can be done from multiple threads concurrently. Messages are passed as {@link Supplier suppliers} and only
+ * computed during {@link #replay()} if the respective log level is enabled.
+ * </p>
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public final class EarlyStartupLogBuffer {
+
+    /** The default number of messages a buffer can hold. */
+    public static final int DEFAULT_CAPACITY = 1024;
+
+    // deliberately not NodeLogger.LEVEL, so that queuing messages does not load any logging classes
+    private enum Level {
+            DEBUG, INFO, WARN, ERROR;
+    }
+
+    private record Message(Class<?> source, Level level, Supplier<String> text, Throwable exception) {
+    }
+
+    /**
+     * A fixed-size segment of messages. Producers reserve slots by incrementing the counter, {@link #replay()} closes
+     * the segment by pushing the counter beyond {@link #CLOSED}, so that late producers move on to the next segment.
+     */
+    private static final class Segment {
+
+        private static final int CLOSED = Integer.MAX_VALUE / 2;
+
+        private final AtomicReferenceArray<Message> m_messages;
+
+        private final AtomicInteger m_next = new AtomicInteger();
+
+        Segment(final int capacity) {
+            m_messages = new AtomicReferenceArray<>(capacity);
+        }
+    }
+
+    private final Class<?> m_source;
+
+    private final int m_capacity;
+
+    private final AtomicReference<Segment> m_segment;
+
+    /**
+     * Creates a new buffer with the {@link #DEFAULT_CAPACITY default capacity}.
+     *
+     * @param source the class whose logger receives the messages by default
+     */
+    public EarlyStartupLogBuffer(final Class<?> source) {
+        this(source, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a new buffer.
+     *
+     * @param source the class whose logger receives the messages by default
+     * @param capacity the maximum number of messages held until the next {@link #replay()}
+     */
+    public EarlyStartupLogBuffer(final Class<?> source, final int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        }
+        m_source = source;
+        m_capacity = capacity;
+        m_segment = new AtomicReference<>(new Segment(capacity));
+    }
+
+    /**
+     * Queues a debug message.
+     *
+     * @param message the message, only computed if debug logging is enabled during replay
+     */
+    public void queueDebug(final Supplier<String> message) {
+        queue(m_source, Level.DEBUG, message, null);
+    }
+
+    /**
+     * Queues a constant debug message.
+     *
+     * @param message the message
+     */
+    public void queueDebug(final String message) {
+        queue(m_source, Level.DEBUG, () -> message, null);
+    }
+
+    /**
+     * Queues an info message.
+     *
+     * @param message the message, only computed if info logging is enabled during replay
+     */
+    public void queueInfo(final Supplier<String> message) {
+        queue(m_source, Level.INFO, message, null);
+    }
+
+    /**
+     * Queues a warning.
+     *
+     * @param message the message, only computed if warnings are logged during replay
+     */
+    public void queueWarn(final Supplier<String> message) {
+        queue(m_source, Level.WARN, message, null);
+    }
+
+    /**
+     * Queues a warning that is logged for a different class than the buffer's default.
+     *
+     * @param source the class whose logger receives the message
+     * @param message the message, only computed if warnings are logged during replay
+     */
+    public void queueWarn(final Class<?> source, final Supplier<String> message) {
+        queue(source, Level.WARN, message, null);
+    }
+
+    /**
+     * Queues a constant error message.
+     *
+     * @param message the message
+     */
+    public void queueError(final String message) {
+        queue(m_source, Level.ERROR, () -> message, null);
+    }
+
+    /**
+     * Queues an error message.
+     *
+     * @param message the message, only computed if errors are logged during replay
+     * @param exception the exception causing the error, may be <code>null</code>
+     */
+    public void queueError(final Supplier<String> message, final Throwable exception) {
+        queue(m_source, Level.ERROR, message, exception);
+    }
+
+    /**
+     * Queues a constant error message.
+     *
+     * @param message the message
+     * @param exception the exception causing the error, may be <code>null</code>
+     */
+    public void queueError(final String message, final Throwable exception) {
+        queue(m_source, Level.ERROR, () -> message, exception);
+    }
+
+    private void queue(final Class<?> source, final Level level, final Supplier<String> text,
+        final Throwable exception) {
+        final var message = new Message(source, level, text, exception);
+        while (true) {
+            final Segment segment = m_segment.get();
+            final int index = segment.m_next.getAndIncrement();
+            if (index < m_capacity) {
+                segment.m_messages.set(index, message);
+                return;
+            } else if (index < Segment.CLOSED) {
+                return; // buffer is full, the message is counted as dropped during replay
+            }
+            // the segment has been closed by a concurrent replay, retry with the new one
+            Thread.onSpinWait();
+        }
+    }
+
+    /**
+     * Logs all queued messages in the order they were queued and empties the buffer. Messages queued concurrently to
+     * this method are logged by the next replay.
+     */
+    public void replay() {
+        final Segment segment = m_segment.getAndSet(new Segment(m_capacity));
+        final int reserved = segment.m_next.getAndAdd(Segment.CLOSED);
+        final int count = Math.min(reserved, m_capacity);
+        NodeLogger logger = null;
+        Class<?> loggerSource = null;
+        for (var i = 0; i < count; i++) {
+            Message message;
+            // a producer reserved this slot but has not written it yet, which only takes a moment
+            while ((message = segment.m_messages.get(i)) == null) {
+                Thread.onSpinWait();
+            }
+            if (message.source() != loggerSource) {
+                loggerSource = message.source();
+                logger = NodeLogger.getLogger(loggerSource);
+            }
+            log(logger, message);
+        }
+        if (reserved > m_capacity) {
+            NodeLogger.getLogger(m_source).debug(
+                (reserved - m_capacity) + " early startup log messages were dropped because the buffer was full");
+        }
+    }
+
+    private static void log(final NodeLogger logger, final Message message) {
+        final LEVEL level = switch (message.level()) {
+            case DEBUG -> LEVEL.DEBUG;
+            case INFO -> LEVEL.INFO;
+            case WARN -> LEVEL.WARN;
+            case ERROR -> LEVEL.ERROR;
+        };
+        if (!logger.isEnabledFor(level)) {
+            return;
+        }
+        final String text = message.text().get();
+        final Throwable ex = message.exception();
+        if (ex == null) {
+            switch (message.level()) {
+                case DEBUG -> logger.debug(text);
+                case INFO -> logger.info(text);
+                case WARN -> logger.warn(text);
+                case ERROR -> logger.error(text);
+            }
+        } else {
+            switch (message.level()) {
+                case DEBUG -> logger.debug(text, ex);
+                case INFO -> logger.info(text, ex);
+                case WARN -> logger.warn(text, ex);
+                case ERROR -> logger.error(text, ex);
+            }
+        }
+    }
+}
@@ -48,17 +48,32 @@
  */
 package org.knime.product.rcp.startup;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.WrongMethodTypeException;
 import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
 
 import org.eclipse.core.runtime.Platform;
 import org.eclipse.jface.dialogs.IDialogConstants;
 import org.eclipse.jface.dialogs.MessageDialog;
 import org.eclipse.swt.widgets.Display;
 import org.knime.core.node.NodeLogger;
+import org.knime.product.rcp.startup.StartupTimeline.Launch;
 
 /**
- * A singleton class that detects overly long startups on Windows and, in such cases, displays a information dialog and
- * logs a warning. Otherwise (even when not on Windows), it logs the startup time as debug message.
+ * A singleton class that detects overly long startups and, in such cases, logs a warning with the breakdown of the
+ * startup phases and, on Windows, displays an information dialog. Otherwise, it logs the startup time as debug
+ * message.
+ *
+ * <p>
+ * What counts as overly long is derived from the previous startups of this installation (see {@link StartupTimeline}),
+ * so that the detection adapts to fast workstations as well as to slow virtual desktops. As long as not enough startups
+ * have been recorded, a fixed threshold of {@value #DEFAULT_STARTUP_TIME_THRESHOLD_MILLIS} ms is used.
+ * </p>
  *
  * @author Marc Bux, KNIME GmbH, Berlin, Germany
  */
@@ -68,10 +83,8 @@ private static final class LongStartupDetectedDialog extends MessageDialogWithTo
 
         private static final String TITLE = "Startup of KNIME Analytics Platform is taking long";
 
-        private static final String SUMMARY = String.format(
-            "Startup of KNIME Analytics Platform is taking "
-                + "longer than %d seconds, potentially due to an antivirus tool.",
-            STARTUP_TIME_THRESHOLD_MILLIS / 1000);
+        private static final String SUMMARY = "Startup of KNIME Analytics Platform is taking "
+            + "longer than %d seconds, potentially due to an antivirus tool.";
 
         private static final String TEXT =
             "Antivirus tools are known to substantially slow down the startup of KNIME Analytics Platform. "
@@ -84,9 +97,10 @@ private static final class LongStartupDetectedDialog extends MessageDialogWithTo
 
         private static final String TOGGLE_MESSAGE = "Do not show again";
 
-        LongStartupDetectedDialog(final Display display, final DelayedMessageLogger logger) {
-            super(display, logger, MessageDialog.INFORMATION, new String[]{IDialogConstants.OK_LABEL}, TITLE, SUMMARY,
-                TEXT, LINK, URL, TOGGLE_MESSAGE);
+        LongStartupDetectedDialog(final Display display, final EarlyStartupLogBuffer logger,
+            final long thresholdMillis) {
+            super(display, logger, MessageDialog.INFORMATION, new String[]{IDialogConstants.OK_LABEL}, TITLE,
+                String.format(SUMMARY, thresholdMillis / 1000), TEXT, LINK, URL, TOGGLE_MESSAGE);
         }
     }
 
@@ -100,25 +114,68 @@ public static LongStartupHandler getInstance() {
     // the singleton instance of this class
     private static final LongStartupHandler INSTANCE = new LongStartupHandler();
 
-    /** The amount of time (in seconds) after which startup is considered to have taken overly long. */
-    private static final int STARTUP_TIME_THRESHOLD_MILLIS = 90_000;
+    /**
+     * The startup time (in milliseconds) after which startup is considered to have taken overly long as long as there
+     * is not enough history.
+     */
+    static final long DEFAULT_STARTUP_TIME_THRESHOLD_MILLIS = 90_000;
+
+    /** The lower bound for the adaptive threshold (in milliseconds). */
+    static final long MIN_STARTUP_TIME_THRESHOLD_MILLIS = 20_000;
+
+    /** The upper bound for the adaptive threshold (in milliseconds). */
+    static final long MAX_STARTUP_TIME_THRESHOLD_MILLIS = 300_000;
+
+    /** The number of previous startups required before the threshold is derived from them. */
+    static final int MIN_STARTUPS_FOR_BASELINE = 5;
+
+    /** The percentile of the previous startup times that serves as baseline. */
+    private static final double BASELINE_PERCENTILE = 0.9;
+
+    /** How much longer than the baseline a startup may take before it is considered overly long. */
+    private static final double BASELINE_FACTOR = 1.5;
+
+    /** The maximum amount of time after which we check for conda installation status again. */
+    private static final long MAX_CONDA_CHECK_INTERVAL_MILLIS = 30_000;
+
+    private static final String CONDA_REGISTRY_CLASS =
+        "org.knime.conda.envbundling.environment.CondaEnvironmentRegistry";
 
-    /** The amount of time after which we check for conda installation status again. */
-    private static final int CONDA_CHECK_INTERVAL_MILLIS = 30_000;
+    private final EarlyStartupLogBuffer m_logger = new EarlyStartupLogBuffer(LongStartupHandler.class);
 
-    private final DelayedMessageLogger m_logger = new DelayedMessageLogger();
+    private final StartupTimeline m_timeline = StartupTimeline.getInstance();
 
-    /** The time at which the application was started. */
-    private long m_timestampOnStartup;
+    private long m_thresholdMillis = DEFAULT_STARTUP_TIME_THRESHOLD_MILLIS;
 
     private boolean m_showWarn = false;
 
     private volatile boolean m_startupConcluded = false;
 
+    // resolved on first use, empty if the conda module is not present
+    private Optional<MethodHandle> m_condaInstallationInProgress;
+
     private LongStartupHandler() {
         // singleton
     }
 
+    /**
+     * Computes the startup time after which a startup is considered to have taken overly long, based on the previous
+     * startups of this installation.
+     *
+     * @param previousLaunches the previous startups, may be empty
+     * @return the threshold in milliseconds
+     */
+    static long computeThresholdMillis(final List<Launch> previousLaunches) {
+        final long[] totals = previousLaunches.stream().mapToLong(Launch::totalMillis).filter(t -> t > 0).sorted()
+            .toArray();
+        if (totals.length < MIN_STARTUPS_FOR_BASELINE) {
+            return DEFAULT_STARTUP_TIME_THRESHOLD_MILLIS;
+        }
+        final long baseline = totals[(int)Math.ceil(BASELINE_PERCENTILE * totals.length) - 1];
+        return Math.max(MIN_STARTUP_TIME_THRESHOLD_MILLIS,
+            Math.min(MAX_STARTUP_TIME_THRESHOLD_MILLIS, (long)(baseline * BASELINE_FACTOR)));
+    }
+
     /**
      * Shows the long startup dialog and handles the toggle state for future suppression.
      *
@@ -127,11 +184,11 @@ private LongStartupHandler() {
      */
     private void showLongStartupDialog(final Display display, final ConfigAreaFlag flag) {
         m_logger.queueDebug("Showing long startup dialog to user.");
-        final var dialog = new LongStartupDetectedDialog(display, m_logger);
+        final var dialog = new LongStartupDetectedDialog(display, m_logger, m_thresholdMillis);
         long timestampOnOpen = System.currentTimeMillis();
         dialog.open();
         // while waiting for the dialog to close, we should not log startup time
-        m_timestampOnStartup += System.currentTimeMillis() - timestampOnOpen;
+        m_timeline.excludeUserWait(Duration.ofMillis(System.currentTimeMillis() - timestampOnOpen));
         if (dialog.getToggleState()) {
             flag.setFlag(true);
         }
@@ -142,59 +199,51 @@ private void showLongStartupDialog(final Display display, final ConfigAreaFlag f
      *
      * @param configKey the key of the flag in the Eclipse configuration area that can be set to prevent the dialog to
      *            be shown
-     * @param showDialogAndWarn if true, if startup is taking overly long, a dialog is shown and the startup time is
-     *            logged as a warning; otherwise, the startup time is merely logged as a debug message
+     * @param showDialogAndWarn if true, if startup is taking overly long, a dialog is shown (on Windows) and the
+     *            startup time is logged as a warning; otherwise, the startup time is merely logged as a debug message
      * @param display the {@link Display}
      */
     public void onStartupCommenced(final String configKey, final boolean showDialogAndWarn, final Display display) {
+        m_thresholdMillis = computeThresholdMillis(m_timeline.getPreviousLaunches());
+        m_showWarn = showDialogAndWarn;
+        if (!showDialogAndWarn) {
+            return;
+        }
 
-        m_timestampOnStartup = System.currentTimeMillis();
+        // the dialog's advice (antivirus tools) only applies to Windows, the warning is logged on all platforms
         final ConfigAreaFlag flag = new ConfigAreaFlag(configKey, m_logger);
+        final boolean showDialog = Platform.OS_WIN32.equals(Platform.getOS()) && !flag.isFlagSet();
+        final long delay = Math.max(0, m_thresholdMillis - m_timeline.getElapsedMillis());
+        final long threshold = m_thresholdMillis;
+        m_logger.queueDebug(() -> "Setting up long startup detection timer for " + (threshold / 1000)
+            + " seconds after launch (in " + (delay / 1000) + " seconds)");
+        display.timerExec((int)delay, () -> checkForLongStartup(display, flag, showDialog));
+    }
 
-        // check if we should even show the dialog
-        // check if we are on Windows
-        // look up the Eclipse configuration area to determine if we should even check for Windows Defender
-        if (showDialogAndWarn && Platform.OS_WIN32.equals(Platform.getOS()) && !flag.isFlagSet()) {
-            m_showWarn = true;
-            m_logger.queueDebug(
-                "Setting up long startup detection timer for " + (STARTUP_TIME_THRESHOLD_MILLIS / 1000) + " seconds");
-            display.timerExec(STARTUP_TIME_THRESHOLD_MILLIS, () -> {
-                if (!m_startupConcluded) {
-                    long currentElapsed = System.currentTimeMillis() - m_timestampOnStartup;
-                    m_logger.queueDebug("Long startup timer triggered after " + (currentElapsed / 1000)
-                        + " seconds. Startup not yet concluded, checking conda installation status...");
-
-                    // Check if conda environment installation is in progress - if so, don't show the dialog
-                    boolean isCondaInstallInProgress = isCondaEnvironmentInstallationInProgress();
-                    m_logger.queueDebug("Conda installation in progress check result: " + isCondaInstallInProgress);
-
-                    if (!isCondaInstallInProgress) {
-                        showLongStartupDialog(display, flag);
-                    } else {
-                        m_logger.queueDebug(
-                            "Skipping long startup dialog because conda environment installation is in progress. Setting up another timer to check again in 30 seconds...");
-                        // Set up another timer to check again after conda installation might be done
-                        display.timerExec(CONDA_CHECK_INTERVAL_MILLIS, () -> {
-                            if (!m_startupConcluded) {
-                                long newElapsed = System.currentTimeMillis() - m_timestampOnStartup;
-                                m_logger.queueDebug("Secondary timer triggered after " + (newElapsed / 1000)
-                                    + " seconds total. Checking conda status again...");
-                                boolean isStillInProgress = isCondaEnvironmentInstallationInProgress();
-                                if (!isStillInProgress && newElapsed >= STARTUP_TIME_THRESHOLD_MILLIS) {
-                                    m_logger.queueDebug(
-                                        "Conda installation completed but startup still taking long - showing dialog.");
-                                    showLongStartupDialog(display, flag);
-                                } else {
-                                    m_logger.queueDebug(
-                                        "Secondary check: conda still in progress or startup completed - no dialog needed.");
-                                }
-                            }
-                        });
-                    }
-                } else {
-                    m_logger.queueDebug("Long startup timer triggered but startup already concluded.");
-                }
-            });
+    private void checkForLongStartup(final Display display, final ConfigAreaFlag flag, final boolean showDialog) {
+        if (m_startupConcluded) {
+            m_logger.queueDebug("Long startup timer triggered but startup already concluded.");
+            return;
+        }
+        final long elapsed = m_timeline.getElapsedMillis();
+        if (elapsed < m_thresholdMillis) {
+            // time spent in dialogs does not count, check again once the threshold is actually reached
+            display.timerExec((int)(m_thresholdMillis - elapsed), () -> checkForLongStartup(display, flag, showDialog));
+            return;
+        }
+        // the breakdown must reflect the current state, hence it cannot be computed lazily
+        final String phases = m_timeline.describePhases();
+        m_logger.queueDebug(() -> "Long startup timer triggered after " + (elapsed / 1000)
+            + " seconds. Startup not yet concluded, phases so far: " + phases);
+
+        // if conda environment installation is in progress, don't show the dialog yet but check again later
+        if (isCondaEnvironmentInstallationInProgress()) {
+            final long interval = Math.min(MAX_CONDA_CHECK_INTERVAL_MILLIS, m_thresholdMillis / 3);
+            m_logger.queueDebug(() -> "Conda environment installation is in progress, checking again in "
+                + (interval / 1000) + " seconds.");
+            display.timerExec((int)interval, () -> checkForLongStartup(display, flag, showDialog));
+        } else if (showDialog) {
+            showLongStartupDialog(display, flag);
         }
     }
 
@@ -202,65 +251,59 @@ public void onStartupCommenced(final String configKey, final boolean showDialogA
      * Method that should be invoked once startup concluded.
      */
     public void onStartupConcluded() {
-        final long startupTime = (System.currentTimeMillis() - m_timestampOnStartup);
-        m_logger.queueDebug("onStartupConcluded called after " + (startupTime / 1000) + " seconds");
+        final long startupTime = m_timeline.getElapsedMillis();
+        m_logger.queueDebug(() -> "onStartupConcluded called after " + (startupTime / 1000) + " seconds");
 
         m_startupConcluded = true;
 
+        m_logger.replay();
+        ConfigAreaStateStore.getInstance().replayLog();
         final NodeLogger logger = NodeLogger.getLogger(LongStartupHandler.class);
-        m_logger.logQueuedMessaged(logger);
         final String startupTimeMsg = String.format("Startup took %d seconds.", startupTime / 1000);
 
-        if (m_showWarn && startupTime >= STARTUP_TIME_THRESHOLD_MILLIS) {
-            logger.warn(startupTimeMsg
-                + " Long startup dialog should have been shown if conda environment installation was not in progress.");
+        if (m_showWarn && startupTime >= m_thresholdMillis) {
+            logger.warn(startupTimeMsg + " This is longer than the expected maximum of " + (m_thresholdMillis / 1000)
+                + " seconds for this installation. Startup phases: " + m_timeline.describePhases());
         } else {
-            logger.debug(startupTimeMsg);
+            logger.debug(startupTimeMsg + " Long startup threshold: " + (m_thresholdMillis / 1000) + " seconds.");
         }
     }
 
     /**
      * Checks if conda environment installation is currently in progress by using reflection to avoid direct dependency
-     * on the conda module.
+     * on the conda module. The method is only looked up once.
      *
      * @return true if conda environment installation is in progress, false otherwise
      */
     private boolean isCondaEnvironmentInstallationInProgress() {
+        if (m_condaInstallationInProgress == null) {
+            m_condaInstallationInProgress = lookupCondaInstallationInProgress();
+        }
+        if (m_condaInstallationInProgress.isEmpty()) {
+            return false;
+        }
         try {
-            m_logger.queueDebug("Attempting to check if conda environment installation is in progress...");
-
-            Class<?> registryClass = Class.forName("org.knime.conda.envbundling.environment.CondaEnvironmentRegistry");
-            m_logger.queueDebug("Successfully loaded CondaEnvironmentRegistry class");
-
-            Method method = registryClass.getMethod("isEnvironmentInstallationInProgress");
-            m_logger.queueDebug("Successfully found isEnvironmentInstallationInProgress method");
-
-            Boolean result = (Boolean)method.invoke(null);
-            m_logger.queueDebug("Conda environment installation in progress: " + result);
-
-            // Additional debug: try to check environment count to see if environments are being processed
-            try {
-                java.lang.reflect.Method getEnvsMethod = registryClass.getMethod("getEnvironments");
-                Object environments = getEnvsMethod.invoke(null);
-                if (environments instanceof java.util.Map) {
-                    int envCount = ((java.util.Map<?, ?>)environments).size();
-                    m_logger.queueDebug("Number of conda environments registered: " + envCount);
-                }
-            } catch (Exception e2) {
-                m_logger.queueDebug("Could not get environment count: " + e2.getMessage());
-            }
-
+            final var result = (boolean)m_condaInstallationInProgress.get().invokeExact();
+            m_logger.queueDebug(() -> "Conda environment installation in progress: " + result);
             return result;
+        } catch (Throwable e) { // NOSONAR invokeExact declares Throwable
+            m_logger.queueDebug(() -> "Error checking conda environment installation status: " + e.getMessage());
+            return false; // default to false if any error occurs
+        }
+    }
+
+    private Optional<MethodHandle> lookupCondaInstallationInProgress() {
+        try {
+            final Class<?> registryClass = Class.forName(CONDA_REGISTRY_CLASS);
+            final Method method = registryClass.getMethod("isEnvironmentInstallationInProgress");
+            return Optional.of(MethodHandles.publicLookup().unreflect(method)
+                .asType(MethodType.methodType(boolean.class)));
         } catch (ClassNotFoundException e) {
             m_logger.queueDebug(
-                "CondaEnvironmentRegistry class not found - conda module likely not present: " + e.getMessage());
-            return false;
-        } catch (NoSuchMethodException e) {
-            m_logger.queueDebug("isEnvironmentInstallationInProgress method not found: " + e.getMessage());
-            return false;
-        } catch (Exception e) {
-            m_logger.queueDebug("Error checking conda environment installation status: " + e.getMessage());
-            return false; // default to false if any error occurs
+                () -> "CondaEnvironmentRegistry class not found - conda module likely not present: " + e.getMessage());
+        } catch (NoSuchMethodException | IllegalAccessException | WrongMethodTypeException e) {
+            m_logger.queueDebug(() -> "isEnvironmentInstallationInProgress method not accessible: " + e.getMessage());
         }
+        return Optional.empty();
     }
 }
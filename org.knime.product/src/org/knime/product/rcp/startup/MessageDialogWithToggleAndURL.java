@@ -121,11 +121,11 @@ private static Shell getActiveShell(final Display display) {
 
     private final String m_toggleMessage;
 
-    private final DelayedMessageLogger m_logger;
+    private final EarlyStartupLogBuffer m_logger;
 
     private boolean m_toggleState = false;
 
-    MessageDialogWithToggleAndURL(final Display display, final DelayedMessageLogger logger, final int dialogImageType,
+    MessageDialogWithToggleAndURL(final Display display, final EarlyStartupLogBuffer logger, final int dialogImageType,
         final String[] dialogButtonLabels, final String title, final String summary, final String text,
         final String link, final String url, final String toggleMessage) {
         super(getActiveShell(display), title, null, null, dialogImageType, 0, dialogButtonLabels);
@@ -193,13 +193,12 @@ public void widgetSelected(final SelectionEvent e) {
                             // as we don't have a workbench yet
                             Desktop.getDesktop().browse(new URI(m_url));
                         } catch (IOException | URISyntaxException ex) {
-                            m_logger.queueError(
-                                String.format("Error when trying to open external browser at location \"%s\".", m_url),
-                                ex);
+                            m_logger.queueError(() -> String
+                                .format("Error when trying to open external browser at location \"%s\".", m_url), ex);
                         }
                     } else {
-                        m_logger
-                            .queueError(String.format("Could not open external browser at location \"%s\".", m_url));
+                        m_logger.queueError(
+                            () -> String.format("Could not open external browser at location \"%s\".", m_url), null);
                     }
                 });
             }
@@ -0,0 +1,299 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.product.rcp.startup;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+
+import org.eclipse.core.runtime.IConfigurationElement;
+import org.eclipse.core.runtime.IExtensionPoint;
+import org.eclipse.core.runtime.Platform;
+import org.knime.core.node.NodeLogger;
+import org.osgi.framework.Bundle;
+import org.osgi.framework.wiring.BundleWiring;
+import org.xml.sax.SAXException;
+
+/**
+ * Speculative warm-up that uses the time the user spends in the workspace chooser. While the dialog is open, a few
+ * low-priority daemon threads
+ * <ul>
+ * <li>load and link the classes of a configurable list of bundles,</li>
+ * <li>read all contributions to a configurable list of extension points (which makes the extension registry load
+ * them from its cache), and</li>
+ * <li>parse the {@code plugin.xml} files of these bundles, which exercises the XML parser the workbench uses heavily
+ * during startup and thereby warms up the JIT.</li>
+ * </ul>
+ *
+ * <p>
+ * The warm-up must neither use the {@link NodeLogger} nor the workspace, since both are not available before the
+ * instance location has been set. Therefore no class is initialized and only bundles are considered whose classes can
+ * be loaded without activating any other bundle, i.e. which (transitively) only depend on bundles that are either
+ * already active or are not activated lazily. Before the workbench has been created most bundles are neither, hence
+ * the default list only contains bundles that are not activated lazily or that are active while the workspace chooser
+ * is shown (the dialog itself activates the workbench bundles). Bundles that are skipped are retried once after all
+ * others, the number of bundles skipped in the end is part of the {@linkplain #logSummary() summary}. The warm-up is
+ * stopped as soon as {@link #stop()} is called, i.e. once the workspace has been chosen.
+ * </p>
+ *
+ * <p>
+ * The bundles and extension points can be configured with the comma-separated system properties
+ * {@value #BUNDLES_PROPERTY} and {@value #EXTENSION_POINTS_PROPERTY}; {@code -D}{@value #ENABLED_PROPERTY}
+ * {@code =false} disables the warm-up.
+ * </p>
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public final class SpeculativeWarmup {
+
+    /** System property to disable the warm-up. */
+    static final String ENABLED_PROPERTY = "knime.startup.warmup";
+
+    /** System property with a comma-separated list of bundles whose classes are loaded. */
+    static final String BUNDLES_PROPERTY = "knime.startup.warmup.bundles";
+
+    /** System property with a comma-separated list of extension points that are pre-resolved. */
+    static final String EXTENSION_POINTS_PROPERTY = "knime.startup.warmup.extensionPoints";
+
+    private static final List<String> DEFAULT_BUNDLES = List.of( //
+        "org.knime.core", // activated by the application before the warm-up starts
+        "org.eclipse.swt", //
+        "org.eclipse.jface", //
+        "org.eclipse.ui.workbench", // activated by the workspace chooser
+        "org.eclipse.ui.ide");
+
+    private static final List<String> DEFAULT_EXTENSION_POINTS = List.of( //
+        "org.eclipse.e4.workbench.model", //
+        "org.eclipse.ui.views", //
+        "org.eclipse.ui.editors", //
+        "org.eclipse.ui.perspectives", //
+        "org.eclipse.ui.menus", //
+        "org.eclipse.ui.commands", //
+        "org.eclipse.ui.handlers", //
+        "org.eclipse.ui.bindings", //
+        "org.eclipse.ui.preferencePages", //
+        "org.eclipse.e4.ui.css.swt.theme", //
+        "org.knime.workbench.repository.categories", //
+        "org.knime.workbench.repository.nodes", //
+        "org.knime.workbench.repository.nodesets", //
+        "org.knime.product.profileProvider");
+
+    private static final int THREADS = 2;
+
+    private final ExecutorService m_executor;
+
+    private final AtomicBoolean m_stopped = new AtomicBoolean();
+
+    private final AtomicInteger m_loadedClasses = new AtomicInteger();
+
+    private final AtomicInteger m_resolvedElements = new AtomicInteger();
+
+    private final AtomicInteger m_skippedBundles = new AtomicInteger();
+
+    private final long m_startTime = System.currentTimeMillis();
+
+    private SpeculativeWarmup(final ExecutorService executor) {
+        m_executor = executor;
+    }
+
+    /**
+     * Starts the warm-up on background threads, unless disabled via {@value #ENABLED_PROPERTY}.
+     *
+     * @return the running warm-up, never {@code null}
+     */
+    public static SpeculativeWarmup start() {
+        final var threadCount = new AtomicInteger();
+        final var warmup = new SpeculativeWarmup(Executors.newFixedThreadPool(THREADS, r -> {
+            final var t = new Thread(r, "KNIME-Speculative-Warmup-" + threadCount.incrementAndGet());
+            t.setDaemon(true);
+            t.setPriority(Thread.MIN_PRIORITY);
+            return t;
+        }));
+        if (Boolean.parseBoolean(System.getProperty(ENABLED_PROPERTY, "true"))) {
+            warmup.m_executor.execute(() -> warmup.resolveExtensionPoints(
+                getListProperty(EXTENSION_POINTS_PROPERTY, DEFAULT_EXTENSION_POINTS)));
+            final var bundles = getListProperty(BUNDLES_PROPERTY, DEFAULT_BUNDLES);
+            warmup.m_executor.execute(() -> warmup.parsePluginXmls(bundles));
+            warmup.m_executor.execute(() -> warmup.loadClasses(bundles));
+        }
+        warmup.m_executor.shutdown();
+        return warmup;
+    }
+
+    /**
+     * Stops the warm-up. Work that is currently in progress finishes its current unit (a class or an extension) and
+     * all pending work is dropped. Returns immediately.
+     */
+    public void stop() {
+        if (!m_stopped.getAndSet(true)) {
+            m_executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Logs what the warm-up achieved. Must only be called once the {@link NodeLogger} may be used.
+     */
+    public void logSummary() {
+        final var finished = m_executor.isTerminated() ? "finished" : "stopped";
+        NodeLogger.getLogger(SpeculativeWarmup.class)
+            .debug("Speculative warm-up " + finished + " after " + (System.currentTimeMillis() - m_startTime)
+                + " ms: loaded " + m_loadedClasses.get() + " classes, resolved " + m_resolvedElements.get()
+                + " extension elements, skipped " + m_skippedBundles.get() + " bundles");
+    }
+
+    private void loadClasses(final List<String> bundleNames) {
+        final List<Bundle> skipped = new ArrayList<>();
+        final var activation = new BundleActivation();
+        for (final String bundleName : bundleNames) {
+            final Bundle bundle = Platform.getBundle(bundleName);
+            if (bundle != null && !loadClasses(bundle, activation)) {
+                skipped.add(bundle);
+            }
+        }
+        // meanwhile the workspace chooser may have activated some of the skipped bundles
+        final var activationOnRetry = new BundleActivation();
+        for (final Bundle bundle : skipped) {
+            if (!loadClasses(bundle, activationOnRetry)) {
+                m_skippedBundles.incrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * Loads all classes of the bundle unless that could activate a bundle.
+     *
+     * @return {@code false} if the bundle has been skipped
+     */
+    private boolean loadClasses(final Bundle bundle, final BundleActivation activation) {
+        if (!activation.canLoadWithoutActivation(bundle)) {
+            return false;
+        }
+        final BundleWiring wiring = bundle.adapt(BundleWiring.class);
+        final ClassLoader loader = wiring.getClassLoader();
+        for (final String resource : wiring.listResources("/", "*.class",
+            BundleWiring.LISTRESOURCES_RECURSE | BundleWiring.LISTRESOURCES_LOCAL)) {
+            if (m_stopped.get()) {
+                return true;
+            }
+            final String className = resource.substring(0, resource.length() - ".class".length()).replace('/', '.');
+            if (className.endsWith("module-info") || className.endsWith("package-info")) {
+                continue;
+            }
+            try {
+                // load without initialization, reflecting on the methods makes HotSpot link (verify) the class
+                Class.forName(className, false, loader).getDeclaredMethods();
+                m_loadedClasses.incrementAndGet();
+            } catch (ClassNotFoundException | LinkageError | SecurityException e) { // NOSONAR
+                // optional dependencies and the like; the real startup will deal with them if needed
+            }
+        }
+        return true;
+    }
+
+    private void resolveExtensionPoints(final List<String> extensionPointIds) {
+        for (final String id : extensionPointIds) {
+            final IExtensionPoint point = Platform.getExtensionRegistry().getExtensionPoint(id);
+            if (point == null) {
+                continue;
+            }
+            final Deque<IConfigurationElement> queue =
+                new ArrayDeque<>(Arrays.asList(point.getConfigurationElements()));
+            while (!queue.isEmpty()) {
+                if (m_stopped.get()) {
+                    return;
+                }
+                final IConfigurationElement element = queue.pop();
+                for (final String attribute : element.getAttributeNames()) {
+                    element.getAttribute(attribute);
+                }
+                queue.addAll(Arrays.asList(element.getChildren()));
+                m_resolvedElements.incrementAndGet();
+            }
+        }
+    }
+
+    private void parsePluginXmls(final List<String> bundleNames) {
+        final var factory = DocumentBuilderFactory.newInstance();
+        for (final String bundleName : bundleNames) {
+            final Bundle bundle = Platform.getBundle(bundleName);
+            // Bundle#getEntry neither loads classes nor activates the bundle
+            final URL pluginXml = bundle == null ? null : bundle.getEntry("plugin.xml");
+            if (m_stopped.get()) {
+                return;
+            }
+            if (pluginXml != null) {
+                try (InputStream in = pluginXml.openStream()) {
+                    factory.newDocumentBuilder().parse(in);
+                } catch (IOException | ParserConfigurationException | SAXException e) { // NOSONAR only a warm-up
+                    // ignore, the workbench will report broken plugin.xml files
+                }
+            }
+        }
+    }
+
+    private static List<String> getListProperty(final String property, final List<String> defaultValue) {
+        final String value = System.getProperty(property);
+        if (value == null || value.isBlank()) {
+            return defaultValue;
+        }
+        return Arrays.stream(value.split(",")).map(String::trim).filter(s -> !s.isEmpty()).toList();
+    }
+}
@@ -0,0 +1,433 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.product.rcp.startup;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+import org.knime.core.node.NodeLogger;
+import org.knime.product.rcp.startup.ConfigAreaStateStore.Key;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Records the timeline of the current startup, i.e. the point in time at which each significant startup phase
+ * finished, and keeps a rolling history of the last launches in the {@link ConfigAreaStateStore}. When the startup has
+ * concluded, every phase is compared with its own history and phases that took considerably longer than usual are
+ * reported, instead of relying on a single hard-coded threshold for the whole startup.
+ *
+ * <p>
+ * Sequential phases are recorded with {@link #mark(String)}, the duration of a phase is the time since the previous
+ * mark (or since the JVM started for the first one). Phases that run concurrently to the main startup sequence can be
+ * added with {@link #recordDuration(String, Duration)}. This class must not log anything before {@link #conclude()}
+ * because most phases are recorded before logging has been initialized.
+ * </p>
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public final class StartupTimeline {
+
+    /** The core plug-in has been started and the earliest {@code IEarlyStartup} stage has been run. */
+    public static final String EARLY_STARTUP_EARLIEST = "earlyStartupEarliest";
+
+    /** The SWT display has been created. */
+    public static final String DISPLAY_CREATED = "displayCreated";
+
+    /** The workspace has been selected and locked. */
+    public static final String INSTANCE_LOCATION_LOCKED = "instanceLocationLocked";
+
+    /** The Windows Defender dialog has been closed (only recorded if it was shown). */
+    public static final String WINDOWS_DEFENDER_DIALOG = "windowsDefenderDialog";
+
+    /** Profiles have been applied. */
+    public static final String PROFILES_APPLIED = "profilesApplied";
+
+    /** The {@code IEarlyStartup} extensions of the stage after loading the profiles have been run. */
+    public static final String EARLY_STARTUP_AFTER_PROFILES = "earlyStartupAfterProfilesLoaded";
+
+    /** The remaining preparations before creating the workbench (theme, arguments, ...) are done. */
+    public static final String WORKBENCH_PREPARED = "workbenchPrepared";
+
+    /** The first workbench window has been opened. */
+    public static final String FIRST_WINDOW_OPENED = "firstWindowOpened";
+
+    /** The intro page has been shown (or skipped). */
+    public static final String INTRO_PAGE_SHOWN = "introPageShown";
+
+    /** The workbench has completed its startup. */
+    public static final String WORKBENCH_STARTED = "workbenchStarted";
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(StartupTimeline.class);
+
+    private static final int FORMAT_VERSION = 1;
+
+    /** System property for the number of launches kept in the history. */
+    static final String HISTORY_SIZE_PROPERTY = "knime.startup.history.size";
+
+    private static final int DEFAULT_HISTORY_SIZE = 20;
+
+    /** The minimum number of previous launches for which a phase must have been recorded to detect regressions. */
+    static final int MIN_HISTORY_FOR_COMPARISON = 5;
+
+    /** Regressions below this absolute increase (in milliseconds) are not reported to avoid noise. */
+    static final long MIN_REGRESSION_MILLIS = 1000;
+
+    /** The key of the startup history in the {@link ConfigAreaStateStore}. */
+    static final Key<List<Launch>> HISTORY_KEY =
+        new Key<>("startupHistory", List.of(), StartupTimeline::historyFromJson, StartupTimeline::historyToJson);
+
+    private static final StartupTimeline INSTANCE = new StartupTimeline();
+
+    /**
+     * One recorded launch.
+     *
+     * @param timestamp when the startup concluded
+     * @param phases the durations of the sequential phases in milliseconds, in the order they were recorded
+     * @param tasks the durations of phases that ran concurrently to the sequential ones, in milliseconds
+     * @param interactive phases that included waiting for user input and are therefore not comparable
+     */
+    record Launch(Instant timestamp, Map<String, Long> phases, Map<String, Long> tasks, Set<String> interactive) {
+
+        /**
+         * @return the sum of all sequential phase durations without phases that waited for user input
+         */
+        long totalMillis() {
+            return phases.entrySet().stream().filter(e -> !interactive.contains(e.getKey()))
+                .mapToLong(Map.Entry::getValue).sum();
+        }
+
+        /**
+         * @return the sequential phases followed by the concurrent ones
+         */
+        Map<String, Long> allPhases() {
+            final Map<String, Long> all = new LinkedHashMap<>(phases);
+            all.putAll(tasks);
+            return all;
+        }
+    }
+
+    /**
+     * A phase that took considerably longer than in previous launches.
+     *
+     * @param phase the phase's name
+     * @param millis the duration in the current launch
+     * @param medianMillis the median duration in the previous launches
+     */
+    record Regression(String phase, long millis, long medianMillis) {
+        @Override
+        public String toString() {
+            return phase + " took " + millis + "ms (usually " + medianMillis + "ms)";
+        }
+    }
+
+    /**
+     * @return the singleton instance
+     */
+    public static StartupTimeline getInstance() {
+        return INSTANCE;
+    }
+
+    private final long m_jvmStartMillis = ManagementFactory.getRuntimeMXBean().getStartTime();
+
+    private final Map<String, Long> m_phases = new LinkedHashMap<>();
+
+    private final Map<String, Long> m_tasks = new LinkedHashMap<>();
+
+    private final Set<String> m_interactive = new HashSet<>();
+
+    private long m_lastMark = m_jvmStartMillis;
+
+    private boolean m_concluded;
+
+    private Launch m_launch;
+
+    private List<Launch> m_previousLaunches;
+
+    private StartupTimeline() {
+        // singleton
+    }
+
+    /**
+     * Marks the end of a sequential startup phase.
+     *
+     * @param phase the phase's name
+     */
+    public void mark(final String phase) {
+        mark(phase, false);
+    }
+
+    /**
+     * Marks the end of a sequential startup phase.
+     *
+     * @param phase the phase's name
+     * @param waitedForUser whether the phase included waiting for user input (e.g. the workspace chooser), in which
+     *            case it is not compared with previous launches
+     */
+    public synchronized void mark(final String phase, final boolean waitedForUser) {
+        if (m_concluded) {
+            return;
+        }
+        final long now = System.currentTimeMillis();
+        m_phases.merge(phase, now - m_lastMark, Long::sum);
+        m_lastMark = now;
+        if (waitedForUser) {
+            m_interactive.add(phase);
+        }
+    }
+
+    /**
+     * Records the duration of a phase that did not run as part of the main startup sequence.
+     *
+     * @param phase the phase's name
+     * @param duration its duration
+     */
+    public synchronized void recordDuration(final String phase, final Duration duration) {
+        if (!m_concluded) {
+            m_tasks.merge(phase, duration.toMillis(), Long::sum);
+        }
+    }
+
+    /**
+     * @return the sequential phases recorded so far with their durations in milliseconds
+     */
+    public synchronized Map<String, Long> getPhaseDurations() {
+        return new LinkedHashMap<>(m_phases);
+    }
+
+    /**
+     * Excludes time spent waiting for the user (e.g. in a dialog) from the currently running phase.
+     *
+     * @param duration the time spent waiting
+     */
+    public synchronized void excludeUserWait(final Duration duration) {
+        m_lastMark += duration.toMillis();
+    }
+
+    /**
+     * @return the time since the JVM started without the phases and periods that waited for user input
+     */
+    public synchronized long getElapsedMillis() {
+        return m_phases.entrySet().stream().filter(e -> !m_interactive.contains(e.getKey()))
+            .mapToLong(Map.Entry::getValue).sum() + (System.currentTimeMillis() - m_lastMark);
+    }
+
+    /**
+     * @return the launches before the current one, oldest first, read from the configuration area on first access
+     */
+    synchronized List<Launch> getPreviousLaunches() {
+        if (m_previousLaunches == null) {
+            m_previousLaunches = ConfigAreaStateStore.getInstance().get(HISTORY_KEY);
+        }
+        return m_previousLaunches;
+    }
+
+    /**
+     * Describes the phases recorded so far, including the usual duration of each phase in previous launches and the
+     * time spent in the currently running phase.
+     *
+     * @return a human-readable phase breakdown
+     */
+    synchronized String describePhases() {
+        final List<Launch> history = getPreviousLaunches();
+        final var sb = new StringBuilder();
+        m_phases.forEach((phase, millis) -> {
+            sb.append(phase).append('=').append(millis).append("ms");
+            final long[] previous = previousDurations(history, phase);
+            if (previous.length > 0) {
+                sb.append(" (usually ").append(median(previous)).append("ms)");
+            }
+            if (m_interactive.contains(phase)) {
+                sb.append(" (waited for user)");
+            }
+            sb.append(", ");
+        });
+        return sb.append("running phase=").append(System.currentTimeMillis() - m_lastMark).append("ms").toString();
+    }
+
+    /**
+     * Concludes the timeline of the current startup: phases that regressed compared with previous launches are logged
+     * and the launch is added to the history in the configuration area. Phases recorded afterwards are ignored.
+     * Subsequent invocations have no effect.
+     */
+    public void conclude() {
+        final Launch launch;
+        synchronized (this) {
+            if (m_concluded) {
+                return;
+            }
+            m_concluded = true;
+            launch = new Launch(Instant.now(), Collections.unmodifiableMap(new LinkedHashMap<>(m_phases)),
+                Collections.unmodifiableMap(new LinkedHashMap<>(m_tasks)), Set.copyOf(m_interactive));
+            m_launch = launch;
+        }
+
+        final List<Launch> history = getPreviousLaunches();
+
+        LOGGER.debug("Startup timeline: " + launch.phases() + ", " + launch.totalMillis()
+            + "ms in total (without waiting for user input), concurrent tasks: " + launch.tasks());
+        final List<Regression> regressions = detectRegressions(launch, history);
+        if (!regressions.isEmpty()) {
+            LOGGER.info("Startup phases slower than in previous launches: " + regressions);
+        }
+
+        final int size = Math.max(1, Integer.getInteger(HISTORY_SIZE_PROPERTY, DEFAULT_HISTORY_SIZE));
+        final var store = ConfigAreaStateStore.getInstance();
+        // appended to the history as currently stored, which may contain launches of other instances in the meantime
+        store.update(HISTORY_KEY, current -> {
+            final List<Launch> updated = new ArrayList<>(current);
+            updated.add(launch);
+            return List.copyOf(updated.subList(Math.max(0, updated.size() - size), updated.size()));
+        });
+        store.replayLog();
+    }
+
+    /**
+     * @return the current launch, present after {@link #conclude()} has been called
+     */
+    synchronized Optional<Launch> getCurrentLaunch() {
+        return Optional.ofNullable(m_launch);
+    }
+
+    /**
+     * Compares every non-interactive phase of the given launch with the same phase in the previous launches. A phase
+     * is considered to have regressed if it took at least {@link #MIN_REGRESSION_MILLIS} longer than its median and
+     * exceeds both 1.5 times the median and the median plus three (scaled) median absolute deviations.
+     *
+     * @param launch the launch to check
+     * @param history previous launches
+     * @return the regressed phases, in the order they were recorded
+     */
+    static List<Regression> detectRegressions(final Launch launch, final List<Launch> history) {
+        final List<Regression> regressions = new ArrayList<>();
+        for (final Map.Entry<String, Long> e : launch.allPhases().entrySet()) {
+            final String phase = e.getKey();
+            if (launch.interactive().contains(phase)) {
+                continue;
+            }
+            final long[] previous = previousDurations(history, phase);
+            if (previous.length < MIN_HISTORY_FOR_COMPARISON) {
+                continue;
+            }
+            final long median = median(previous);
+            final long[] deviations = new long[previous.length];
+            for (var i = 0; i < previous.length; i++) {
+                deviations[i] = Math.abs(previous[i] - median);
+            }
+            Arrays.sort(deviations);
+            // 1.4826 scales the MAD to be comparable to a standard deviation for normally distributed data
+            final double spread = 3 * 1.4826 * median(deviations);
+            final long current = e.getValue();
+            if (current - median >= MIN_REGRESSION_MILLIS && current > 1.5 * median && current > median + spread) {
+                regressions.add(new Regression(phase, current, median));
+            }
+        }
+        return regressions;
+    }
+
+    private static long[] previousDurations(final List<Launch> history, final String phase) {
+        return history.stream().filter(l -> !l.interactive().contains(phase))
+            .map(l -> l.phases().getOrDefault(phase, l.tasks().get(phase))).filter(Objects::nonNull)
+            .mapToLong(Long::longValue).sorted().toArray();
+    }
+
+    private static long median(final long[] sorted) {
+        final int mid = sorted.length / 2;
+        return sorted.length % 2 == 1 ? sorted[mid] : (sorted[mid - 1] + sorted[mid]) / 2;
+    }
+
+    static List<Launch> historyFromJson(final JsonNode root) {
+        if (root.path("formatVersion").asInt() != FORMAT_VERSION) {
+            return List.of();
+        }
+        final List<Launch> launches = new ArrayList<>();
+        for (final JsonNode launch : root.path("launches")) {
+            final Set<String> interactive = new HashSet<>();
+            launch.path("interactive").forEach(i -> interactive.add(i.asText()));
+            launches.add(new Launch(Instant.parse(launch.path("timestamp").asText()),
+                readDurations(launch.path("phases")), readDurations(launch.path("tasks")), interactive));
+        }
+        return launches;
+    }
+
+    private static Map<String, Long> readDurations(final JsonNode node) {
+        final Map<String, Long> durations = new LinkedHashMap<>();
+        node.fields().forEachRemaining(p -> durations.put(p.getKey(), p.getValue().asLong()));
+        return durations;
+    }
+
+    static JsonNode historyToJson(final List<Launch> launches) {
+        final ObjectNode root = JsonNodeFactory.instance.objectNode();
+        root.put("formatVersion", FORMAT_VERSION);
+        final var array = root.putArray("launches");
+        for (final Launch launch : launches) {
+            final var node = array.addObject();
+            node.put("timestamp", launch.timestamp().toString());
+            final var phases = node.putObject("phases");
+            launch.phases().forEach(phases::put);
+            final var tasks = node.putObject("tasks");
+            launch.tasks().forEach(tasks::put);
+            final var interactive = node.putArray("interactive");
+            launch.interactive().stream().sorted().forEach(interactive::add);
+        }
+        return root;
+    }
+}
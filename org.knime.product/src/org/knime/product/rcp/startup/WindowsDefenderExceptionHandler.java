@@ -65,7 +65,6 @@
 import org.eclipse.jface.dialogs.MessageDialog;
 import org.eclipse.osgi.service.datalocation.Location;
 import org.eclipse.swt.widgets.Display;
-import org.knime.core.node.NodeLogger;
 
 /**
  * A class that provides a method for checking for an adding an exception to Windows Defender.
@@ -95,7 +94,7 @@ private static final class WindowsDefenderDetectedDialog extends MessageDialogWi
 
         private static final String TOGGLE_MESSAGE = "Do not ask again";
 
-        WindowsDefenderDetectedDialog(final Display display, final DelayedMessageLogger logger) {
+        WindowsDefenderDetectedDialog(final Display display, final EarlyStartupLogBuffer logger) {
             super(display, logger, MessageDialog.QUESTION,
                 new String[]{IDialogConstants.YES_LABEL, IDialogConstants.NO_LABEL}, TITLE, SUMMARY, TEXT, LINK, URL,
                 TOGGLE_MESSAGE);
@@ -115,7 +114,7 @@ public static WindowsDefenderExceptionHandler getInstance() {
     // the maximum amount of time (in seconds) until a PowerShell command times out
     private static final int COMMAND_TIMEOUT = 30;
 
-    private final DelayedMessageLogger m_logger = new DelayedMessageLogger();
+    private final EarlyStartupLogBuffer m_logger = new EarlyStartupLogBuffer(WindowsDefenderExceptionHandler.class);
 
     private WindowsDefenderExceptionHandler() {
         // singleton
@@ -159,7 +158,7 @@ public boolean checkForAndAddExceptionToWindowsDefender(final String configKey,
 
         } finally {
             // defer logging until the end of execution, since it will entail Windows Defender scanning org.knime.core
-            m_logger.logQueuedMessaged(NodeLogger.getLogger(WindowsDefenderExceptionHandler.class));
+            m_logger.replay();
         }
 
         return false;
@@ -280,7 +279,7 @@ private Optional<List<String>> executePowerShellCommand(final String command, fi
             commands.add(selectProperty);
         }
         m_logger.queueDebug("Executing PowerShell command");
-        m_logger.queueDebug(String.join(" ", commands));
+        m_logger.queueDebug(() -> String.join(" ", commands));
 
         return executePowerShellCommand(commands);
     }
@@ -293,7 +292,8 @@ private Optional<List<String>> executePowerShellCommand(final List<String> comma
         try {
             process = (new ProcessBuilder(commands)).start();
         } catch (IOException e) {
-            m_logger.queueError(String.format("I/O error occured while executing PowerShell command %s.", command), e);
+            m_logger.queueError(
+                () -> String.format("I/O error occured while executing PowerShell command %s.", command), e);
             return Optional.empty();
         }
 
@@ -308,12 +308,12 @@ private Optional<List<String>> executePowerShellCommand(final List<String> comma
 
         try {
             if (!process.waitFor(COMMAND_TIMEOUT, TimeUnit.SECONDS)) {
-                m_logger.queueError(String.format("PowerShell command %s timed out.", command));
+                m_logger.queueError(() -> String.format("PowerShell command %s timed out.", command), null);
                 process.destroyForcibly().waitFor();
             }
         } catch (InterruptedException e) {
             m_logger.queueError(
-                String.format("Thread was interrupted while waiting for PowerShell command %s.", command), e);
+                () -> String.format("Thread was interrupted while waiting for PowerShell command %s.", command), e);
             // interrupt thread, as otherwise the information that the thread was interrupted would be lost
             Thread.currentThread().interrupt();
             return Optional.empty();
@@ -322,7 +322,8 @@ private Optional<List<String>> executePowerShellCommand(final List<String> comma
         if (process.exitValue() == 0) {
             return Optional.of(stdoutRef);
         } else {
-            m_logger.queueError(String.format("PowerShell command %s did not terminate successfully.", command));
+            m_logger.queueError(
+                () -> String.format("PowerShell command %s did not terminate successfully.", command), null);
             final List<String> stdout = stdoutRef;
             final List<String> stderr = stderrRef;
             if (!stdout.isEmpty()) {
@@ -11,8 +11,13 @@
  *******************************************************************************/
 package org.knime.product.renderer;
 
-import java.lang.reflect.Field;
-import java.lang.reflect.Method;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.VarHandle;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
 
 import org.eclipse.e4.ui.css.swt.dom.CTabFolderElement;
 import org.eclipse.e4.ui.css.swt.dom.CompositeElement;
@@ -34,6 +39,7 @@
 import org.eclipse.swt.widgets.Control;
 import org.eclipse.swt.widgets.Display;
 import org.eclipse.swt.widgets.ToolBar;
+import org.knime.core.node.NodeLogger;
 import org.knime.core.util.ColorUtilities;
 
 import jakarta.inject.Inject;
@@ -59,6 +65,11 @@ public class KNIMECTabFolderRenderer extends CTabFolderRenderer implements
     final static int SIDE_DROP_WIDTH = 3;
     final static int BOTTOM_DROP_WIDTH = 4;
 
+    // shadow image constants
+    static final int SHADOW_SIZE = 60;
+    static final int SHADOW_BLUR_RADIUS = 5;
+    static final int SHADOW_BLUR_SIGMA = 25;
+
     // keylines
     final static int OUTER_KEYLINE = 1;
     final static int INNER_KEYLINE = 0;
@@ -104,6 +115,38 @@ public class KNIMECTabFolderRenderer extends CTabFolderRenderer implements
 
     private Color hotUnselectedTabsColorBackground;
 
+    // Resources and buffers reused across paints, disposed with the renderer
+    private int[] pointBuffer = new int[1024];
+
+    private final int[][] circleOffsets = new int[4][];
+
+    private int circleOffsetsRadius = -1;
+
+    private final CachedShape bodyShape = new CachedShape();
+
+    private final CachedShape selectedTabShape = new CachedShape();
+
+    private final CachedShape hotTabShape = new CachedShape();
+
+    private final int[] hotTabInactiveLines = new int[8];
+
+    private Region shapeRegion, bodyOutsideRegion, scratchRegion;
+
+    /** Regions for saving the clipping of a GC, a stack since rendering the shadow re-enters drawTabBody. */
+    private final Deque<Region> clippingRegions = new ArrayDeque<>();
+
+    private int[] shapeRegionSource, bodyOutsideRegionSource;
+
+    private Color hotTabBorderColor;
+
+    private Color inactiveTabTopColor;
+
+    private Color inactiveTabTopColorSource;
+
+    private Pattern inactiveTabTopPattern;
+
+    private int inactiveTabTopPatternHeight = -1;
+
     @Inject
     public KNIMECTabFolderRenderer (final CTabFolder parentTabFolder) {
         super(parentTabFolder);
@@ -220,9 +263,26 @@ protected Point computeSize(final int part, final int state, final GC gc, int wH
 
     @Override
     protected void dispose() {
-        if (shadowImage != null && !shadowImage.isDisposed()) {
-            shadowImage.dispose();
-            shadowImage = null;
+        // the shadow image is shared with other renderers and disposed with the display
+        shadowImage = null;
+        clippingRegions.forEach(KNIMECTabFolderRenderer::disposeRegion);
+        clippingRegions.clear();
+        disposeRegion(shapeRegion);
+        disposeRegion(bodyOutsideRegion);
+        disposeRegion(scratchRegion);
+        shapeRegion = bodyOutsideRegion = scratchRegion = null;
+        shapeRegionSource = bodyOutsideRegionSource = null;
+        if (inactiveTabTopPattern != null) {
+            inactiveTabTopPattern.dispose();
+            inactiveTabTopPattern = null;
+        }
+        if (inactiveTabTopColor != null) {
+            inactiveTabTopColor.dispose();
+            inactiveTabTopColor = null;
+        }
+        if (hotTabBorderColor != null) {
+            hotTabBorderColor.dispose();
+            hotTabBorderColor = null;
         }
         super.dispose();
     }
@@ -274,26 +334,18 @@ void drawTabHeader(final GC gc, final Rectangle bounds, final int state) {
         // parent.getTabHeight() + 1);
 
         boolean onBottom = parent.getTabPosition() == SWT.BOTTOM;
-        int[] points = new int[1024];
-        int index = 0;
-        int radius = cornerSize / 2;
-        int marginWidth = parent.marginWidth;
-        int marginHeight = parent.marginHeight;
-        int delta = INNER_KEYLINE + OUTER_KEYLINE + 2
-                * (shadowEnabled ? SIDE_DROP_WIDTH : 0) + 2 * marginWidth;
-        int width = bounds.width - delta;
-        int height = bounds.height - INNER_KEYLINE - OUTER_KEYLINE - 2
-                * marginHeight - (shadowEnabled ? BOTTOM_DROP_WIDTH : 0);
-        int circX = bounds.x + delta / 2 + radius;
-        int circY = bounds.y + radius;
 
         // Fill in background
-        Region clipping = new Region();
-        gc.getClipping(clipping);
-        Region region = new Region();
-        region.add(shape);
-        region.intersect(clipping);
-        gc.setClipping(region);
+        Region clippingRegion = saveClipping(gc);
+        if (shapeRegionSource != shape) {
+            shapeRegion = clearRegion(shapeRegion);
+            shapeRegion.add(shape);
+            shapeRegionSource = shape;
+        }
+        scratchRegion = clearRegion(scratchRegion);
+        scratchRegion.add(shapeRegion);
+        scratchRegion.intersect(clippingRegion);
+        gc.setClipping(scratchRegion);
 
         int header = shadowEnabled ? onBottom ? 6 : 3 : 1; // TODO: this needs
         // to be added to
@@ -311,33 +363,7 @@ void drawTabHeader(final GC gc, final Rectangle bounds, final int state) {
                 : -trim.y;
         draw(PART_BACKGROUND, SWT.NONE, trim, gc);
 
-        gc.setClipping(clipping);
-        clipping.dispose();
-        region.dispose();
-
-        int[] ltt = drawCircle(circX + 1, circY + 1, radius, LEFT_TOP);
-        System.arraycopy(ltt, 0, points, index, ltt.length);
-        index += ltt.length;
-
-        int[] lbb = drawCircle(circX + 1, circY + height - (radius * 2) - 2,
-                radius, LEFT_BOTTOM);
-        System.arraycopy(lbb, 0, points, index, lbb.length);
-        index += lbb.length;
-
-        int[] rb = drawCircle(circX + width - (radius * 2) - 2, circY + height
-                - (radius * 2) - 2, radius, RIGHT_BOTTOM);
-        System.arraycopy(rb, 0, points, index, rb.length);
-        index += rb.length;
-
-        int[] rt = drawCircle(circX + width - (radius * 2) - 2, circY + 1,
-                radius, RIGHT_TOP);
-        System.arraycopy(rt, 0, points, index, rt.length);
-        index += rt.length;
-        points[index++] = points[0];
-        points[index++] = points[1];
-
-        int[] tempPoints = new int[index];
-        System.arraycopy(points, 0, tempPoints, 0, index);
+        restoreClipping(gc, clippingRegion);
 
         if (outerKeyline == null) {
             outerKeyline = gc.getDevice().getSystemColor(SWT.COLOR_BLACK);
@@ -347,8 +373,6 @@ void drawTabHeader(final GC gc, final Rectangle bounds, final int state) {
     }
 
     void drawTabBody(final GC gc, final Rectangle bounds, final int state) {
-        int[] points = new int[1024];
-        int index = 0;
         int radius = cornerSize / 2;
         int marginWidth = parent.marginWidth;
         int marginHeight = parent.marginHeight;
@@ -365,42 +389,36 @@ void drawTabBody(final GC gc, final Rectangle bounds, final int state) {
         int circY = bounds.y + radius;
 
         // Body
-        index = 0;
-        int[] ltt = drawCircle(circX, circY, radius, LEFT_TOP);
-        System.arraycopy(ltt, 0, points, index, ltt.length);
-        index += ltt.length;
-
-        int[] lbb = drawCircle(circX, circY + height - (radius * 2), radius,
-                LEFT_BOTTOM);
-        System.arraycopy(lbb, 0, points, index, lbb.length);
-        index += lbb.length;
-
-        int[] rb = drawCircle(circX + width - (radius * 2), circY + height
-                - (radius * 2), radius, RIGHT_BOTTOM);
-        System.arraycopy(rb, 0, points, index, rb.length);
-        index += rb.length;
-
-        int[] rt = drawCircle(circX + width - (radius * 2), circY, radius,
-                RIGHT_TOP);
-        System.arraycopy(rt, 0, points, index, rt.length);
-        index += rt.length;
-        points[index++] = circX;
-        points[index++] = circY - radius;
-
-        int[] tempPoints = new int[index];
-        System.arraycopy(points, 0, tempPoints, 0, index);
+        if (bodyShape.begin().key(bounds.x).key(bounds.y).key(bounds.width).key(bounds.height).key(delta)
+                .key(width).key(height).key(radius).isStale()) {
+            int index = 0;
+            index = addCircle(index, circX, circY, radius, LEFT_TOP, false);
+            index = addCircle(index, circX, circY + height - (radius * 2),
+                    radius, LEFT_BOTTOM, false);
+            index = addCircle(index, circX + width - (radius * 2), circY
+                    + height - (radius * 2), radius, RIGHT_BOTTOM, false);
+            index = addCircle(index, circX + width - (radius * 2), circY,
+                    radius, RIGHT_TOP, false);
+            index = addPoint(index, circX, circY - radius);
+            bodyShape.store(pointBuffer, index);
+        }
+        int[] tempPoints = bodyShape.points;
         gc.fillPolygon(tempPoints);
 
         // Fill in parent background for non-rectangular shape
-        Region r = new Region();
-        r.add(bounds);
-        r.subtract(tempPoints);
+        if (bodyOutsideRegionSource != tempPoints) {
+            bodyOutsideRegion = clearRegion(bodyOutsideRegion);
+            bodyOutsideRegion.add(bounds);
+            bodyOutsideRegion.subtract(tempPoints);
+            bodyOutsideRegionSource = tempPoints;
+        }
         gc.setBackground(parent.getParent().getBackground());
         Display display = parent.getDisplay();
-        Region clipping = new Region();
-        gc.getClipping(clipping);
-        r.intersect(clipping);
-        gc.setClipping(r);
+        Region clippingRegion = saveClipping(gc);
+        scratchRegion = clearRegion(scratchRegion);
+        scratchRegion.add(bodyOutsideRegion);
+        scratchRegion.intersect(clippingRegion);
+        gc.setClipping(scratchRegion);
         Rectangle mappedBounds = display
                 .map(parent, parent.getParent(), bounds);
         parent.getParent().drawBackground(gc, bounds.x, bounds.y, bounds.width,
@@ -411,9 +429,7 @@ void drawTabBody(final GC gc, final Rectangle bounds, final int state) {
             drawShadow(display, bounds, gc);
         }
 
-        gc.setClipping(clipping);
-        clipping.dispose();
-        r.dispose();
+        restoreClipping(gc, clippingRegion);
 
         // Remember for use in header drawing
         shape = tempPoints;
@@ -426,98 +442,38 @@ void drawSelectedTab(final int itemIndex, final GC gc, final Rectangle bounds, f
 
         boolean onBottom = parent.getTabPosition() == SWT.BOTTOM;
         int header = shadowEnabled ? 2 : 0;
-        int width = bounds.width;
-        int[] points = new int[1024];
-        int index = 0;
-//        int radius = cornerSize / 2;
-//        int circX = bounds.x + radius;
-//        int circY = onBottom ? bounds.y + bounds.height + 1 - header - radius
-//                : bounds.y - 1 + radius;
-        int selectionX1, selectionY1, selectionX2, selectionY2;
+        int parentWidth = parent.getSize().x;
         int bottomY = onBottom ? bounds.y - header : bounds.y + bounds.height;
-        if (itemIndex == 0
-                && bounds.x == -computeTrim(CTabFolderRenderer.PART_HEADER,
-                        SWT.NONE, 0, 0, 0, 0).x) {
-//            circX -= 1;
-//            points[index++] = circX - radius;
-            points[index++] = bounds.x;
-            points[index++] = bottomY;
-
-            //            points[index++] = selectionX1 = circX - radius;
-            points[index++] = selectionX1 = bounds.x;
-            points[index++] = selectionY1 = bottomY;
-        } else {
-            if (active) {
-                points[index++] = shadowEnabled ? SIDE_DROP_WIDTH : 0
-                        + INNER_KEYLINE + OUTER_KEYLINE;
-                points[index++] = bottomY;
-            }
-            points[index++] = selectionX1 = bounds.x;
-            points[index++] = selectionY1 = bottomY;
-        }
-
-        points[index++] = bounds.x;
-        points[index++] = bounds.y;
-
-        points[index++] = bounds.x + bounds.width;
-        points[index++] = bounds.y;
-
+        int selectionX1 = bounds.x, selectionY1 = bottomY;
+        int selectionX2 = bounds.width + bounds.x, selectionY2 = bounds.y + bounds.height;
         int startX = bounds.x, endX = bounds.x + bounds.width;
-//        int startX = -1, endX = -1;
-//        if (!onBottom) {
-//            int[] ltt = drawCircle(circX, circY, radius, LEFT_TOP);
-//            startX = ltt[6];
-//            for (int i = 0; i < ltt.length / 2; i += 2) {
-//                int tmp = ltt[i];
-//                ltt[i] = ltt[ltt.length - i - 2];
-//                ltt[ltt.length - i - 2] = tmp;
-//                tmp = ltt[i + 1];
-//                ltt[i + 1] = ltt[ltt.length - i - 1];
-//                ltt[ltt.length - i - 1] = tmp;
-//            }
-//            System.arraycopy(ltt, 0, points, index, ltt.length);
-//            index += ltt.length;
-
-//            int[] rt = drawCircle(circX + width - (radius * 2), circY, radius,
-//                    RIGHT_TOP);
-//            endX = rt[rt.length - 4];
-//            for (int i = 0; i < rt.length / 2; i += 2) {
-//                int tmp = rt[i];
-//                rt[i] = rt[rt.length - i - 2];
-//                rt[rt.length - i - 2] = tmp;
-//                tmp = rt[i + 1];
-//                rt[i + 1] = rt[rt.length - i - 1];
-//                rt[rt.length - i - 1] = tmp;
-//            }
-//            System.arraycopy(rt, 0, points, index, rt.length);
-//            index += rt.length;
-//
-            points[index++] = selectionX2 = bounds.width + bounds.x;
-            points[index++] = selectionY2 = bounds.y + bounds.height;
-//        } else {
-//            int[] ltt = drawCircle(circX, circY, radius, LEFT_BOTTOM);
-//            startX = ltt[6];
-//            System.arraycopy(ltt, 0, points, index, ltt.length);
-//            index += ltt.length;
-//
-//            int[] rt = drawCircle(circX + width - (radius * 2), circY, radius,
-//                    RIGHT_BOTTOM);
-//            endX = rt[rt.length - 4];
-//            System.arraycopy(rt, 0, points, index, rt.length);
-//            index += rt.length;
-//
-//            points[index++] = selectionX2 = bounds.width + circX - radius;
-//            points[index++] = selectionY2 = bottomY;
-//        }
 
-        if (active) {
-            points[index++] = parent.getSize().x
-                    - (shadowEnabled ? SIDE_DROP_WIDTH : 0 + INNER_KEYLINE
-                            + OUTER_KEYLINE);
-            points[index++] = bottomY;
+        // same as bounds.x == -computeTrim(PART_HEADER, SWT.NONE, 0, 0, 0, 0).x
+        boolean first = itemIndex == 0
+                && bounds.x == INNER_KEYLINE + OUTER_KEYLINE + (shadowEnabled ? SIDE_DROP_WIDTH : 0);
+        if (selectedTabShape.begin().key(bounds.x).key(bounds.y).key(bounds.width).key(bounds.height)
+                .key(first ? 1 : 0).key(active ? 1 : 0).key(onBottom ? 1 : 0).key(shadowEnabled ? 1 : 0)
+                .key(parentWidth).isStale()) {
+            int index = 0;
+            if (first) {
+                index = addPoint(index, bounds.x, bottomY);
+            } else if (active) {
+                index = addPoint(index, shadowEnabled ? SIDE_DROP_WIDTH : 0
+                        + INNER_KEYLINE + OUTER_KEYLINE, bottomY);
+            }
+            index = addPoint(index, selectionX1, selectionY1);
+            index = addPoint(index, bounds.x, bounds.y);
+            index = addPoint(index, bounds.x + bounds.width, bounds.y);
+            index = addPoint(index, selectionX2, selectionY2);
+            if (active) {
+                index = addPoint(index, parentWidth
+                        - (shadowEnabled ? SIDE_DROP_WIDTH : 0 + INNER_KEYLINE
+                                + OUTER_KEYLINE), bottomY);
+            }
+            selectedTabShape.store(pointBuffer, index);
         }
         gc.setClipping(0, onBottom ? bounds.y - header : bounds.y,
-                parent.getSize().x
+                parentWidth
                 - (shadowEnabled ? SIDE_DROP_WIDTH : 0 + INNER_KEYLINE
                         + OUTER_KEYLINE), bounds.y + bounds.height);// bounds.height
         // +
@@ -538,25 +494,15 @@ void drawSelectedTab(final int itemIndex, final GC gc, final Rectangle bounds, f
 //            gc.setBackgroundPattern(backgroundPattern);
 //            gc.setForeground(selectedTabFillColors[1]);
 //        }
-        int[] tmpPoints = new int[index];
-        System.arraycopy(points, 0, tmpPoints, 0, index);
+        int[] tmpPoints = selectedTabShape.points;
         gc.fillPolygon(tmpPoints);
         gc.drawLine(selectionX1, selectionY1, selectionX2, selectionY2);
         if (tabOutlineColor == null) {
             tabOutlineColor = gc.getDevice().getSystemColor(SWT.COLOR_BLACK);
         }
         gc.setForeground(tabOutlineColor);
-        Color gradientLineTop = null;
-        Pattern foregroundPattern = null;
         if (!active && !onBottom) {
-            RGB blendColor = gc.getDevice()
-                    .getSystemColor(SWT.COLOR_WIDGET_LIGHT_SHADOW).getRGB();
-            RGB topGradient = ColorUtilities.blend(blendColor, tabOutlineColor.getRGB(), 40);
-            gradientLineTop = new Color(gc.getDevice(), topGradient);
-            foregroundPattern = new Pattern(gc.getDevice(), 0, 0, 0,
-                    bounds.height + 1, gradientLineTop, gc.getDevice()
-                    .getSystemColor(SWT.COLOR_WHITE));
-            gc.setForegroundPattern(foregroundPattern);
+            gc.setForegroundPattern(getInactiveTabTopPattern(gc, bounds.height));
         }
         gc.drawPolyline(tmpPoints);
         Rectangle rect = null;
@@ -577,12 +523,35 @@ void drawSelectedTab(final int itemIndex, final GC gc, final Rectangle bounds, f
         if (backgroundPattern != null) {
             backgroundPattern.dispose();
         }
-        if (gradientLineTop != null) {
-            gradientLineTop.dispose();
+    }
+
+    /**
+     * The pattern for the outline of the selected tab in an inactive folder, only recreated if the outline color or
+     * the tab height changes.
+     */
+    private Pattern getInactiveTabTopPattern(final GC gc, final int height) {
+        if (inactiveTabTopColor == null || tabOutlineColor != inactiveTabTopColorSource) {
+            RGB blendColor = gc.getDevice()
+                    .getSystemColor(SWT.COLOR_WIDGET_LIGHT_SHADOW).getRGB();
+            RGB topGradient = ColorUtilities.blend(blendColor, tabOutlineColor.getRGB(), 40);
+            if (inactiveTabTopColor != null) {
+                inactiveTabTopColor.dispose();
+            }
+            inactiveTabTopColor = new Color(gc.getDevice(), topGradient);
+            inactiveTabTopColorSource = tabOutlineColor;
+            inactiveTabTopPatternHeight = -1;
         }
-        if (foregroundPattern != null) {
-            foregroundPattern.dispose();
+        if (inactiveTabTopPattern == null || inactiveTabTopPattern.isDisposed()
+                || inactiveTabTopPatternHeight != height) {
+            if (inactiveTabTopPattern != null) {
+                inactiveTabTopPattern.dispose();
+            }
+            inactiveTabTopPattern = new Pattern(gc.getDevice(), 0, 0, 0,
+                    height + 1, inactiveTabTopColor, gc.getDevice()
+                    .getSystemColor(SWT.COLOR_WHITE));
+            inactiveTabTopPatternHeight = height;
         }
+        return inactiveTabTopPattern;
     }
 
     void drawUnselectedTab(final int itemIndex, final GC gc, final Rectangle bounds, final int state) {
@@ -590,9 +559,7 @@ void drawUnselectedTab(final int itemIndex, final GC gc, final Rectangle bounds,
             int header = shadowEnabled ? 2 : 0;
             int width = bounds.width;
             boolean onBottom = parent.getTabPosition() == SWT.BOTTOM;
-            int[] points = new int[1024];
-            int[] inactive = new int[8];
-            int index = 0, inactive_index = 0;
+            int[] inactive = hotTabInactiveLines;
             int radius = cornerSize / 2;
             int circX = bounds.x + radius;
             int circY = onBottom ? bounds.y + bounds.height + 1 - header
@@ -601,91 +568,56 @@ void drawUnselectedTab(final int itemIndex, final GC gc, final Rectangle bounds,
                     + bounds.height;
 
             int leftIndex = circX;
-            if (itemIndex == 0) {
-                if (parent.getSelectionIndex() != 0) {
-                    leftIndex -= 1;
-                }
-                points[index++] = leftIndex - radius;
-                points[index++] = bottomY;
-            } else {
-                points[index++] = bounds.x;
-                points[index++] = bottomY;
+            if (itemIndex == 0 && parent.getSelectionIndex() != 0) {
+                leftIndex -= 1;
             }
-
-            if (!active) {
-                System.arraycopy(points, 0, inactive, 0, index);
-                inactive_index += 2;
-            }
-
             int rightIndex = circX - 1;
-            if (!onBottom) {
-                int[] ltt = drawCircle(leftIndex, circY, radius, LEFT_TOP);
-                for (int i = 0; i < ltt.length / 2; i += 2) {
-                    int tmp = ltt[i];
-                    ltt[i] = ltt[ltt.length - i - 2];
-                    ltt[ltt.length - i - 2] = tmp;
-                    tmp = ltt[i + 1];
-                    ltt[i + 1] = ltt[ltt.length - i - 1];
-                    ltt[ltt.length - i - 1] = tmp;
+
+            if (hotTabShape.begin().key(bounds.x).key(bounds.y).key(bounds.width).key(bounds.height)
+                    .key(itemIndex == 0 ? 1 : 0).key(leftIndex).key(radius).key(active ? 1 : 0)
+                    .key(onBottom ? 1 : 0).key(header).isStale()) {
+                int index = 0, inactive_index = 0;
+                if (itemIndex == 0) {
+                    index = addPoint(index, leftIndex - radius, bottomY);
+                } else {
+                    index = addPoint(index, bounds.x, bottomY);
                 }
-                System.arraycopy(ltt, 0, points, index, ltt.length);
-                index += ltt.length;
 
                 if (!active) {
-                    System.arraycopy(ltt, 0, inactive, inactive_index, 2);
+                    System.arraycopy(pointBuffer, 0, inactive, 0, index);
                     inactive_index += 2;
                 }
 
-                int[] rt = drawCircle(rightIndex + width - (radius * 2), circY,
-                        radius, RIGHT_TOP);
-                for (int i = 0; i < rt.length / 2; i += 2) {
-                    int tmp = rt[i];
-                    rt[i] = rt[rt.length - i - 2];
-                    rt[rt.length - i - 2] = tmp;
-                    tmp = rt[i + 1];
-                    rt[i + 1] = rt[rt.length - i - 1];
-                    rt[rt.length - i - 1] = tmp;
+                int ltt = index;
+                if (!onBottom) {
+                    index = addCircle(index, leftIndex, circY, radius, LEFT_TOP, true);
+                    index = addCircle(index, rightIndex + width - (radius * 2), circY,
+                            radius, RIGHT_TOP, true);
+                } else {
+                    index = addCircle(index, leftIndex, circY, radius, LEFT_BOTTOM, false);
+                    index = addCircle(index, rightIndex + width - (radius * 2), circY,
+                            radius, RIGHT_BOTTOM, false);
                 }
-                System.arraycopy(rt, 0, points, index, rt.length);
-                index += rt.length;
                 if (!active) {
-                    System.arraycopy(rt, rt.length - 4, inactive,
+                    System.arraycopy(pointBuffer, ltt, inactive, inactive_index, 2);
+                    inactive_index += 2;
+                    System.arraycopy(pointBuffer, index - 4, inactive,
                             inactive_index, 2);
                     inactive[inactive_index] -= 1;
                     inactive_index += 2;
                 }
-            } else {
-                int[] ltt = drawCircle(leftIndex, circY, radius, LEFT_BOTTOM);
-                System.arraycopy(ltt, 0, points, index, ltt.length);
-                index += ltt.length;
 
-                if (!active) {
-                    System.arraycopy(ltt, 0, inactive, inactive_index, 2);
-                    inactive_index += 2;
-                }
+                index = addPoint(index, bounds.width + rightIndex - radius, bottomY);
 
-                int[] rt = drawCircle(rightIndex + width - (radius * 2), circY,
-                        radius, RIGHT_BOTTOM);
-                System.arraycopy(rt, 0, points, index, rt.length);
-                index += rt.length;
                 if (!active) {
-                    System.arraycopy(rt, rt.length - 4, inactive,
-                            inactive_index, 2);
+                    System.arraycopy(pointBuffer, index - 2, inactive, inactive_index, 2);
                     inactive[inactive_index] -= 1;
                     inactive_index += 2;
                 }
-
-            }
-
-            points[index++] = bounds.width + rightIndex - radius;
-            points[index++] = bottomY;
-
-            if (!active) {
-                System.arraycopy(points, index - 2, inactive, inactive_index, 2);
-                inactive[inactive_index] -= 1;
-                inactive_index += 2;
+                hotTabShape.store(pointBuffer, index);
             }
-            gc.setClipping(points[0], onBottom ? bounds.y - header : bounds.y,
+            int[] tmpPoints = hotTabShape.points;
+            gc.setClipping(tmpPoints[0], onBottom ? bounds.y - header : bounds.y,
                     parent.getSize().x
                     - (shadowEnabled ? SIDE_DROP_WIDTH : 0
                             + INNER_KEYLINE + OUTER_KEYLINE), bounds.y
@@ -698,12 +630,11 @@ void drawUnselectedTab(final int itemIndex, final GC gc, final Rectangle bounds,
                 color = gc.getDevice().getSystemColor(SWT.COLOR_WHITE);
             }
             gc.setBackground(color);
-            int[] tmpPoints = new int[index];
-            System.arraycopy(points, 0, tmpPoints, 0, index);
             gc.fillPolygon(tmpPoints);
-            Color tempBorder = new Color(gc.getDevice(), 182, 188, 204);
-            gc.setForeground(tempBorder);
-            tempBorder.dispose();
+            if (hotTabBorderColor == null) {
+                hotTabBorderColor = new Color(gc.getDevice(), 182, 188, 204);
+            }
+            gc.setForeground(hotTabBorderColor);
             if (active) {
                 gc.drawPolyline(tmpPoints);
             } else {
@@ -796,8 +727,85 @@ static int[] drawCircle(final int xC, final int yC, final int r, final int circl
         return finalArray;
     }
 
+    /**
+     * Appends a point to the reused point buffer.
+     *
+     * @return the index after the point
+     */
+    private int addPoint(final int index, final int x, final int y) {
+        ensurePointBuffer(index + 2);
+        pointBuffer[index] = x;
+        pointBuffer[index + 1] = y;
+        return index + 2;
+    }
+
+    /**
+     * Appends the points of {@link #drawCircle(int, int, int, int)} to the reused point buffer. The points relative to
+     * the center are only computed once per radius.
+     *
+     * @param reverse whether to append the points in reverse order
+     * @return the index after the points
+     */
+    private int addCircle(final int index, final int xC, final int yC, final int r, final int circlePart,
+            final boolean reverse) {
+        if (circleOffsetsRadius != r) {
+            Arrays.fill(circleOffsets, null);
+            circleOffsetsRadius = r;
+        }
+        int[] offsets = circleOffsets[circlePart];
+        if (offsets == null) {
+            offsets = circleOffsets[circlePart] = drawCircle(0, 0, r, circlePart);
+        }
+        ensurePointBuffer(index + offsets.length);
+        for (int i = 0; i < offsets.length; i += 2) {
+            int j = reverse ? offsets.length - i - 2 : i;
+            pointBuffer[index + i] = xC + offsets[j];
+            pointBuffer[index + i + 1] = yC + offsets[j + 1];
+        }
+        return index + offsets.length;
+    }
+
+    private void ensurePointBuffer(final int length) {
+        if (pointBuffer.length < length) {
+            pointBuffer = Arrays.copyOf(pointBuffer, Math.max(length, pointBuffer.length * 2));
+        }
+    }
+
+    /**
+     * @return a region holding the current clipping of the GC, to be passed to {@link #restoreClipping(GC, Region)}
+     */
+    private Region saveClipping(final GC gc) {
+        Region region = reuseRegion(clippingRegions.poll());
+        gc.getClipping(region);
+        return region;
+    }
+
+    private void restoreClipping(final GC gc, final Region region) {
+        gc.setClipping(region);
+        clippingRegions.push(region);
+    }
+
+    private Region reuseRegion(final Region region) {
+        return region == null || region.isDisposed() ? new Region(parent.getDisplay()) : region;
+    }
+
+    /**
+     * @return the given region emptied, or a new one if there is none yet
+     */
+    private Region clearRegion(final Region region) {
+        Region r = reuseRegion(region);
+        r.intersect(0, 0, 0, 0);
+        return r;
+    }
+
+    private static void disposeRegion(final Region region) {
+        if (region != null && !region.isDisposed()) {
+            region.dispose();
+        }
+    }
+
     void drawShadow(final Display display, final Rectangle bounds, final GC gc) {
-        if (shadowImage == null) {
+        if (shadowImage == null || shadowImage.isDisposed()) {
             createShadow(display);
         }
         int x = bounds.x;
@@ -854,147 +862,39 @@ void drawShadow(final Display display, final Rectangle bounds, final GC gc) {
                 + width - SIZE - 1, xFill + SIZE, SIZE, fillHeight - xFill);
     }
 
+    /**
+     * The values a shadow image is computed from.
+     */
+    private record ShadowKey(int size, int radius, int sigma, RGB color, RGB background, int cornerSize,
+            int marginWidth, int marginHeight, int tabHeight, boolean shadowEnabled) {
+    }
+
     void createShadow(final Display display) {
-        if (shadowImage != null) {
-            shadowImage.dispose();
-            shadowImage = null;
+        if (shadowColor == null) {
+            shadowColor = display.getSystemColor(SWT.COLOR_GRAY);
         }
+        ShadowKey key = new ShadowKey(SHADOW_SIZE, SHADOW_BLUR_RADIUS, SHADOW_BLUR_SIGMA, shadowColor.getRGB(),
+                parent.getParent().getBackground().getRGB(), cornerSize, parent.marginWidth, parent.marginHeight,
+                parent.getTabHeight(), shadowEnabled);
+        shadowImage = ShadowImageCache.get(display, key, () -> renderShadow(display));
+    }
 
-        final ImageData data = new ImageData(60, 60, 32, new PaletteData(0xFF0000, 0xFF00, 0xFF));
+    private Image renderShadow(final Display display) {
+        final ImageData data = new ImageData(SHADOW_SIZE, SHADOW_SIZE, 32, new PaletteData(0xFF0000, 0xFF00, 0xFF));
         final Image tmpImage = shadowImage = new Image(display, data);
         final GC gc = new GC(tmpImage);
-        if (shadowColor == null) {
-            shadowColor = gc.getDevice().getSystemColor(SWT.COLOR_GRAY);
-        }
         gc.setBackground(shadowColor);
-        drawTabBody(gc, new Rectangle(0, 0, 60, 60), SWT.None);
+        drawTabBody(gc, new Rectangle(0, 0, SHADOW_SIZE, SHADOW_SIZE), SWT.None);
 
-        final ImageData blurred = blur(tmpImage, 5, 25);
-        shadowImage = new Image(display, blurred);
+        final ImageData blurred = blur(tmpImage, SHADOW_BLUR_RADIUS, SHADOW_BLUR_SIGMA);
+        shadowImage = null;
         tmpImage.dispose();
         gc.dispose();
+        return new Image(display, blurred);
     }
 
     public ImageData blur(final Image src, final int radius, final int sigma) {
-        float[] kernel = create1DKernel(radius, sigma);
-
-        ImageData imgPixels = src.getImageData();
-        int width = imgPixels.width;
-        int height = imgPixels.height;
-
-        int[] inPixels = new int[width * height];
-        int[] outPixels = new int[width * height];
-        int offset = 0;
-        for (int y = 0; y < height; y++) {
-            for (int x = 0; x < width; x++) {
-                RGB rgb = imgPixels.palette.getRGB(imgPixels.getPixel(x, y));
-                if (rgb.red == 255 && rgb.green == 255 && rgb.blue == 255) {
-                    inPixels[offset] = (rgb.red << 16) | (rgb.green << 8)
-                            | rgb.blue;
-                } else {
-                    inPixels[offset] = (imgPixels.getAlpha(x, y) << 24)
-                            | (rgb.red << 16) | (rgb.green << 8) | rgb.blue;
-                }
-                offset++;
-            }
-        }
-
-        convolve(kernel, inPixels, outPixels, width, height, true);
-        convolve(kernel, outPixels, inPixels, height, width, true);
-
-        ImageData dst = new ImageData(imgPixels.width, imgPixels.height, 24,
-                new PaletteData(0xff0000, 0xff00, 0xff));
-
-        dst.setPixels(0, 0, inPixels.length, inPixels, 0);
-        offset = 0;
-        for (int y = 0; y < height; y++) {
-            for (int x = 0; x < width; x++) {
-                if (inPixels[offset] == -1) {
-                    dst.setAlpha(x, y, 0);
-                } else {
-                    int a = (inPixels[offset] >> 24) & 0xff;
-                    // if (a < 150) a = 0;
-                    dst.setAlpha(x, y, a);
-                }
-                offset++;
-            }
-        }
-        return dst;
-    }
-
-    private void convolve(final float[] kernel, final int[] inPixels, final int[] outPixels,
-            final int width, final int height, final boolean alpha) {
-        int kernelWidth = kernel.length;
-        int kernelMid = kernelWidth / 2;
-        for (int y = 0; y < height; y++) {
-            int index = y;
-            int currentLine = y * width;
-            for (int x = 0; x < width; x++) {
-                // do point
-                float a = 0, r = 0, g = 0, b = 0;
-                for (int k = -kernelMid; k <= kernelMid; k++) {
-                    float val = kernel[k + kernelMid];
-                    int xcoord = x + k;
-                    if (xcoord < 0) {
-                        xcoord = 0;
-                    }
-                    if (xcoord >= width) {
-                        xcoord = width - 1;
-                    }
-                    int pixel = inPixels[currentLine + xcoord];
-                    // float alp = ((pixel >> 24) & 0xff);
-                    a += val * ((pixel >> 24) & 0xff);
-                    r += val * (((pixel >> 16) & 0xff));
-                    g += val * (((pixel >> 8) & 0xff));
-                    b += val * (((pixel) & 0xff));
-                }
-                int ia = alpha ? clamp((int) (a + 0.5)) : 0xff;
-                int ir = clamp((int) (r + 0.5));
-                int ig = clamp((int) (g + 0.5));
-                int ib = clamp((int) (b + 0.5));
-                outPixels[index] = (ia << 24) | (ir << 16) | (ig << 8) | ib;
-                index += height;
-            }
-        }
-
-    }
-
-    private int clamp(final int value) {
-        if (value > 255) {
-            return 255;
-        }
-        if (value < 0) {
-            return 0;
-        }
-        return value;
-    }
-
-    private float[] create1DKernel(final int radius, final int sigma) {
-        // guideline: 3*sigma should be the radius
-        int size = radius * 2 + 1;
-        float[] kernel = new float[size];
-        int radiusSquare = radius * radius;
-        float sigmaSquare = 2 * sigma * sigma;
-        float piSigma = 2 * (float) Math.PI * sigma;
-        float sqrtSigmaPi2 = (float) Math.sqrt(piSigma);
-        int start = size / 2;
-        int index = 0;
-        float total = 0;
-        for (int i = -start; i <= start; i++) {
-            float d = i * i;
-            if (d > radiusSquare) {
-                kernel[index] = 0;
-            } else {
-                kernel[index] = (float) Math.exp(-(d) / sigmaSquare)
-                        / sqrtSigmaPi2;
-            }
-            total += kernel[index];
-            index++;
-        }
-        for (int i = 0; i < size; i++) {
-            kernel[i] /= total;
-        }
-        return kernel;
+        return ShadowBlur.blur(src.getImageData(), radius, sigma);
     }
 
     public Rectangle getPadding() {
@@ -1196,154 +1096,154 @@ private void drawChildBackground(final Composite composite,
         CTabFolderElement.setBackgroundOverriddenDuringRenderering(composite, background);
     }
 
-    private static class CTabFolderRendererWrapper extends
-    ReflectionSupport<CTabFolderRenderer> {
-        private Method drawBackgroundMethod;
+    /**
+     * A polygon that is only recomputed if one of the values it depends on has changed. Usage:
+     * {@code if (shape.begin().key(a).key(b).isStale()) { ...; shape.store(buffer, length); }}, a stale shape must be
+     * stored before it is used again.
+     */
+    private static final class CachedShape {
+        private static final int MAX_KEYS = 16;
+
+        private final int[] keys = new int[MAX_KEYS];
+
+        private int keyCount = -1;
+
+        private int cursor;
+
+        private boolean stale;
+
+        /** The polygon, a new array whenever it has been recomputed. */
+        int[] points;
+
+        CachedShape begin() {
+            cursor = 0;
+            stale = keyCount < 0;
+            return this;
+        }
+
+        CachedShape key(final int value) {
+            if (keys[cursor] != value) {
+                stale = true;
+                keys[cursor] = value;
+            }
+            cursor++;
+            return this;
+        }
+
+        boolean isStale() {
+            return stale || cursor != keyCount;
+        }
+
+        void store(final int[] buffer, final int length) {
+            points = Arrays.copyOf(buffer, length);
+            keyCount = cursor;
+        }
+    }
+
+    private static class CTabFolderRendererWrapper {
+        private static final MethodHandle DRAW_BACKGROUND = SWTInternals.findMethod(CTabFolderRenderer.class,
+                "drawBackground", //$NON-NLS-1$
+                MethodType.methodType(void.class, GC.class, int[].class, int.class, int.class, int.class, int.class,
+                        Color.class, Image.class, Color[].class, int[].class, boolean.class));
+
+        private final CTabFolderRenderer instance;
 
         public CTabFolderRendererWrapper(final CTabFolderRenderer instance) {
-            super(instance);
+            this.instance = instance;
         }
 
         public void drawBackground(final GC gc, final int x, final int y, final int width, final int height,
                 final Color defaultBackground, final Color[] colors, final int[] percents,
                 final boolean vertical) {
-            if (drawBackgroundMethod == null) {
-                drawBackgroundMethod = getMethod("drawBackground", //$NON-NLS-1$
-                        new Class<?>[] { GC.class, int[].class, int.class,
-                        int.class, int.class, int.class, Color.class,
-                        Image.class, Color[].class, int[].class,
-                        boolean.class });
+            if (DRAW_BACKGROUND == null) {
+                return;
+            }
+            try {
+                DRAW_BACKGROUND.invokeExact(instance, gc, (int[]) null, x, y, width, height, defaultBackground,
+                        (Image) null, colors, percents, vertical);
+            } catch (Error e) {
+                throw e;
+            } catch (Throwable e) { // NOSONAR painting the background is best effort
+                // do nothing
             }
-            executeMethod(drawBackgroundMethod, new Object[] { gc, null, x, y,
-                    width, height, defaultBackground, null, colors, percents,
-                    vertical });
         }
     }
 
-    private static class CTabFolderWrapper extends
-    ReflectionSupport<CTabFolder> {
-        private Field selectionGradientVerticalField;
+    private static class CTabFolderWrapper {
+        private static final VarHandle SELECTION_GRADIENT_VERTICAL =
+                SWTInternals.findField(CTabFolder.class, "selectionGradientVertical", boolean.class); //$NON-NLS-1$
 
-        private Field gradientVerticalField;
+        private static final VarHandle GRADIENT_VERTICAL =
+                SWTInternals.findField(CTabFolder.class, "gradientVertical", boolean.class); //$NON-NLS-1$
 
-        private Field selectionGradientColorsField;
+        private static final VarHandle SELECTION_GRADIENT_PERCENTS =
+                SWTInternals.findField(CTabFolder.class, "selectionGradientPercents", int[].class); //$NON-NLS-1$
 
-        private Field selectionGradientPercentsField;
+        private static final VarHandle GRADIENT_COLORS =
+                SWTInternals.findField(CTabFolder.class, "gradientColors", Color[].class); //$NON-NLS-1$
 
-        private Field gradientColorsField;
+        private static final VarHandle GRADIENT_PERCENTS =
+                SWTInternals.findField(CTabFolder.class, "gradientPercents", int[].class); //$NON-NLS-1$
 
-        private Field gradientPercentsField;
+        private final CTabFolder instance;
 
         public CTabFolderWrapper(final CTabFolder instance) {
-            super(instance);
+            this.instance = instance;
         }
 
         public boolean isSelectionGradientVertical() {
-            if (selectionGradientVerticalField == null) {
-                selectionGradientVerticalField = getField("selectionGradientVertical"); //$NON-NLS-1$
-            }
-            Boolean result = (Boolean) getFieldValue(selectionGradientVerticalField);
-            return result != null ? result : true;
+            return SELECTION_GRADIENT_VERTICAL == null || (boolean) SELECTION_GRADIENT_VERTICAL.get(instance);
         }
 
         public boolean isGradientVertical() {
-            if (gradientVerticalField == null) {
-                gradientVerticalField = getField("gradientVertical"); //$NON-NLS-1$
-            }
-            Boolean result = (Boolean) getFieldValue(gradientVerticalField);
-            return result != null ? result : true;
+            return GRADIENT_VERTICAL == null || (boolean) GRADIENT_VERTICAL.get(instance);
         }
 
         public Color[] getSelectionGradientColors() {
-            if (selectionGradientColorsField == null) {
-                selectionGradientColorsField = getField("selectionGradientColorsField"); //$NON-NLS-1$
-            }
-            return (Color[]) getFieldValue(selectionGradientColorsField);
+            // the colors have always been looked up under the non-existent field "selectionGradientColorsField", so
+            // selected tabs are drawn with the fallback colors, reading the actual field would change their look
+            return null;
         }
 
         public int[] getSelectionGradientPercents() {
-            if (selectionGradientPercentsField == null) {
-                selectionGradientPercentsField = getField("selectionGradientPercents"); //$NON-NLS-1$
-            }
-            return (int[]) getFieldValue(selectionGradientPercentsField);
+            return SELECTION_GRADIENT_PERCENTS == null ? null : (int[]) SELECTION_GRADIENT_PERCENTS.get(instance);
         }
 
         public Color[] getGradientColors() {
-            if (gradientColorsField == null) {
-                gradientColorsField = getField("gradientColors"); //$NON-NLS-1$
-            }
-            return (Color[]) getFieldValue(gradientColorsField);
+            return GRADIENT_COLORS == null ? null : (Color[]) GRADIENT_COLORS.get(instance);
         }
 
         public int[] getGradientPercents() {
-            if (gradientPercentsField == null) {
-                gradientPercentsField = getField("gradientPercents"); //$NON-NLS-1$
-            }
-            return (int[]) getFieldValue(gradientPercentsField);
+            return GRADIENT_PERCENTS == null ? null : (int[]) GRADIENT_PERCENTS.get(instance);
         }
     }
 
-    private static class ReflectionSupport<T> {
-        private T instance;
-
-        public ReflectionSupport(final T instance) {
-            this.instance = instance;
-        }
-
-        protected Object getFieldValue(final Field field) {
-            Object value = null;
-            if (field != null) {
-                boolean accessible = field.isAccessible();
-                try {
-                    field.setAccessible(true);
-                    value = field.get(instance);
-                } catch (Exception exc) {
-                    // do nothing
-                } finally {
-                    field.setAccessible(accessible);
-                }
-            }
-            return value;
-        }
-
-        protected Field getField(final String name) {
-            Class<?> cls = instance.getClass();
-            while (!cls.equals(Object.class)) {
-                try {
-                    return cls.getDeclaredField(name);
-                } catch (Exception exc) {
-                    cls = cls.getSuperclass();
-                }
-            }
-            return null;
+    /**
+     * Resolves handles for package-private members of the SWT classes once. A handle is <code>null</code> if the
+     * member does not exist in the SWT version at hand, the wrappers then fall back to the defaults.
+     */
+    private static final class SWTInternals {
+        private SWTInternals() {
         }
 
-        protected Object executeMethod(final Method method, final Object... params) {
-            Object value = null;
-            if (method != null) {
-                boolean accessible = method.isAccessible();
-                try {
-                    method.setAccessible(true);
-                    value = method.invoke(instance, params);
-                } catch (Exception exc) {
-                    // do nothing
-                } finally {
-                    method.setAccessible(accessible);
-                }
+        static VarHandle findField(final Class<?> cls, final String name, final Class<?> type) {
+            try {
+                return MethodHandles.privateLookupIn(cls, MethodHandles.lookup()).findVarHandle(cls, name, type);
+            } catch (ReflectiveOperationException | RuntimeException ex) {
+                NodeLogger.getLogger(KNIMECTabFolderRenderer.class)
+                    .debug("Field " + cls.getSimpleName() + "." + name + " is not available: " + ex.getMessage());
+                return null;
             }
-            return value;
         }
 
-        protected Method getMethod(final String name, final Class<?>... params) {
-            Class<?> cls = instance.getClass();
-            while (!cls.equals(Object.class)) {
-                try {
-                    return cls.getDeclaredMethod(name, params);
-                } catch (Exception exc) {
-                    cls = cls.getSuperclass();
-                }
+        static MethodHandle findMethod(final Class<?> cls, final String name, final MethodType type) {
+            try {
+                return MethodHandles.privateLookupIn(cls, MethodHandles.lookup()).findVirtual(cls, name, type);
+            } catch (ReflectiveOperationException | RuntimeException ex) {
+                NodeLogger.getLogger(KNIMECTabFolderRenderer.class)
+                    .debug("Method " + cls.getSimpleName() + "." + name + " is not available: " + ex.getMessage());
+                return null;
             }
-            return null;
         }
     }
 
@@ -0,0 +1,196 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.product.renderer;
+
+import org.eclipse.swt.graphics.ImageData;
+import org.eclipse.swt.graphics.PaletteData;
+import org.eclipse.swt.graphics.RGB;
+
+/**
+ * Gaussian blur for the drop shadow of the tab folders. Pixels are read and written a scanline at a time and the
+ * separable convolution uses 16-bit fixed-point weights, so no per-pixel palette lookups or floating point operations
+ * are needed.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class ShadowBlur {
+
+    private static final int PRECISION = 16;
+
+    private static final int ONE = 1 << PRECISION;
+
+    private static final int HALF = ONE >> 1;
+
+    private static final int WHITE = 0xFFFFFF;
+
+    private ShadowBlur() {
+        // utility class
+    }
+
+    /**
+     * Blurs the given image. Pure white pixels are treated as transparent. The result is a 24-bit image with the
+     * blurred alpha channel, fully transparent where the blurred pixel is opaque white.
+     *
+     * @param src the image to blur
+     * @param radius the radius of the kernel
+     * @param sigma the standard deviation of the Gaussian
+     * @return the blurred image
+     */
+    static ImageData blur(final ImageData src, final int radius, final int sigma) {
+        final int[] kernel = createKernel(radius, sigma);
+        final int width = src.width;
+        final int height = src.height;
+
+        final int[] inPixels = new int[width * height];
+        final int[] outPixels = new int[width * height];
+        final int[] row = new int[width];
+        final byte[] alphas = new byte[width];
+        final int[] lookup = src.palette.isDirect ? null : createLookup(src.palette);
+        for (int y = 0, offset = 0; y < height; y++) {
+            src.getPixels(0, y, width, row, 0);
+            src.getAlphas(0, y, width, alphas, 0);
+            for (int x = 0; x < width; x++, offset++) {
+                final int rgb = lookup == null ? toRGB(src.palette, row[x]) : lookup[row[x]];
+                inPixels[offset] = rgb == WHITE ? rgb : (((alphas[x] & 0xFF) << 24) | rgb);
+            }
+        }
+
+        convolve(kernel, inPixels, outPixels, width, height);
+        convolve(kernel, outPixels, inPixels, height, width);
+
+        final ImageData dst = new ImageData(width, height, 24, new PaletteData(0xFF0000, 0xFF00, 0xFF));
+        for (int y = 0, offset = 0; y < height; y++) {
+            dst.setPixels(0, y, width, inPixels, offset);
+            for (int x = 0; x < width; x++, offset++) {
+                final int pixel = inPixels[offset];
+                alphas[x] = pixel == -1 ? 0 : (byte)(pixel >>> 24);
+            }
+            dst.setAlphas(0, y, width, alphas, 0);
+        }
+        return dst;
+    }
+
+    private static int toRGB(final PaletteData palette, final int pixel) {
+        return (channel(pixel & palette.redMask, palette.redShift) << 16)
+            | (channel(pixel & palette.greenMask, palette.greenShift) << 8)
+            | channel(pixel & palette.blueMask, palette.blueShift);
+    }
+
+    private static int channel(final int value, final int shift) {
+        return shift < 0 ? value >>> -shift : value << shift;
+    }
+
+    private static int[] createLookup(final PaletteData palette) {
+        final int[] lookup = new int[palette.colors.length];
+        for (int i = 0; i < lookup.length; i++) {
+            final RGB rgb = palette.colors[i];
+            lookup[i] = (rgb.red << 16) | (rgb.green << 8) | rgb.blue;
+        }
+        return lookup;
+    }
+
+    /**
+     * Convolves the rows of the input with the kernel and writes them as columns of the output, so that calling it
+     * twice blurs in both directions. Two channels are processed at once in the 32-bit lanes of a long, the weights
+     * sum up to {@link #ONE}, so no lane can overflow into the next.
+     */
+    private static void convolve(final int[] kernel, final int[] inPixels, final int[] outPixels, final int width,
+        final int height) {
+        final int kernelMid = kernel.length / 2;
+        // the row padded with its edge pixels, split into alpha/green and red/blue lanes
+        final long[] ag = new long[width + 2 * kernelMid];
+        final long[] rb = new long[width + 2 * kernelMid];
+        final long half = ((long)HALF << 32) | HALF;
+        for (int y = 0; y < height; y++) {
+            final int currentLine = y * width;
+            for (int i = 0; i < ag.length; i++) {
+                final int pixel = inPixels[currentLine + Math.min(width - 1, Math.max(0, i - kernelMid))];
+                ag[i] = ((long)(pixel >>> 24) << 32) | ((pixel >> 8) & 0xFF);
+                rb[i] = ((long)((pixel >> 16) & 0xFF) << 32) | (pixel & 0xFF);
+            }
+            int index = y;
+            for (int x = 0; x < width; x++) {
+                long sumAG = half;
+                long sumRB = half;
+                for (int k = 0; k < kernel.length; k++) {
+                    final long weight = kernel[k];
+                    sumAG += weight * ag[x + k];
+                    sumRB += weight * rb[x + k];
+                }
+                outPixels[index] = ((int)(sumAG >>> (32 + PRECISION)) << 24)
+                    | (((int)(sumRB >>> (32 + PRECISION)) & 0xFF) << 16)
+                    | (((int)(sumAG >>> PRECISION) & 0xFF) << 8) | ((int)(sumRB >>> PRECISION) & 0xFF);
+                index += height;
+            }
+        }
+    }
+
+    /**
+     * @return the normalized Gaussian kernel as fixed-point weights summing up to exactly {@link #ONE}
+     */
+    static int[] createKernel(final int radius, final int sigma) {
+        // guideline: 3*sigma should be the radius
+        final int size = radius * 2 + 1;
+        final double[] weights = new double[size];
+        final double sigmaSquare = 2.0 * sigma * sigma;
+        double total = 0;
+        for (int i = -radius; i <= radius; i++) {
+            weights[i + radius] = Math.exp(-(i * i) / sigmaSquare);
+            total += weights[i + radius];
+        }
+        final int[] kernel = new int[size];
+        int sum = 0;
+        for (int i = 0; i < size; i++) {
+            kernel[i] = (int)Math.round(weights[i] / total * ONE);
+            sum += kernel[i];
+        }
+        kernel[radius] += ONE - sum;
+        return kernel;
+    }
+}
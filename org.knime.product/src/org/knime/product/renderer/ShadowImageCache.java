@@ -0,0 +1,106 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.product.renderer;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import org.eclipse.swt.graphics.Image;
+import org.eclipse.swt.widgets.Display;
+
+/**
+ * Shadow images shared by all tab folder renderers of a display, so that every distinct shadow is only blurred once.
+ * The images are disposed together with their display and must not be disposed by the renderers.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class ShadowImageCache {
+
+    private static final Map<Display, Map<Object, Image>> IMAGES = new HashMap<>();
+
+    private ShadowImageCache() {
+        // utility class
+    }
+
+    /**
+     * Returns the shadow image for the given key, creating it if necessary. Must be called in the display's thread.
+     *
+     * @param display the display the image belongs to
+     * @param key the values the image is computed from, must implement {@link Object#equals(Object)} and
+     *            {@link Object#hashCode()}
+     * @param factory creates the image if it is not cached yet
+     * @return the cached image
+     */
+    static Image get(final Display display, final Object key, final Supplier<Image> factory) {
+        final Map<Object, Image> images;
+        synchronized (IMAGES) {
+            images = IMAGES.computeIfAbsent(display, d -> {
+                d.disposeExec(() -> dispose(d));
+                return new HashMap<>();
+            });
+        }
+        Image image = images.get(key);
+        if (image == null || image.isDisposed()) {
+            image = factory.get();
+            images.put(key, image);
+        }
+        return image;
+    }
+
+    private static void dispose(final Display display) {
+        final Map<Object, Image> images;
+        synchronized (IMAGES) {
+            images = IMAGES.remove(display);
+        }
+        if (images != null) {
+            images.values().forEach(Image::dispose);
+        }
+    }
+}
@@ -0,0 +1,87 @@
+#!/bin/bash
+#
+# Measures the effect of the class-data-sharing archive created by the
+# "Class-Data-Sharing Archive" warmstart action on the startup time of a
+# materialized KNIME installation.
+#
+# The script
+#   1. removes a previously registered archive from the launcher ini,
+#   2. starts the given application N times without archive,
+#   3. runs the warmstart application with -XX:+RecordDynamicDumpInfo, which
+#      creates the archive and registers it in the launcher ini,
+#   4. starts the given application N times with the archive,
+# and prints the wall-clock times of both series (min / median / max in ms).
+#
+# Usage: measure-cds-startup.sh <installation dir> [runs] [application id]
+#
+# The application defaults to the warmstart application, whose JSON reports
+# (see -reportFile) are kept in the output folder for a per-action comparison.
+
+set -e
+
+INSTALL_DIR=$(cd "${1:?Usage: $0 <installation dir> [runs] [application id]}" && pwd)
+RUNS=${2:-5}
+APPLICATION=${3:-org.knime.product.KNIME_WARMSTART_APPLICATION}
+WARMSTART_APPLICATION=org.knime.product.KNIME_WARMSTART_APPLICATION
+LAUNCHER="$INSTALL_DIR/knime"
+INI="$INSTALL_DIR/knime.ini"
+OUT_DIR=$(mktemp -d -t knime-cds-XXXXXX)
+WORKSPACE="$OUT_DIR/workspace"
+
+if [ ! -x "$LAUNCHER" ] || [ ! -f "$INI" ]; then
+    echo "No KNIME launcher found in $INSTALL_DIR" >&2
+    exit 1
+fi
+
+cp "$INI" "$OUT_DIR/knime.ini.orig"
+
+# runs the application once and prints the elapsed wall-clock time in ms
+run_once() {
+    local report="$1"
+    shift
+    local start end
+    start=$(date +%s%N)
+    "$LAUNCHER" -nosplash -data "$WORKSPACE" -application "$APPLICATION" \
+        ${report:+-reportFile "$report"} "$@" > /dev/null 2>&1 || true
+    end=$(date +%s%N)
+    echo $(( (end - start) / 1000000 ))
+}
+
+# runs a series and prints "min median max"
+run_series() {
+    local name="$1"
+    local times=()
+    local report
+    for i in $(seq 1 "$RUNS"); do
+        report=""
+        if [ "$APPLICATION" = "$WARMSTART_APPLICATION" ]; then
+            report="$OUT_DIR/$name-$i.json"
+        fi
+        times+=("$(run_once "$report")")
+    done
+    printf '%s\n' "${times[@]}" | sort -n | awk '{ t[NR] = $1 } END { printf "%d %d %d\n", t[1], t[int((NR + 1) / 2)], t[NR] }'
+}
+
+grep -v -- '^-XX:SharedArchiveFile=' "$OUT_DIR/knime.ini.orig" > "$INI"
+
+echo "Measuring $RUNS startups of $APPLICATION without archive..."
+read -r BEFORE_MIN BEFORE_MEDIAN BEFORE_MAX < <(run_series before)
+
+echo "Creating class-data-sharing archive..."
+"$LAUNCHER" -nosplash -data "$WORKSPACE" -application "$WARMSTART_APPLICATION" \
+    -reportFile "$OUT_DIR/archive-creation.json" --launcher.appendVmargs -vmargs -XX:+RecordDynamicDumpInfo > "$OUT_DIR/archive-creation.log" 2>&1 || true
+if ! grep -q -- '^-XX:SharedArchiveFile=' "$INI"; then
+    echo "No archive has been registered in $INI, see $OUT_DIR/archive-creation.log" >&2
+    cp "$OUT_DIR/knime.ini.orig" "$INI"
+    exit 1
+fi
+
+echo "Measuring $RUNS startups of $APPLICATION with archive..."
+read -r AFTER_MIN AFTER_MEDIAN AFTER_MAX < <(run_series after)
+
+echo
+printf '%-10s %10s %10s %10s\n' "" "min [ms]" "median [ms]" "max [ms]"
+printf '%-10s %10d %10d %10d\n' "before" "$BEFORE_MIN" "$BEFORE_MEDIAN" "$BEFORE_MAX"
+printf '%-10s %10d %10d %10d\n' "after" "$AFTER_MIN" "$AFTER_MEDIAN" "$AFTER_MAX"
+echo
+echo "Reports and logs: $OUT_DIR (original launcher ini: $OUT_DIR/knime.ini.orig)"